@@ -2,8 +2,10 @@ package com.sas.hr.employee_management_api;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.autoconfigure.r2dbc.R2dbcAutoConfiguration;
 
-@SpringBootApplication
+// R2DBC is only used for the reactive read endpoints; an auto-configured ConnectionFactory would replace the JDBC DataSource
+@SpringBootApplication(exclude = R2dbcAutoConfiguration.class)
 public class EmployeeManagementApiApplication {
 
 	public static void main(String[] args) {
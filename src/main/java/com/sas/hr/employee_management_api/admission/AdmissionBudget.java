@@ -0,0 +1,125 @@
+package com.sas.hr.employee_management_api.admission;
+
+import com.sas.hr.employee_management_api.exception.AdmissionRejectedException;
+import org.springframework.http.HttpStatus;
+
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Concurrency budget of one {@link EndpointClass}: at most {@code maxConcurrent} requests run at a time
+ * and at most {@code maxQueue} more wait, each for up to {@code maxWait}.
+ *
+ * A request that finds the queue full is rejected right away with 429; one that waited {@code maxWait}
+ * without getting a slot is rejected with 503. Both carry a {@code Retry-After} hint.
+ */
+public class AdmissionBudget {
+
+    private final EndpointClass endpointClass;
+    private final int maxConcurrent;
+    private final int maxQueue;
+    private final long maxWaitNanos;
+    private final Duration retryAfter;
+    private final Semaphore permits;
+    private final AtomicInteger queued = new AtomicInteger();
+    private final LongAdder admitted = new LongAdder();
+    private final LongAdder rejectedQueueFull = new LongAdder();
+    private final LongAdder rejectedTimeout = new LongAdder();
+
+    public AdmissionBudget(EndpointClass endpointClass, int maxConcurrent, int maxQueue, Duration maxWait, Duration retryAfter) {
+        this.endpointClass = endpointClass;
+        this.maxConcurrent = maxConcurrent;
+        this.maxQueue = maxQueue;
+        this.maxWaitNanos = maxWait.toNanos();
+        this.retryAfter = retryAfter;
+        this.permits = new Semaphore(maxConcurrent, true);
+    }
+
+    /**
+     * Takes a slot, waiting in the bounded queue if none is free.
+     *
+     * @throws AdmissionRejectedException if the queue is full or no slot was freed in time.
+     */
+    public void acquire() {
+        try {
+            // Unlike tryAcquire(), the timed variant honours the fair ordering, so a new request never takes
+            // a freed slot ahead of the requests already waiting for one
+            if (permits.tryAcquire(0, TimeUnit.NANOSECONDS)) {
+                admitted.increment();
+                return;
+            }
+        } catch (InterruptedException ex) {
+            throw interrupted();
+        }
+        if (queued.incrementAndGet() > maxQueue) {
+            queued.decrementAndGet();
+            rejectedQueueFull.increment();
+            throw reject(HttpStatus.TOO_MANY_REQUESTS, "queue is full");
+        }
+        try {
+            if (!permits.tryAcquire(maxWaitNanos, TimeUnit.NANOSECONDS)) {
+                rejectedTimeout.increment();
+                throw reject(HttpStatus.SERVICE_UNAVAILABLE, "no slot became free in time");
+            }
+            admitted.increment();
+        } catch (InterruptedException ex) {
+            throw interrupted();
+        } finally {
+            queued.decrementAndGet();
+        }
+    }
+
+    public void release() {
+        permits.release();
+    }
+
+    private AdmissionRejectedException interrupted() {
+        Thread.currentThread().interrupt();
+        rejectedTimeout.increment();
+        return reject(HttpStatus.SERVICE_UNAVAILABLE, "interrupted while waiting");
+    }
+
+    private AdmissionRejectedException reject(HttpStatus status, String reason) {
+        return new AdmissionRejectedException(status, retryAfter,
+                "Too many concurrent " + endpointClass.getPropertyName() + " requests (" + maxConcurrent + " running), " + reason);
+    }
+
+    public EndpointClass getEndpointClass() {
+        return endpointClass;
+    }
+
+    public int getMaxConcurrent() {
+        return maxConcurrent;
+    }
+
+    public int getMaxQueue() {
+        return maxQueue;
+    }
+
+    public int getInFlight() {
+        return maxConcurrent - permits.availablePermits();
+    }
+
+    public int getQueued() {
+        return queued.get();
+    }
+
+    public long getAdmitted() {
+        return admitted.sum();
+    }
+
+    public long getRejectedQueueFull() {
+        return rejectedQueueFull.sum();
+    }
+
+    public long getRejectedTimeout() {
+        return rejectedTimeout.sum();
+    }
+
+    public double getUtilization() {
+        return (double) getInFlight() / maxConcurrent;
+    }
+}
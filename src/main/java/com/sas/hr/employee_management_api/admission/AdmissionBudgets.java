@@ -0,0 +1,45 @@
+package com.sas.hr.employee_management_api.admission;
+
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * The {@link AdmissionBudget} of every {@link EndpointClass}, configured through
+ * {@code employee.admission.<class>.max-concurrent}, {@code .max-queue} and {@code .max-wait}.
+ */
+@Component
+public class AdmissionBudgets {
+
+    private static final Map<EndpointClass, int[]> DEFAULT_LIMITS = Map.of(
+            EndpointClass.IMPORT, new int[]{2, 2, 1000},
+            EndpointClass.LISTING, new int[]{20, 100, 500},
+            EndpointClass.POINT, new int[]{50, 200, 200});
+
+    private final Map<EndpointClass, AdmissionBudget> budgets = new EnumMap<>(EndpointClass.class);
+
+    public AdmissionBudgets(Environment environment) {
+        Duration retryAfter = environment.getProperty("employee.admission.retry-after", Duration.class, Duration.ofSeconds(1));
+        for (EndpointClass endpointClass : EndpointClass.values()) {
+            String prefix = "employee.admission." + endpointClass.getPropertyName() + ".";
+            int[] defaults = DEFAULT_LIMITS.get(endpointClass);
+            budgets.put(endpointClass, new AdmissionBudget(endpointClass,
+                    environment.getProperty(prefix + "max-concurrent", Integer.class, defaults[0]),
+                    environment.getProperty(prefix + "max-queue", Integer.class, defaults[1]),
+                    environment.getProperty(prefix + "max-wait", Duration.class, Duration.ofMillis(defaults[2])),
+                    retryAfter));
+        }
+    }
+
+    public AdmissionBudget get(EndpointClass endpointClass) {
+        return budgets.get(endpointClass);
+    }
+
+    public Collection<AdmissionBudget> all() {
+        return budgets.values();
+    }
+}
@@ -0,0 +1,16 @@
+package com.sas.hr.employee_management_api.admission;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Assigns a controller method to the admission budget of an {@link EndpointClass}.
+ * Methods without it are not subject to admission control.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface AdmissionClass {
+    EndpointClass value();
+}
@@ -0,0 +1,51 @@
+package com.sas.hr.employee_management_api.admission;
+
+import jakarta.servlet.DispatcherType;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+
+/**
+ * Admits requests to methods annotated with {@link AdmissionClass} against the budget of their class.
+ *
+ * The slot is held until the request completes. For asynchronous responses (streamed exports, reactive
+ * endpoints) that is after the async dispatch, so a stream keeps its slot until it has been written.
+ */
+public class AdmissionControlInterceptor implements AsyncHandlerInterceptor {
+
+    private static final String BUDGET_ATTRIBUTE = AdmissionControlInterceptor.class.getName() + ".budget";
+
+    private final AdmissionBudgets budgets;
+
+    public AdmissionControlInterceptor(AdmissionBudgets budgets) {
+        this.budgets = budgets;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (request.getDispatcherType() == DispatcherType.ASYNC || !(handler instanceof HandlerMethod handlerMethod)) {
+            return true;
+        }
+        AdmissionClass admissionClass = handlerMethod.getMethodAnnotation(AdmissionClass.class);
+        if (admissionClass == null) {
+            return true;
+        }
+        AdmissionBudget budget = budgets.get(admissionClass.value());
+        budget.acquire();
+        request.setAttribute(BUDGET_ATTRIBUTE, budget);
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        if (request.isAsyncStarted()) {
+            return;
+        }
+        Object budget = request.getAttribute(BUDGET_ATTRIBUTE);
+        if (budget != null) {
+            request.removeAttribute(BUDGET_ATTRIBUTE);
+            ((AdmissionBudget) budget).release();
+        }
+    }
+}
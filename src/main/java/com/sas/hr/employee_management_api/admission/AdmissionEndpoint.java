@@ -0,0 +1,37 @@
+package com.sas.hr.employee_management_api.admission;
+
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Actuator endpoint ({@code /actuator/admission}) reporting the utilization of every admission budget.
+ */
+@Component
+@Endpoint(id = "admission")
+public class AdmissionEndpoint {
+
+    private final AdmissionBudgets budgets;
+
+    public AdmissionEndpoint(AdmissionBudgets budgets) {
+        this.budgets = budgets;
+    }
+
+    @ReadOperation
+    public Map<String, BudgetUtilization> budgets() {
+        Map<String, BudgetUtilization> result = new LinkedHashMap<>();
+        for (AdmissionBudget budget : budgets.all()) {
+            result.put(budget.getEndpointClass().getPropertyName(), new BudgetUtilization(budget.getMaxConcurrent(), budget.getInFlight(),
+                    budget.getUtilization(), budget.getMaxQueue(), budget.getQueued(), budget.getAdmitted(),
+                    budget.getRejectedQueueFull(), budget.getRejectedTimeout()));
+        }
+        return result;
+    }
+
+    public record BudgetUtilization(int maxConcurrent, int inFlight, double utilization, int maxQueue, int queued,
+                                    long admitted, long rejectedQueueFull, long rejectedTimeout) {
+    }
+}
@@ -0,0 +1,25 @@
+package com.sas.hr.employee_management_api.admission;
+
+/**
+ * The classes of endpoints that get separate admission budgets, so that long-running work of one class
+ * cannot starve the others.
+ */
+public enum EndpointClass {
+
+    /** CSV imports and bulk writes, which hold a connection and CPU for a long time. */
+    IMPORT("import"),
+    /** Listings, month filters and exports, which read many rows. */
+    LISTING("listing"),
+    /** Reads and writes of a single employee, which are short and latency sensitive. */
+    POINT("point");
+
+    private final String propertyName;
+
+    EndpointClass(String propertyName) {
+        this.propertyName = propertyName;
+    }
+
+    public String getPropertyName() {
+        return propertyName;
+    }
+}
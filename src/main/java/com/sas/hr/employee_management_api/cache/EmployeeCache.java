@@ -0,0 +1,85 @@
+package com.sas.hr.employee_management_api.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.sas.hr.employee_management_api.dto.EmployeeDetailsDTO;
+import com.sas.hr.employee_management_api.event.EmployeeChangedEvent;
+import com.sas.hr.employee_management_api.event.EmployeesDeletedEvent;
+import com.sas.hr.employee_management_api.event.EmployeesImportedEvent;
+import com.sas.hr.employee_management_api.mapper.EmployeeMapper;
+import com.sas.hr.employee_management_api.model.Employee;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.function.Function;
+
+/**
+ * Bounded read-through cache of {@link EmployeeDetailsDTO} by employee id.
+ *
+ * Backed by Caffeine (W-TinyLFU admission, size- and TTL-based eviction). Entries are refreshed or
+ * invalidated from the {@link EmployeeChangedEvent}, {@link EmployeesImportedEvent} and
+ * {@link EmployeesDeletedEvent} published by the write paths once their transaction has committed, and hit/miss/eviction counters are exposed as {@code cache.*} meters tagged
+ * {@code cache=employees} on the actuator {@code metrics} endpoint.
+ */
+@Component
+public class EmployeeCache {
+
+    static final String CACHE_NAME = "employees";
+
+    private final Cache<Long, EmployeeDetailsDTO> cache;
+
+    public EmployeeCache(@Value("${employee.cache.maximum-size:10000}") long maximumSize,
+                         @Value("${employee.cache.expire-after-write:10m}") Duration expireAfterWrite,
+                         MeterRegistry meterRegistry) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(expireAfterWrite)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    /**
+     * Returns the cached employee, loading it with {@code loader} on a miss. Concurrent misses for the
+     * same id share one load. Exceptions thrown by the loader propagate and nothing is cached.
+     */
+    public EmployeeDetailsDTO get(Long id, Function<Long, EmployeeDetailsDTO> loader) {
+        return cache.get(id, loader);
+    }
+
+    public EmployeeDetailsDTO getIfPresent(Long id) {
+        return cache.getIfPresent(id);
+    }
+
+    public void invalidateAll() {
+        cache.invalidateAll();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onEmployeeChanged(EmployeeChangedEvent event) {
+        if (event.after() != null) {
+            Employee after = event.after();
+            cache.put(after.getId(), EmployeeMapper.toEmployeeDTO(after));
+        } else {
+            cache.invalidate(event.before().getId());
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onEmployeesImported(EmployeesImportedEvent event) {
+        for (Employee employee : event.employees()) {
+            if (employee.getId() != null) {
+                cache.invalidate(employee.getId());
+            }
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onEmployeesDeleted(EmployeesDeletedEvent event) {
+        event.employees().forEach(employee -> cache.invalidate(employee.getId()));
+    }
+}
@@ -0,0 +1,84 @@
+package com.sas.hr.employee_management_api.cache;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Supplier;
+
+/**
+ * Single-flight execution of identical concurrent reads.
+ *
+ * The first caller for a key runs the query; callers arriving with an equal key while it is in flight
+ * wait for and share its result (or its exception) instead of running their own. The key is removed as
+ * soon as the query completes, so nothing is retained and later callers always run a fresh query.
+ * Keys must implement {@code equals}/{@code hashCode} over the normalized request, e.g. a record.
+ * The number of shared results is exposed as the {@code employee.requests.coalesced} counter.
+ */
+@Component
+public class RequestCoalescer {
+
+    private final ConcurrentMap<Object, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+    private final boolean enabled;
+    private final Counter coalesced;
+
+    public RequestCoalescer(@Value("${employee.coalescing.enabled:true}") boolean enabled, MeterRegistry meterRegistry) {
+        this.enabled = enabled;
+        this.coalesced = Counter.builder("employee.requests.coalesced")
+                .description("Reads that shared the result of an identical in-flight read")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Runs {@code loader}, or joins the identical in-flight call for {@code key} if there is one.
+     *
+     * @param key    The normalized request.
+     * @param loader The query to run; it must return the same type for equal keys.
+     * @return The result of this call's or the shared call's {@code loader}.
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T execute(Object key, Supplier<T> loader) {
+        if (!enabled) {
+            return loader.get();
+        }
+        CompletableFuture<Object> call = new CompletableFuture<>();
+        CompletableFuture<Object> existing = inFlight.putIfAbsent(key, call);
+        if (existing != null) {
+            coalesced.increment();
+            return (T) join(existing);
+        }
+        try {
+            T result = loader.get();
+            call.complete(result);
+            return result;
+        } catch (RuntimeException | Error ex) {
+            call.completeExceptionally(ex);
+            throw ex;
+        } finally {
+            inFlight.remove(key, call);
+        }
+    }
+
+    int inFlightCount() {
+        return inFlight.size();
+    }
+
+    private static Object join(CompletableFuture<Object> call) {
+        try {
+            return call.join();
+        } catch (CompletionException ex) {
+            if (ex.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (ex.getCause() instanceof Error cause) {
+                throw cause;
+            }
+            throw ex;
+        }
+    }
+}
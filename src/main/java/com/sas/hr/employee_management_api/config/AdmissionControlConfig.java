@@ -0,0 +1,24 @@
+package com.sas.hr.employee_management_api.config;
+
+import com.sas.hr.employee_management_api.admission.AdmissionBudgets;
+import com.sas.hr.employee_management_api.admission.AdmissionControlInterceptor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+@Configuration
+@ConditionalOnProperty(name = "employee.admission.enabled", havingValue = "true", matchIfMissing = true)
+public class AdmissionControlConfig implements WebMvcConfigurer {
+
+    private final AdmissionBudgets admissionBudgets;
+
+    public AdmissionControlConfig(AdmissionBudgets admissionBudgets) {
+        this.admissionBudgets = admissionBudgets;
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(new AdmissionControlInterceptor(admissionBudgets));
+    }
+}
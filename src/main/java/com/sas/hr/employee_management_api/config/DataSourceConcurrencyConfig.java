@@ -0,0 +1,42 @@
+package com.sas.hr.employee_management_api.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.core.env.Environment;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+
+@Slf4j
+@Configuration
+@ConditionalOnProperty(name = "employee.db.concurrency-limit.enabled", havingValue = "true")
+public class DataSourceConcurrencyConfig {
+
+    // Static so the post processor does not pull this configuration (and the DataSource) in early
+    @Bean
+    public static BeanPostProcessor concurrencyLimitedDataSourcePostProcessor(Environment environment) {
+        return new OrderedBeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (!(bean instanceof DataSource dataSource) || bean instanceof ConcurrencyLimitedDataSource || !"dataSource".equals(beanName)) {
+                    return bean;
+                }
+                int poolSize = environment.getProperty("spring.datasource.hikari.maximum-pool-size", Integer.class, 10);
+                int maxConcurrent = environment.getProperty("employee.db.concurrency-limit.max-concurrent", Integer.class, poolSize);
+                Duration acquireTimeout = environment.getProperty("employee.db.concurrency-limit.acquire-timeout", Duration.class, Duration.ofSeconds(2));
+                log.info("Limiting concurrent database connections to {} (acquire timeout {})", maxConcurrent, acquireTimeout);
+                return new ConcurrencyLimitedDataSource(dataSource, maxConcurrent, acquireTimeout);
+            }
+
+            @Override
+            public int getOrder() {
+                // Directly around the pool, inside the read/write routing
+                return Ordered.HIGHEST_PRECEDENCE;
+            }
+        };
+    }
+}
@@ -0,0 +1,28 @@
+package com.sas.hr.employee_management_api.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.composite.CompositeMeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * The registry the hot-path meters are registered in, i.e. the meters recorded per row, page or file.
+ *
+ * With {@code employee.metrics.hot-path.enabled=false} it is an empty {@link CompositeMeterRegistry} instead of the
+ * application registry. Its meters are no-ops that are never exported, so the callers keep their code path and only
+ * the recording is switched off. Every caller registers its meters once, from its own constructor, and nothing is
+ * shared between application contexts.
+ */
+@Component
+public class HotPathMetrics {
+
+    private final MeterRegistry registry;
+
+    public HotPathMetrics(MeterRegistry meterRegistry, @Value("${employee.metrics.hot-path.enabled:true}") boolean enabled) {
+        this.registry = enabled ? meterRegistry : new CompositeMeterRegistry();
+    }
+
+    public MeterRegistry registry() {
+        return registry;
+    }
+}
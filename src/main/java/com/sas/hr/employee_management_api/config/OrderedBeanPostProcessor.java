@@ -0,0 +1,11 @@
+package com.sas.hr.employee_management_api.config;
+
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.core.Ordered;
+
+/**
+ * A {@link BeanPostProcessor} whose position among the other ordered post processors is fixed, used by the
+ * configurations that wrap the application DataSource so that the wrappers always nest the same way.
+ */
+interface OrderedBeanPostProcessor extends BeanPostProcessor, Ordered {
+}
@@ -0,0 +1,60 @@
+package com.sas.hr.employee_management_api.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.core.env.Environment;
+
+import javax.sql.DataSource;
+
+/**
+ * Wraps the application DataSource in a {@link ReadWriteRoutingDataSource}.
+ *
+ * With {@code employee.read-pool.enabled=true} read-only transactions get their connections from a separate
+ * Hikari pool with its own sizing ({@code employee.read-pool.*}), so queries no longer queue behind writes for
+ * connections. The read pool points at {@code employee.read-pool.url}, a replica in a real deployment; it defaults
+ * to the primary database, which with the in-memory H2 database is the only copy that is guaranteed to be in sync.
+ */
+@Slf4j
+@Configuration
+public class ReadWriteDataSourceConfig {
+
+    // Static so the post processor does not pull this configuration (and the DataSource) in early
+    @Bean
+    public static BeanPostProcessor readWriteRoutingDataSourcePostProcessor(Environment environment) {
+        return new OrderedBeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (!(bean instanceof DataSource dataSource) || bean instanceof ReadWriteRoutingDataSource || !"dataSource".equals(beanName)) {
+                    return bean;
+                }
+                DataSource readPool = environment.getProperty("employee.read-pool.enabled", Boolean.class, false)
+                        ? createReadPool(environment) : null;
+                return new ReadWriteRoutingDataSource(dataSource, readPool);
+            }
+
+            @Override
+            public int getOrder() {
+                // Outermost, after the concurrency limit, which only guards the write pool
+                return Ordered.LOWEST_PRECEDENCE;
+            }
+        };
+    }
+
+    private static HikariDataSource createReadPool(Environment environment) {
+        HikariDataSource readPool = new HikariDataSource();
+        readPool.setPoolName("employee-read-pool");
+        readPool.setJdbcUrl(environment.getProperty("employee.read-pool.url", environment.getRequiredProperty("spring.datasource.url")));
+        readPool.setUsername(environment.getProperty("employee.read-pool.username", environment.getProperty("spring.datasource.username")));
+        readPool.setPassword(environment.getProperty("employee.read-pool.password", environment.getProperty("spring.datasource.password")));
+        readPool.setMaximumPoolSize(environment.getProperty("employee.read-pool.maximum-pool-size", Integer.class, 20));
+        readPool.setMinimumIdle(environment.getProperty("employee.read-pool.minimum-idle", Integer.class, 2));
+        readPool.setConnectionTimeout(environment.getProperty("employee.read-pool.connection-timeout", Long.class, 30000L));
+        readPool.setReadOnly(true);
+        log.info("Routing read-only transactions to {} (max {} connections)", readPool.getJdbcUrl(), readPool.getMaximumPoolSize());
+        return readPool;
+    }
+}
@@ -0,0 +1,58 @@
+package com.sas.hr.employee_management_api.config;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+
+/**
+ * Hands out lazy connections that only reach a pool on the first statement, and picks the pool by the
+ * read-only flag of the transaction at that point.
+ *
+ * Transaction managers mark the connection read-only (and switch off auto-commit) right after obtaining it,
+ * before anything is executed, so {@code @Transactional(readOnly = true)} work runs on the read pool and
+ * everything else on the write pool. Transactions that never execute a statement, e.g. reads answered from
+ * a cache, never check out a physical connection at all.
+ *
+ * Closing it closes both pools, also when they are wrapped in a {@link DelegatingDataSource}.
+ */
+public class ReadWriteRoutingDataSource extends LazyConnectionDataSourceProxy implements AutoCloseable {
+
+    private final DataSource writePool;
+    private final DataSource readPool;
+
+    public ReadWriteRoutingDataSource(DataSource writePool, DataSource readPool) {
+        super(writePool);
+        this.writePool = writePool;
+        this.readPool = readPool;
+        if (readPool != null) {
+            setReadOnlyDataSource(readPool);
+        }
+    }
+
+    public DataSource getWritePool() {
+        return writePool;
+    }
+
+    public DataSource getReadPool() {
+        return readPool;
+    }
+
+    @Override
+    public void close() throws Exception {
+        try {
+            closePool(readPool);
+        } finally {
+            closePool(writePool);
+        }
+    }
+
+    private static void closePool(DataSource dataSource) throws Exception {
+        while (dataSource instanceof DelegatingDataSource delegating) {
+            dataSource = delegating.getTargetDataSource();
+        }
+        if (dataSource instanceof AutoCloseable closeable) {
+            closeable.close();
+        }
+    }
+}
@@ -0,0 +1,13 @@
+package com.sas.hr.employee_management_api.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Enables the {@code @Scheduled} background jobs, e.g. the change log relay and compaction. They run on
+ * Spring Boot's single-threaded scheduler, so each job never overlaps with itself.
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
@@ -0,0 +1,51 @@
+package com.sas.hr.employee_management_api.controller;
+
+import com.sas.hr.employee_management_api.admission.AdmissionClass;
+import com.sas.hr.employee_management_api.admission.EndpointClass;
+import com.sas.hr.employee_management_api.dto.EmployeeChangeFeedDTO;
+import com.sas.hr.employee_management_api.service.EmployeeChangeFeedService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * Change feed for downstream consumers: instead of re-polling {@code GET /employees}, a consumer keeps the
+ * last sequence number it processed and asks for the changes after it.
+ */
+@RestController
+@RequestMapping("/employees/changes")
+@Validated
+public class EmployeeChangeFeedController {
+
+    private final EmployeeChangeFeedService changeFeedService;
+
+    public EmployeeChangeFeedController(EmployeeChangeFeedService changeFeedService) {
+        this.changeFeedService = changeFeedService;
+    }
+
+    @Operation(summary = "Read the employee change feed",
+            description = "Returns the creates, updates and deletes after the given sequence number, oldest first. Pass the returned next value as after to continue")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Changes retrieved successfully",
+                    content = @Content(mediaType = "application/json", schema = @Schema(implementation = EmployeeChangeFeedDTO.class))),
+            @ApiResponse(responseCode = "400", description = "Invalid after or limit parameter",
+                    content = @Content)
+    })
+    @AdmissionClass(EndpointClass.LISTING)
+    @GetMapping
+    public EmployeeChangeFeedDTO getChanges(@Parameter(description = "The last sequence number already processed, 0 to read from the beginning")
+                                            @RequestParam(value = "after", required = false, defaultValue = "0") @Min(0) long after,
+                                            @RequestParam(value = "limit", required = false, defaultValue = "100") @Min(1) @Max(1000) int limit) {
+        return changeFeedService.getChanges(after, limit);
+    }
+}
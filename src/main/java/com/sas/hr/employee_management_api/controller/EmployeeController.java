@@ -1,9 +1,26 @@
 package com.sas.hr.employee_management_api.controller;
 
 
+import com.fasterxml.jackson.databind.JsonNode;
+import com.sas.hr.employee_management_api.admission.AdmissionClass;
+import com.sas.hr.employee_management_api.admission.EndpointClass;
+import com.sas.hr.employee_management_api.dto.EmployeeBatchRequestDTO;
+import com.sas.hr.employee_management_api.dto.EmployeeBatchResultDTO;
+import com.sas.hr.employee_management_api.dto.EmployeeDeltaImportResultDTO;
 import com.sas.hr.employee_management_api.dto.EmployeeDetailsDTO;
+import com.sas.hr.employee_management_api.dto.EmployeeImportResultDTO;
 import com.sas.hr.employee_management_api.dto.EmployeeInputDTO;
+import com.sas.hr.employee_management_api.dto.EmployeeStatisticsDTO;
+import com.sas.hr.employee_management_api.dto.ExportFormat;
+import com.sas.hr.employee_management_api.mapper.EmployeeMapper;
+import com.sas.hr.employee_management_api.model.EmployeeField;
+import com.sas.hr.employee_management_api.service.EmployeeBatchService;
+import com.sas.hr.employee_management_api.service.EmployeeDeltaImportService;
+import com.sas.hr.employee_management_api.service.EmployeeExportService;
+import com.sas.hr.employee_management_api.service.EmployeeFileImportService;
 import com.sas.hr.employee_management_api.service.EmployeeService;
+import com.sas.hr.employee_management_api.service.EmployeeStatisticsService;
+import com.sas.hr.employee_management_api.util.ETagUtil;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -19,14 +36,18 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
-import org.springframework.data.domain.Sort;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.io.IOException;
+import java.util.List;
+import java.util.Set;
 
 @Slf4j
 @RestController
@@ -34,25 +55,44 @@ import java.io.IOException;
 @Validated
 public class EmployeeController {
 
+    static final String EMPLOYEES_CREATED_HEADER = "X-Employees-Created";
+    static final String EMPLOYEES_DELETED_HEADER = "X-Employees-Deleted";
+    static final String EMPLOYEE_IDS_HEADER = "X-Employee-Ids";
+    // Keeps the id header well below the 8 KB response header limit of common proxies
+    static final int MAX_EMPLOYEE_IDS_HEADER_LENGTH = 4096;
+
     private final EmployeeService employeeService;
+    private final EmployeeStatisticsService employeeStatisticsService;
+    private final EmployeeExportService employeeExportService;
+    private final EmployeeBatchService employeeBatchService;
+    private final EmployeeDeltaImportService employeeDeltaImportService;
+    private final EmployeeFileImportService employeeFileImportService;
 
-    public EmployeeController(EmployeeService employeeService) {
+    public EmployeeController(EmployeeService employeeService, EmployeeStatisticsService employeeStatisticsService,
+                              EmployeeExportService employeeExportService, EmployeeBatchService employeeBatchService,
+                              EmployeeDeltaImportService employeeDeltaImportService, EmployeeFileImportService employeeFileImportService) {
         this.employeeService = employeeService;
+        this.employeeStatisticsService = employeeStatisticsService;
+        this.employeeExportService = employeeExportService;
+        this.employeeBatchService = employeeBatchService;
+        this.employeeDeltaImportService = employeeDeltaImportService;
+        this.employeeFileImportService = employeeFileImportService;
     }
 
     @Operation(summary = "Upload CSV file from resources folder",
             description = "Processes and saves employee data from a CSV file located in the resources folder.")
     @ApiResponses(value = {
-            @ApiResponse(responseCode = "201", description = "CSV file uploaded and processed successfully.",
+            @ApiResponse(responseCode = "201", description = "CSV file uploaded and processed successfully. X-Employees-Created carries the number of created employees and X-Employee-Ids their ids, or the body when they are too many for the header.",
                     content = @Content(mediaType = "text/plain")),
             @ApiResponse(responseCode = "500", description = "Error uploading file.",
                     content = @Content)
     })
+    @AdmissionClass(EndpointClass.IMPORT)
     @PostMapping("/import-from-resources")
     public ResponseEntity<String> importCsvFromResources(){
         try {
-            employeeService.saveEmployeesFromResources();
-            return ResponseEntity.status(HttpStatus.CREATED).body("CSV file processed and data saved successfully.");
+            List<Long> ids = employeeService.saveEmployeesFromResources();
+            return createdResponse(ids, "CSV file processed and data saved successfully.");
         } catch (IOException e) {
             log.error("Error occured in file upload:: {}", e.getMessage());
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body("Error processing CSV file: " + e.getMessage());
@@ -62,49 +102,146 @@ public class EmployeeController {
     @Operation(summary = "Upload CSV file from file system",
             description = "Processes and saves employee data from a CSV file uploaded from the file system.")
     @ApiResponses(value = {
-            @ApiResponse(responseCode = "201", description = "CSV file processed and data saved successfully.",
+            @ApiResponse(responseCode = "201", description = "CSV file processed and data saved successfully. X-Employees-Created carries the number of created employees and X-Employee-Ids their ids, or the body when they are too many for the header.",
                     content = @Content(mediaType = "text/plain")),
             @ApiResponse(responseCode = "400", description = "File is empty.",
                     content = @Content),
             @ApiResponse(responseCode = "500", description = "Error processing CSV file.",
                     content = @Content)
     })
+    @AdmissionClass(EndpointClass.IMPORT)
     @PostMapping("/upload-from-file")
     public ResponseEntity<String> uploadCsvFromFileSystem(@RequestParam("file") MultipartFile file) {
         if (file.isEmpty()) {
             return ResponseEntity.status(HttpStatus.BAD_REQUEST).body("File is empty");
         }
         try {
-            employeeService.processUploadedCsv(file);
-            return ResponseEntity.status(HttpStatus.CREATED).body("CSV file processed and data saved successfully.");
+            List<Long> ids = employeeService.processUploadedCsv(file);
+            return createdResponse(ids, "CSV file processed and data saved successfully.");
         } catch (IOException e) {
             log.error("Error occured in csv file processing :: {}", e.getMessage());
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body("Error processing CSV file: " + e.getMessage());
         }
     }
 
-    @Operation(summary = "Get all employees", description = "Retrieves a paginated list of all employees, with optional filtering by month")
+    @Operation(summary = "Upload several CSV files or a zip archive",
+            description = "Imports several CSV files, or the CSV entries of zip archives, in parallel. Archives are streamed, not extracted to disk.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "201", description = "All files imported, with per-file row counts and timings. X-Employees-Created carries the number of created employees.",
+                    content = { @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = EmployeeImportResultDTO.class)) }),
+            @ApiResponse(responseCode = "400", description = "No file uploaded.",
+                    content = @Content),
+            @ApiResponse(responseCode = "500", description = "At least one file could not be imported; the per-file results show which.",
+                    content = { @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = EmployeeImportResultDTO.class)) })
+    })
+    @AdmissionClass(EndpointClass.IMPORT)
+    @PostMapping("/upload-from-files")
+    public ResponseEntity<EmployeeImportResultDTO> uploadCsvFiles(@RequestParam("files") List<MultipartFile> files) {
+        List<MultipartFile> nonEmpty = files.stream().filter(file -> !file.isEmpty()).toList();
+        if (nonEmpty.isEmpty()) {
+            return ResponseEntity.badRequest().build();
+        }
+        EmployeeImportResultDTO result = employeeFileImportService.importFiles(nonEmpty);
+        return ResponseEntity.status(result.failedFiles() == 0 ? HttpStatus.CREATED : HttpStatus.INTERNAL_SERVER_ERROR)
+                .header(EMPLOYEES_CREATED_HEADER, String.valueOf(result.rows()))
+                .body(result);
+    }
+
+    @Operation(summary = "Synchronize employees from a full roster CSV",
+            description = "Matches the rows of the uploaded CSV to the stored employees by their natural key and only writes new and changed employees, optionally deleting employees missing from the file.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Delta applied, with the number of inserted, updated, deleted and unchanged employees",
+                    content = { @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = EmployeeDeltaImportResultDTO.class)) }),
+            @ApiResponse(responseCode = "400", description = "File is empty.",
+                    content = @Content),
+            @ApiResponse(responseCode = "500", description = "Error processing CSV file.",
+                    content = @Content)
+    })
+    @AdmissionClass(EndpointClass.IMPORT)
+    @PostMapping("/sync-from-file")
+    public ResponseEntity<EmployeeDeltaImportResultDTO> syncCsvFromFileSystem(@RequestParam("file") MultipartFile file,
+                                                                              @Parameter(description = "Whether employees missing from the file are deleted")
+                                                                                  @RequestParam(value = "deleteMissing", required = false, defaultValue = "false") boolean deleteMissing) {
+        if (file.isEmpty()) {
+            return ResponseEntity.badRequest().build();
+        }
+        try {
+            return ResponseEntity.ok(employeeDeltaImportService.importDelta(file.getResource(), deleteMissing));
+        } catch (IOException e) {
+            log.error("Error occured in csv delta import :: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+        }
+    }
+
+    @Operation(summary = "Get all employees", description = "Retrieves a paginated list of all employees, with optional filtering by month. The response carries a weak ETag and honours If-None-Match")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Successfully retrieved the list of employees",
                     content = { @Content(mediaType = "application/json",
                             schema = @Schema(implementation = Page.class)) }),
-            @ApiResponse(responseCode = "400", description = "Invalid page, size, sortBy, or month parameter",
+            @ApiResponse(responseCode = "304", description = "The page has not changed since the ETag given in If-None-Match",
+                    content = @Content),
+            @ApiResponse(responseCode = "400", description = "Invalid page, size, sortBy, month or fields parameter",
                     content = @Content)
     })
+    @AdmissionClass(EndpointClass.LISTING)
     @GetMapping
     public ResponseEntity<Page<EmployeeDetailsDTO>> getAllEmployees(@RequestParam(value = "page", required = false, defaultValue = "0") @Min(0) int page,
                                                                     @RequestParam(value = "size", required = false, defaultValue = "10") @Min(1) @Max(100) int size,
-                                                                     @RequestParam(value = "sortBy", required = false, defaultValue = "id") String sortBy,
+                                                                    @Parameter(description = "Comma-separated sort keys, each optionally suffixed with :asc or :desc, e.g. lastName,birthDate:desc. Sortable fields: id, firstName, lastName, city, state, birthDate")
+                                                                        @RequestParam(value = "sortBy", required = false, defaultValue = "id") String sortBy,
                                                                     @Parameter(description = "Optional query to filter the employee list by month")
-                                                                        @RequestParam(value = "month", required = false) @Min(1) @Max(12) Integer month) {
-        Pageable pageable = PageRequest.of(page, size, Sort.by(sortBy));
+                                                                        @RequestParam(value = "month", required = false) @Min(1) @Max(12) Integer month,
+                                                                    @Parameter(description = "Optional comma-separated list of fields to return, e.g. id,firstName,lastName. The id is always returned")
+                                                                        @RequestParam(value = "fields", required = false) String fields) {
+        Pageable pageable = PageRequest.of(page, size, EmployeeField.parseSort(sortBy));
+        Set<EmployeeField> selectedFields = EmployeeField.parseFields(fields);
         Page<EmployeeDetailsDTO> employees;
         if (month != null) {
-            employees = employeeService.getAllEmployeesByMonth(month,pageable);
+            employees = employeeService.getAllEmployeesByMonth(month, pageable, selectedFields);
         } else {
-            employees = employeeService.getAllEmployees(pageable);
+            employees = employeeService.getAllEmployees(pageable, selectedFields);
         }
-        return ResponseEntity.ok(employees);
+        // A matching If-None-Match is answered with 304 before the page is serialized
+        return ResponseEntity.ok()
+                .eTag(ETagUtil.weakETag(employees, selectedFields))
+                .body(employees);
+    }
+
+    @Operation(summary = "Get employee statistics", description = "Retrieves the headcount in total, by state, by city and by birth month. The aggregates are maintained in memory and do not query the database")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Successfully retrieved the statistics",
+                    content = { @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = EmployeeStatisticsDTO.class)) })
+    })
+    @GetMapping("/statistics")
+    public ResponseEntity<EmployeeStatisticsDTO> getStatistics() {
+        return ResponseEntity.ok(employeeStatisticsService.getStatistics());
+    }
+
+    @Operation(summary = "Export employees", description = "Streams every employee, optionally filtered by birth month and state, in a single response as CSV (importable again through upload-from-file) or NDJSON")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Employees streamed successfully",
+                    content = { @Content(mediaType = "text/csv"), @Content(mediaType = "application/x-ndjson") }),
+            @ApiResponse(responseCode = "400", description = "Invalid format or month parameter",
+                    content = @Content)
+    })
+    @AdmissionClass(EndpointClass.LISTING)
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportEmployees(@Parameter(description = "Output format, csv or ndjson")
+                                                                     @RequestParam(value = "format", required = false, defaultValue = "csv") String format,
+                                                                 @Parameter(description = "Optional birth month to filter on")
+                                                                     @RequestParam(value = "month", required = false) @Min(1) @Max(12) Integer month,
+                                                                 @Parameter(description = "Optional state to filter on")
+                                                                     @RequestParam(value = "state", required = false) String state) {
+        ExportFormat exportFormat = ExportFormat.fromValue(format);
+        StreamingResponseBody body = out -> employeeExportService.exportEmployees(exportFormat, month, state, out);
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(exportFormat.getMediaType()))
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"employees." + exportFormat.getFileExtension() + "\"")
+                .body(body);
     }
 
     @Operation(summary = "Create a new employee", description = "Creates a new employee record based on the provided input data")
@@ -117,6 +254,7 @@ public class EmployeeController {
             @ApiResponse(responseCode = "500", description = "Internal server error",
                     content = @Content)
     })
+    @AdmissionClass(EndpointClass.POINT)
     @PostMapping
     public ResponseEntity<EmployeeDetailsDTO> createEmployee(    @Parameter(description = "Employee object to create", required = true)
                                                                      @RequestBody @Validated EmployeeInputDTO employeeInputDTO) {
@@ -124,41 +262,117 @@ public class EmployeeController {
         return ResponseEntity.status(HttpStatus.CREATED).body(employeeDetailsDTO);
     }
 
-    @Operation(summary = "Update an employee", description = "Updates an existing employee's details based on the provided ID and input data")
+    @Operation(summary = "Create, update and delete employees in bulk", description = "Validates the whole batch up front, then applies creates, updates and deletes as JDBC batches. Missing employees and version mismatches are reported per item")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Batch applied, see the per-item results",
+                    content = { @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = EmployeeBatchResultDTO.class)) }),
+            @ApiResponse(responseCode = "400", description = "Bad request - the batch is empty, too large or contains invalid items",
+                    content = @Content),
+            @ApiResponse(responseCode = "500", description = "Internal server error",
+                    content = @Content)
+    })
+    @AdmissionClass(EndpointClass.IMPORT)
+    @PostMapping("/batch")
+    public ResponseEntity<EmployeeBatchResultDTO> applyBatch(@Parameter(description = "Employees to create, update and delete", required = true)
+                                                                 @RequestBody @Valid EmployeeBatchRequestDTO batchRequestDTO) {
+        return ResponseEntity.ok(employeeBatchService.applyBatch(batchRequestDTO));
+    }
+
+    @Operation(summary = "Update an employee", description = "Updates an existing employee's details based on the provided ID and input data. When If-Match is given the update only applies if the employee's ETag still matches")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Employee successfully updated",
                     content = { @Content(mediaType = "application/json",
                             schema = @Schema(implementation = EmployeeDetailsDTO.class)) }),
             @ApiResponse(responseCode = "404", description = "Employee not found",
                     content = @Content),
+            @ApiResponse(responseCode = "412", description = "The employee has been modified since the ETag given in If-Match",
+                    content = @Content),
             @ApiResponse(responseCode = "400", description = "Invalid ID supplied or invalid input data",
                     content = @Content)
     })
+    @AdmissionClass(EndpointClass.POINT)
     @PutMapping("/{id}")
     public ResponseEntity<EmployeeDetailsDTO> updateEmployee(@Parameter(description = "The ID of the employee to fetch", required = true) @PathVariable @NotNull(message = "Employee ID must not be null")
                                                                  @Min(value = 1, message = "Employee ID must be greater than or equal to {value}")
-                                                                 @Max(value = 999999999999999L, message = "Employee ID must be less than or equal to {value}") Long id, @RequestBody @Valid EmployeeInputDTO employeeInputDTO) {
-        EmployeeDetailsDTO employeeDetailsDTO =  employeeService.updateEmployee(id, employeeInputDTO);
-        return employeeDetailsDTO != null ? ResponseEntity.ok(employeeDetailsDTO) : ResponseEntity.notFound().build();
+                                                                 @Max(value = 999999999999999L, message = "Employee ID must be less than or equal to {value}") Long id, @RequestBody @Valid EmployeeInputDTO employeeInputDTO,
+                                                             @Parameter(description = "Optional ETag of the employee; the update is rejected with 412 if it no longer matches")
+                                                                 @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        EmployeeDetailsDTO employeeDetailsDTO =  employeeService.updateEmployee(id, employeeInputDTO, ETagUtil.expectedVersion(ifMatch, id));
+        return employeeDetailsDTO != null
+                ? ResponseEntity.ok().eTag(ETagUtil.strongETag(employeeDetailsDTO, EmployeeField.ALL)).body(employeeDetailsDTO)
+                : ResponseEntity.notFound().build();
     }
 
-    @Operation(summary = "Get an employee by ID", description = "Retrieves an employee's details based on the provided ID")
+    @Operation(summary = "Partially update an employee", description = "Applies a JSON merge patch to an existing employee, writing only the supplied fields. A patch that changes nothing is not written. When If-Match is given the patch only applies if the employee's ETag still matches")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Employee successfully patched",
+                    content = { @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = EmployeeDetailsDTO.class)) }),
+            @ApiResponse(responseCode = "404", description = "Employee not found",
+                    content = @Content),
+            @ApiResponse(responseCode = "412", description = "The employee has been modified since the ETag given in If-Match",
+                    content = @Content),
+            @ApiResponse(responseCode = "400", description = "Invalid ID supplied or invalid patch document",
+                    content = @Content)
+    })
+    @AdmissionClass(EndpointClass.POINT)
+    @PatchMapping(value = "/{id}", consumes = {"application/merge-patch+json", MediaType.APPLICATION_JSON_VALUE})
+    public ResponseEntity<EmployeeDetailsDTO> patchEmployee(@Parameter(description = "The ID of the employee to patch", required = true) @PathVariable @NotNull(message = "Employee ID must not be null")
+                                                                @Min(value = 1, message = "Employee ID must be greater than or equal to {value}")
+                                                                @Max(value = 999999999999999L, message = "Employee ID must be less than or equal to {value}") Long id,
+                                                            @Parameter(description = "JSON merge patch with the fields to change, e.g. {\"location\": \"Boston, MA\"}", required = true)
+                                                                @RequestBody JsonNode patch,
+                                                            @Parameter(description = "Optional ETag of the employee; the patch is rejected with 412 if it no longer matches")
+                                                                @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        EmployeeDetailsDTO employeeDetailsDTO = employeeService.patchEmployee(id, EmployeeMapper.toFieldChanges(patch), ETagUtil.expectedVersion(ifMatch, id));
+        return ResponseEntity.ok().eTag(ETagUtil.strongETag(employeeDetailsDTO, EmployeeField.ALL)).body(employeeDetailsDTO);
+    }
+
+    @Operation(summary = "Get an employee by ID", description = "Retrieves an employee's details based on the provided ID. The response carries a strong ETag and honours If-None-Match")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Successfully retrieved the employee",
                     content = { @Content(mediaType = "application/json",
                             schema = @Schema(implementation = EmployeeDetailsDTO.class)) }),
+            @ApiResponse(responseCode = "304", description = "The employee has not changed since the ETag given in If-None-Match",
+                    content = @Content),
             @ApiResponse(responseCode = "404", description = "Employee not found",
                     content = @Content),
-            @ApiResponse(responseCode = "400", description = "Invalid ID supplied",
+            @ApiResponse(responseCode = "400", description = "Invalid ID or fields supplied",
                     content = @Content)
     })
+    @AdmissionClass(EndpointClass.POINT)
     @GetMapping("/{id}")
     public ResponseEntity<EmployeeDetailsDTO> getEmployeeById(@Parameter(description = "The ID of the employee to fetch", required = true, example = "1")
                                                                       @PathVariable @NotNull(message = "Employee ID must not be null")
                                                                   @Min(value = 1, message = "Employee ID must be greater than or equal to {value}")
-                                                                  @Max(value = 999999999999999L, message = "Employee ID must be less than or equal to {value}") Long id) {
-        EmployeeDetailsDTO employeeDetailsDTO = employeeService.getEmployeeById(id);
-        return ResponseEntity.ok(employeeDetailsDTO);
+                                                                  @Max(value = 999999999999999L, message = "Employee ID must be less than or equal to {value}") Long id,
+                                                              @Parameter(description = "Optional comma-separated list of fields to return, e.g. id,firstName,lastName. The id is always returned")
+                                                                  @RequestParam(value = "fields", required = false) String fields) {
+        Set<EmployeeField> selectedFields = EmployeeField.parseFields(fields);
+        EmployeeDetailsDTO employeeDetailsDTO = employeeService.getEmployeeById(id, selectedFields);
+        // A matching If-None-Match is answered with 304 before the employee is serialized
+        return ResponseEntity.ok()
+                .eTag(ETagUtil.strongETag(employeeDetailsDTO, selectedFields))
+                .body(employeeDetailsDTO);
+    }
+
+    @Operation(summary = "Delete employees by filter", description = "Deletes every employee born in the given month and/or living in the given state. The employees are hidden right away and purged from the database in the background")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "202", description = "Employees deleted, the number is returned in X-Employees-Deleted"),
+            @ApiResponse(responseCode = "400", description = "Neither month nor state given, or an invalid month",
+                    content = @Content)
+    })
+    @AdmissionClass(EndpointClass.IMPORT)
+    @DeleteMapping
+    public ResponseEntity<Void> deleteEmployees(@Parameter(description = "Optional birth month to filter on")
+                                                    @RequestParam(value = "month", required = false) @Min(1) @Max(12) Integer month,
+                                                @Parameter(description = "Optional state to filter on")
+                                                    @RequestParam(value = "state", required = false) String state) {
+        int deleted = employeeService.deleteEmployees(month, state);
+        return ResponseEntity.accepted()
+                .header(EMPLOYEES_DELETED_HEADER, String.valueOf(deleted))
+                .build();
     }
 
     @Operation(summary = "Delete an employee", description = "Deletes an employee record based on the provided ID")
@@ -169,6 +383,7 @@ public class EmployeeController {
             @ApiResponse(responseCode = "400", description = "Invalid ID supplied",
                     content = @Content)
     })
+    @AdmissionClass(EndpointClass.POINT)
     @DeleteMapping("/{id}")
     public ResponseEntity<Void> deleteEmployee(@Parameter(description = "The ID of the employee to delete", required = true, example = "1") @PathVariable @NotNull(message = "Employee ID must not be null")
                                                    @Min(value = 1, message = "Employee ID must be greater than or equal to {value}")
@@ -177,4 +392,42 @@ public class EmployeeController {
              return ResponseEntity.noContent().build();
     }
 
-}
\ No newline at end of file
+    /**
+     * Builds the 201 response reporting the created employees: their number in {@code X-Employees-Created} and their
+     * ids in {@code X-Employee-Ids}. Ids come from the pooled sequence in blocks, so they are sent as ranges
+     * ({@code 51-100,151-170}). Ranges that would not fit in {@link #MAX_EMPLOYEE_IDS_HEADER_LENGTH} characters are
+     * appended to the body instead, so the ids are never lost.
+     */
+    private static ResponseEntity<String> createdResponse(List<Long> ids, String message) {
+        ResponseEntity.BodyBuilder response = ResponseEntity.status(HttpStatus.CREATED)
+                .header(EMPLOYEES_CREATED_HEADER, String.valueOf(ids.size()));
+        String ranges = idRanges(ids);
+        if (ranges.isEmpty()) {
+            return response.body(message);
+        }
+        if (ranges.length() <= MAX_EMPLOYEE_IDS_HEADER_LENGTH) {
+            return response.header(EMPLOYEE_IDS_HEADER, ranges).body(message);
+        }
+        return response.body(message + "\nEmployee ids: " + ranges);
+    }
+
+    static String idRanges(List<Long> ids) {
+        List<Long> sorted = ids.stream().sorted().toList();
+        StringBuilder ranges = new StringBuilder();
+        for (int start = 0; start < sorted.size(); ) {
+            int end = start;
+            while (end + 1 < sorted.size() && sorted.get(end + 1) == sorted.get(end) + 1) {
+                end++;
+            }
+            if (!ranges.isEmpty()) {
+                ranges.append(',');
+            }
+            ranges.append(sorted.get(start));
+            if (end > start) {
+                ranges.append('-').append(sorted.get(end));
+            }
+            start = end + 1;
+        }
+        return ranges.toString();
+    }
+}
@@ -0,0 +1,87 @@
+package com.sas.hr.employee_management_api.controller;
+
+import com.sas.hr.employee_management_api.admission.AdmissionClass;
+import com.sas.hr.employee_management_api.admission.EndpointClass;
+import com.sas.hr.employee_management_api.dto.EmployeeDetailsDTO;
+import com.sas.hr.employee_management_api.model.EmployeeField;
+import com.sas.hr.employee_management_api.service.ReactiveEmployeeService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.MediaType;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Non-blocking read endpoints backed by R2DBC.
+ *
+ * Spring MVC subscribes to the returned {@link Flux}/{@link Mono} and releases the request thread while
+ * the query runs. With {@code Accept: application/x-ndjson} a listing is written row by row as the
+ * database produces it, with backpressure; with {@code application/json} it is collected into an array.
+ */
+@RestController
+@RequestMapping("/reactive/employees")
+@Validated
+public class ReactiveEmployeeController {
+
+    private final ReactiveEmployeeService reactiveEmployeeService;
+
+    public ReactiveEmployeeController(ReactiveEmployeeService reactiveEmployeeService) {
+        this.reactiveEmployeeService = reactiveEmployeeService;
+    }
+
+    @Operation(summary = "Stream employees", description = "Streams one page of employees, optionally filtered by birth month, without blocking a request thread")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Employees streamed successfully",
+                    content = { @Content(mediaType = "application/x-ndjson", schema = @Schema(implementation = EmployeeDetailsDTO.class)),
+                            @Content(mediaType = "application/json", schema = @Schema(implementation = EmployeeDetailsDTO.class)) }),
+            @ApiResponse(responseCode = "400", description = "Invalid page, size, sort, month or fields parameter",
+                    content = @Content)
+    })
+    @AdmissionClass(EndpointClass.LISTING)
+    @GetMapping(produces = {MediaType.APPLICATION_NDJSON_VALUE, MediaType.APPLICATION_JSON_VALUE})
+    public Flux<EmployeeDetailsDTO> getEmployees(@RequestParam(value = "page", required = false, defaultValue = "0") @Min(0) int page,
+                                                 @RequestParam(value = "size", required = false, defaultValue = "10") @Min(1) @Max(100) int size,
+                                                 @Parameter(description = "Comma-separated sort keys, each optionally suffixed with :asc or :desc, e.g. lastName,birthDate:desc")
+                                                     @RequestParam(value = "sortBy", required = false, defaultValue = "id") String sortBy,
+                                                 @Parameter(description = "Optional query to filter the employee list by month")
+                                                     @RequestParam(value = "month", required = false) @Min(1) @Max(12) Integer month,
+                                                 @Parameter(description = "Optional comma-separated list of fields to return, e.g. id,firstName,lastName. The id is always returned")
+                                                     @RequestParam(value = "fields", required = false) String fields) {
+        return reactiveEmployeeService.getEmployees(month, PageRequest.of(page, size, EmployeeField.parseSort(sortBy)), EmployeeField.parseFields(fields));
+    }
+
+    @Operation(summary = "Get an employee by ID", description = "Retrieves an employee's details without blocking a request thread")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Successfully retrieved the employee",
+                    content = { @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = EmployeeDetailsDTO.class)) }),
+            @ApiResponse(responseCode = "404", description = "Employee not found",
+                    content = @Content),
+            @ApiResponse(responseCode = "400", description = "Invalid ID or fields supplied",
+                    content = @Content)
+    })
+    @AdmissionClass(EndpointClass.POINT)
+    @GetMapping(value = "/{id}", produces = MediaType.APPLICATION_JSON_VALUE)
+    public Mono<EmployeeDetailsDTO> getEmployeeById(@Parameter(description = "The ID of the employee to fetch", required = true, example = "1")
+                                                        @PathVariable @NotNull(message = "Employee ID must not be null")
+                                                        @Min(value = 1, message = "Employee ID must be greater than or equal to {value}")
+                                                        @Max(value = 999999999999999L, message = "Employee ID must be less than or equal to {value}") Long id,
+                                                    @Parameter(description = "Optional comma-separated list of fields to return, e.g. id,firstName,lastName. The id is always returned")
+                                                        @RequestParam(value = "fields", required = false) String fields) {
+        return reactiveEmployeeService.getEmployeeById(id, EmployeeField.parseFields(fields));
+    }
+}
@@ -0,0 +1,15 @@
+package com.sas.hr.employee_management_api.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record EmployeeBatchItemResultDTO(Operation operation, int index, Long id, Long version, Status status) {
+
+    public enum Operation {
+        CREATE, UPDATE, DELETE
+    }
+
+    public enum Status {
+        CREATED, UPDATED, DELETED, NOT_FOUND, VERSION_MISMATCH
+    }
+}
@@ -0,0 +1,23 @@
+package com.sas.hr.employee_management_api.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+
+import java.util.List;
+
+public record EmployeeBatchRequestDTO(
+        List<@NotNull @Valid EmployeeInputDTO> create,
+        List<@NotNull @Valid EmployeeBatchUpdateDTO> update,
+        List<@NotNull @Min(value = 1, message = "Employee ID must be greater than or equal to {value}") Long> delete) {
+
+    public EmployeeBatchRequestDTO {
+        create = create != null ? create : List.of();
+        update = update != null ? update : List.of();
+        delete = delete != null ? delete : List.of();
+    }
+
+    public int size() {
+        return create.size() + update.size() + delete.size();
+    }
+}
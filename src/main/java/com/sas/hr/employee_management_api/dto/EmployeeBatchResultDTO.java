@@ -0,0 +1,23 @@
+package com.sas.hr.employee_management_api.dto;
+
+import java.util.List;
+
+public record EmployeeBatchResultDTO(int created,
+                                     int updated,
+                                     int deleted,
+                                     int failed,
+                                     List<EmployeeBatchItemResultDTO> items) {
+
+    public static EmployeeBatchResultDTO of(List<EmployeeBatchItemResultDTO> items) {
+        int created = 0, updated = 0, deleted = 0, failed = 0;
+        for (EmployeeBatchItemResultDTO item : items) {
+            switch (item.status()) {
+                case CREATED -> created++;
+                case UPDATED -> updated++;
+                case DELETED -> deleted++;
+                default -> failed++;
+            }
+        }
+        return new EmployeeBatchResultDTO(created, updated, deleted, failed, items);
+    }
+}
@@ -0,0 +1,15 @@
+package com.sas.hr.employee_management_api.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+
+public record EmployeeBatchUpdateDTO(
+        @NotNull(message = "Employee ID must not be null")
+        @Min(value = 1, message = "Employee ID must be greater than or equal to {value}")
+        Long id,
+        Long version,
+        @NotNull(message = "Employee details must not be null")
+        @Valid
+        EmployeeInputDTO employee) {
+}
@@ -0,0 +1,17 @@
+package com.sas.hr.employee_management_api.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.sas.hr.employee_management_api.event.EmployeeChangedEvent.ChangeType;
+
+/**
+ * One entry of the change feed. {@code employee} is the employee after the change and is absent for deletions;
+ * {@code version} is the row version after the change, or the last version for deletions.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record EmployeeChangeDTO(long sequence,
+                                ChangeType type,
+                                Long employeeId,
+                                Long version,
+                                EmployeeDetailsDTO employee,
+                                String occurredAt) {
+}
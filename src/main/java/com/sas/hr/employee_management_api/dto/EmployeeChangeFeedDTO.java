@@ -0,0 +1,10 @@
+package com.sas.hr.employee_management_api.dto;
+
+import java.util.List;
+
+/**
+ * A page of the change feed. Pass {@code next} as {@code after} to read the following changes;
+ * it equals the requested {@code after} when there are no new changes.
+ */
+public record EmployeeChangeFeedDTO(List<EmployeeChangeDTO> changes, long next) {
+}
@@ -0,0 +1,7 @@
+package com.sas.hr.employee_management_api.dto;
+
+public record EmployeeDeltaImportResultDTO(int inserted,
+                                           int updated,
+                                           int deleted,
+                                           int unchanged) {
+}
@@ -1,11 +1,23 @@
 package com.sas.hr.employee_management_api.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 
+/**
+ * Employee details returned by the API. When a sparse fieldset is requested through the {@code fields}
+ * query parameter the unselected attributes are {@code null} and are left out of the serialized JSON.
+ * The {@code version} is the row version used for the ETag and for {@code If-Match} on updates.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
 public record EmployeeDetailsDTO(Long id,
                                  String firstName,
                                  String lastName,
                                  String city,
                                  String state,
                                  String location,
-                                 String birthDate) {
+                                 String birthDate,
+                                 Long version) {
+
+    public EmployeeDetailsDTO(Long id, String firstName, String lastName, String city, String state, String location, String birthDate) {
+        this(id, firstName, lastName, city, state, location, birthDate, null);
+    }
 }
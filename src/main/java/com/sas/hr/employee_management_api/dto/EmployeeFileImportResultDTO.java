@@ -0,0 +1,17 @@
+package com.sas.hr.employee_management_api.dto;
+
+/**
+ * The outcome of importing one CSV file or zip archive entry.
+ *
+ * @param name          The file name; entries of an archive are named {@code archive.zip!/entry.csv}.
+ * @param rows          The number of imported employees.
+ * @param parseMillis   Time spent reading and parsing the CSV.
+ * @param persistMillis Time spent mapping and inserting the rows.
+ * @param error         Why the file could not be imported, or null.
+ */
+public record EmployeeFileImportResultDTO(String name,
+                                          int rows,
+                                          long parseMillis,
+                                          long persistMillis,
+                                          String error) {
+}
@@ -0,0 +1,20 @@
+package com.sas.hr.employee_management_api.dto;
+
+import java.util.List;
+
+public record EmployeeImportResultDTO(int rows,
+                                      int failedFiles,
+                                      long elapsedMillis,
+                                      List<EmployeeFileImportResultDTO> files) {
+
+    public static EmployeeImportResultDTO of(List<EmployeeFileImportResultDTO> files, long elapsedMillis) {
+        int rows = 0, failedFiles = 0;
+        for (EmployeeFileImportResultDTO file : files) {
+            rows += file.rows();
+            if (file.error() != null) {
+                failedFiles++;
+            }
+        }
+        return new EmployeeImportResultDTO(rows, failedFiles, elapsedMillis, files);
+    }
+}
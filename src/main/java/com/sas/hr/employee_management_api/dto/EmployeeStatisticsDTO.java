@@ -0,0 +1,9 @@
+package com.sas.hr.employee_management_api.dto;
+
+import java.util.Map;
+
+public record EmployeeStatisticsDTO(long total,
+                                    Map<String, Long> byState,
+                                    Map<String, Long> byCity,
+                                    Map<Integer, Long> byBirthMonth) {
+}
@@ -0,0 +1,26 @@
+package com.sas.hr.employee_management_api.event;
+
+import com.sas.hr.employee_management_api.model.Employee;
+
+/**
+ * Published by the service after a single employee has been created, updated or deleted.
+ * {@code before} is null for creations and {@code after} is null for deletions.
+ */
+public record EmployeeChangedEvent(ChangeType type, Employee before, Employee after) {
+
+    public enum ChangeType {
+        CREATED, UPDATED, DELETED
+    }
+
+    public static EmployeeChangedEvent created(Employee after) {
+        return new EmployeeChangedEvent(ChangeType.CREATED, null, after);
+    }
+
+    public static EmployeeChangedEvent updated(Employee before, Employee after) {
+        return new EmployeeChangedEvent(ChangeType.UPDATED, before, after);
+    }
+
+    public static EmployeeChangedEvent deleted(Employee before) {
+        return new EmployeeChangedEvent(ChangeType.DELETED, before, null);
+    }
+}
@@ -0,0 +1,12 @@
+package com.sas.hr.employee_management_api.event;
+
+import com.sas.hr.employee_management_api.model.Employee;
+
+import java.util.List;
+
+/**
+ * Published by the service after employees have been soft-deleted in bulk, e.g. every employee of a state.
+ * Carries the rows as they were before the delete.
+ */
+public record EmployeesDeletedEvent(List<Employee> employees) {
+}
@@ -0,0 +1,11 @@
+package com.sas.hr.employee_management_api.event;
+
+import com.sas.hr.employee_management_api.model.Employee;
+
+import java.util.List;
+
+/**
+ * Published by the service after a batch of employees has been bulk inserted, e.g. by a CSV import.
+ */
+public record EmployeesImportedEvent(List<Employee> employees) {
+}
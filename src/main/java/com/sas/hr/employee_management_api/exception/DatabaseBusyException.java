@@ -0,0 +1,7 @@
+package com.sas.hr.employee_management_api.exception;
+
+public class DatabaseBusyException extends RuntimeException {
+    public DatabaseBusyException(int maxConcurrent, int queueLength) {
+        super("All " + maxConcurrent + " database connections are in use (" + queueLength + " callers waiting), try again later");
+    }
+}
@@ -0,0 +1,7 @@
+package com.sas.hr.employee_management_api.exception;
+
+public class EmployeeVersionMismatchException extends RuntimeException {
+    public EmployeeVersionMismatchException(Long id) {
+        super("Employee with id " + id + " has been modified, If-Match does not match the current version");
+    }
+}
@@ -2,9 +2,12 @@ package com.sas.hr.employee_management_api.exception;
 
 import jakarta.persistence.EntityNotFoundException;
 import jakarta.validation.ConstraintViolationException;
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.transaction.CannotCreateTransactionException;
 import org.springframework.validation.FieldError;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ControllerAdvice;
@@ -72,12 +75,59 @@ public class GlobalExceptionHandler {
         return new ResponseEntity<>(errorResponse, HttpStatus.BAD_REQUEST);
     }
 
+    @ExceptionHandler(InvalidQueryParameterException.class)
+    public ResponseEntity<ErrorResponse> handleInvalidQueryParameter(InvalidQueryParameterException ex) {
+        ErrorResponse errorResponse = new ErrorResponse("Invalid query parameter", ex.getMessage());
+        return new ResponseEntity<>(errorResponse, HttpStatus.BAD_REQUEST);
+    }
+
+    @ExceptionHandler(InvalidBatchRequestException.class)
+    public ResponseEntity<ErrorResponse> handleInvalidBatchRequest(InvalidBatchRequestException ex) {
+        ErrorResponse errorResponse = new ErrorResponse("Invalid batch request", ex.getMessage());
+        return new ResponseEntity<>(errorResponse, HttpStatus.BAD_REQUEST);
+    }
+
+    @ExceptionHandler(InvalidPatchDocumentException.class)
+    public ResponseEntity<ErrorResponse> handleInvalidPatchDocument(InvalidPatchDocumentException ex) {
+        ErrorResponse errorResponse = new ErrorResponse("Invalid patch document", ex.getMessage());
+        return new ResponseEntity<>(errorResponse, HttpStatus.BAD_REQUEST);
+    }
+
     @ExceptionHandler(EmployeeNotFoundException.class)
     public ResponseEntity<ErrorResponse> handleEmployeeNotFound(EmployeeNotFoundException ex) {
         ErrorResponse errorResponse = new ErrorResponse("Employee Not Found", ex.getMessage());
         return new ResponseEntity<>(errorResponse, HttpStatus.NOT_FOUND);
     }
 
+    @ExceptionHandler(EmployeeVersionMismatchException.class)
+    public ResponseEntity<ErrorResponse> handleVersionMismatch(EmployeeVersionMismatchException ex) {
+        ErrorResponse errorResponse = new ErrorResponse("Precondition Failed", ex.getMessage());
+        return new ResponseEntity<>(errorResponse, HttpStatus.PRECONDITION_FAILED);
+    }
+
+    @ExceptionHandler(AdmissionRejectedException.class)
+    public ResponseEntity<ErrorResponse> handleAdmissionRejected(AdmissionRejectedException ex) {
+        ErrorResponse errorResponse = new ErrorResponse(ex.getStatus().getReasonPhrase(), ex.getMessage());
+        return ResponseEntity.status(ex.getStatus())
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(Math.max(1, ex.getRetryAfter().toSeconds())))
+                .body(errorResponse);
+    }
+
+    @ExceptionHandler(ShardingUnsupportedException.class)
+    public ResponseEntity<ErrorResponse> handleShardingUnsupported(ShardingUnsupportedException ex) {
+        ErrorResponse errorResponse = new ErrorResponse("Not Implemented", ex.getMessage());
+        return new ResponseEntity<>(errorResponse, HttpStatus.NOT_IMPLEMENTED);
+    }
+
+    @ExceptionHandler({DatabaseBusyException.class, CannotCreateTransactionException.class})
+    public ResponseEntity<ErrorResponse> handleDatabaseBusy(RuntimeException ex) {
+        // JPA transactions report a failed connection checkout wrapped in CannotCreateTransactionException
+        ErrorResponse errorResponse = new ErrorResponse("Service Unavailable", NestedExceptionUtils.getMostSpecificCause(ex).getMessage());
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .body(errorResponse);
+    }
+
     @ExceptionHandler({EntityNotFoundException.class, NoSuchElementException.class})
     public ResponseEntity<ErrorResponse> handleNotFoundExceptions(Exception ex) {
         String message;
@@ -0,0 +1,17 @@
+package com.sas.hr.employee_management_api.exception;
+
+import java.util.List;
+
+public class InvalidBatchRequestException extends RuntimeException {
+
+    private final List<String> problems;
+
+    public InvalidBatchRequestException(List<String> problems) {
+        super(String.join("; ", problems));
+        this.problems = List.copyOf(problems);
+    }
+
+    public List<String> getProblems() {
+        return problems;
+    }
+}
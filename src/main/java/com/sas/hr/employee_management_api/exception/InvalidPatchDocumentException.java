@@ -0,0 +1,7 @@
+package com.sas.hr.employee_management_api.exception;
+
+public class InvalidPatchDocumentException extends RuntimeException {
+    public InvalidPatchDocumentException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,7 @@
+package com.sas.hr.employee_management_api.exception;
+
+public class InvalidQueryParameterException extends RuntimeException {
+    public InvalidQueryParameterException(String message) {
+        super(message);
+    }
+}
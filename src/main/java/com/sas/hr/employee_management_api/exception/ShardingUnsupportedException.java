@@ -0,0 +1,10 @@
+package com.sas.hr.employee_management_api.exception;
+
+/**
+ * Thrown by operations that only work on the single primary database while {@code employee.sharding.enabled} is set.
+ */
+public class ShardingUnsupportedException extends RuntimeException {
+    public ShardingUnsupportedException(String operation) {
+        super(operation + " is not supported while employee.sharding.enabled is set");
+    }
+}
@@ -1,26 +1,73 @@
 package com.sas.hr.employee_management_api.mapper;
 
+import com.fasterxml.jackson.databind.JsonNode;
 import com.sas.hr.employee_management_api.dto.EmployeeDetailsDTO;
 import com.sas.hr.employee_management_api.dto.EmployeeInputDTO;
+import com.sas.hr.employee_management_api.exception.InvalidPatchDocumentException;
 import com.sas.hr.employee_management_api.model.Employee;
+import com.sas.hr.employee_management_api.model.EmployeeField;
 import com.sas.hr.employee_management_api.util.DateUtil;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.stereotype.Component;
 
+import java.time.LocalDate;
 import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
 @Slf4j
 @Component
 public class EmployeeMapper {
 
+    private static final Set<EmployeeField> PATCHABLE_FIELDS = EnumSet.of(EmployeeField.FIRST_NAME, EmployeeField.LAST_NAME,
+            EmployeeField.CITY, EmployeeField.STATE, EmployeeField.LOCATION, EmployeeField.BIRTH_DATE);
+
+    /**
+     * Meters of the import and read paths: the list and page conversions in {@code employee.mapping}, tagged with
+     * the target type ({@code entity} or {@code dto}), each birth date conversion of an import in
+     * {@code employee.date.conversion}, and the dates that matched no format in {@code employee.date.invalid}.
+     *
+     * The mapper is static and keeps no meters itself; every Spring caller registers its own once and passes them in.
+     */
+    public record Meters(Timer toEntity, Timer toDto, Timer dateConversion, Counter invalidDates) {
+
+        public static Meters register(MeterRegistry meterRegistry) {
+            return new Meters(mappingTimer(meterRegistry, "entity"), mappingTimer(meterRegistry, "dto"),
+                    Timer.builder("employee.date.conversion")
+                            .description("Conversion of one date string to a LocalDate")
+                            .register(meterRegistry),
+                    Counter.builder("employee.date.invalid")
+                            .description("Dates that matched none of the supported formats")
+                            .register(meterRegistry));
+        }
+
+        private static Timer mappingTimer(MeterRegistry meterRegistry, String target) {
+            return Timer.builder("employee.mapping")
+                    .description("Conversion of a list or page of employees")
+                    .tag("target", target)
+                    .register(meterRegistry);
+        }
+    }
+
     // Convert DTO to Model (Employee)
     public static Employee toEmployeeEntity(EmployeeInputDTO employeeInputDTO) {
+        return toEmployeeEntity(employeeInputDTO, DateUtil.convertDateStringToFormattedLocalDate(employeeInputDTO.birthDate()));
+    }
+
+    private static Employee toEmployeeEntity(EmployeeInputDTO employeeInputDTO, LocalDate birthDay) {
             Employee employee = new Employee();
-            employee.setBirthDay(DateUtil.convertDateStringToFormattedLocalDate(employeeInputDTO.birthDate()));
+            employee.setBirthDay(birthDay);
             employee.setFirstName(employeeInputDTO.firstName());
             employee.setLastName(employeeInputDTO.lastName());
             employee.setCity(employeeInputDTO.city());
@@ -32,7 +79,73 @@ public class EmployeeMapper {
 //     Convert Model (Employee) to DTO
     public static EmployeeDetailsDTO toEmployeeDTO(Employee employee) {
         String birthDate = DateUtil.formatBirthDate(employee.getBirthDay());
-        return new EmployeeDetailsDTO(employee.getId(),employee.getFirstName(), employee.getLastName(),employee.getCity(),employee.getState(), employee.getLocation(), birthDate);
+        return new EmployeeDetailsDTO(employee.getId(),employee.getFirstName(), employee.getLastName(),employee.getCity(),employee.getState(), employee.getLocation(), birthDate, employee.getVersion());
+    }
+
+    /**
+     * Converts a JSON merge patch document (RFC 7396) into the columns it changes.
+     * Only the members present in the document are returned; a JSON null clears the column.
+     * The birth date is parsed only when the document contains one.
+     *
+     * @param patch The merge patch document, e.g. {@code {"location": "Boston, MA"}}.
+     * @return The changed fields with their new values, in field order.
+     * @throws InvalidPatchDocumentException if the document is not an object, names an unknown or
+     *                                       read-only field, or contains an invalid value.
+     */
+    public static Map<EmployeeField, Object> toFieldChanges(JsonNode patch) {
+        if (patch == null || !patch.isObject()) {
+            throw new InvalidPatchDocumentException("The patch document must be a JSON object");
+        }
+        Map<EmployeeField, Object> changes = new EnumMap<>(EmployeeField.class);
+        Iterator<Map.Entry<String, JsonNode>> members = patch.fields();
+        while (members.hasNext()) {
+            Map.Entry<String, JsonNode> member = members.next();
+            EmployeeField field = PATCHABLE_FIELDS.stream()
+                    .filter(candidate -> candidate.getFieldName().equals(member.getKey()))
+                    .findFirst()
+                    .orElseThrow(() -> new InvalidPatchDocumentException("Field '" + member.getKey() + "' cannot be patched"));
+            JsonNode value = member.getValue();
+            if (value.isNull()) {
+                if (field == EmployeeField.FIRST_NAME || field == EmployeeField.LAST_NAME || field == EmployeeField.BIRTH_DATE) {
+                    throw new InvalidPatchDocumentException("Field '" + member.getKey() + "' cannot be removed");
+                }
+                changes.put(field, null);
+            } else if (!value.isTextual()) {
+                throw new InvalidPatchDocumentException("Field '" + member.getKey() + "' must be a string");
+            } else if (field == EmployeeField.BIRTH_DATE) {
+                LocalDate birthDay = DateUtil.convertDateStringToFormattedLocalDate(value.textValue());
+                if (birthDay == null) {
+                    throw new InvalidPatchDocumentException("Unsupported birth date '" + value.textValue() + "'");
+                }
+                changes.put(field, birthDay);
+            } else if ((field == EmployeeField.FIRST_NAME || field == EmployeeField.LAST_NAME) && value.textValue().isBlank()) {
+                throw new InvalidPatchDocumentException("Field '" + member.getKey() + "' cannot be blank");
+            } else {
+                changes.put(field, value.textValue());
+            }
+        }
+        return changes;
+    }
+
+    // Detached copy, e.g. to keep the state of an entity before it is modified
+    public static Employee copyOf(Employee employee) {
+        return new Employee(employee.getId(), employee.getFirstName(), employee.getLastName(), employee.getLocation(),
+                employee.getCity(), employee.getState(), employee.getBirthDay(), employee.getVersion());
+    }
+
+    // Keep only the selected fields of a full DTO, e.g. when serving a sparse fieldset from a cached entry
+    public static EmployeeDetailsDTO project(EmployeeDetailsDTO dto, Set<EmployeeField> fields) {
+        if (EmployeeField.isAll(fields)) {
+            return dto;
+        }
+        return new EmployeeDetailsDTO(dto.id(),
+                fields.contains(EmployeeField.FIRST_NAME) ? dto.firstName() : null,
+                fields.contains(EmployeeField.LAST_NAME) ? dto.lastName() : null,
+                fields.contains(EmployeeField.CITY) ? dto.city() : null,
+                fields.contains(EmployeeField.STATE) ? dto.state() : null,
+                fields.contains(EmployeeField.LOCATION) ? dto.location() : null,
+                fields.contains(EmployeeField.BIRTH_DATE) ? dto.birthDate() : null,
+                dto.version());
     }
 
     // List-to-List conversion
@@ -49,24 +162,29 @@ public class EmployeeMapper {
         return employeeDTOList;
     }
 
-    public static Page<EmployeeDetailsDTO> convertPageEmployeeToDTO(Page<Employee> employeePage) {
+    public static Page<EmployeeDetailsDTO> convertPageEmployeeToDTO(Page<Employee> employeePage, Meters meters) {
+        long start = System.nanoTime();
         List<EmployeeDetailsDTO> dtoList = employeePage.getContent().stream()
                 .map(EmployeeMapper::toEmployeeDTO)
                 .collect(Collectors.toList());
 
+        meters.toDto().record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
         return new PageImpl<>(dtoList, employeePage.getPageable(), employeePage.getTotalElements());
     }
 
-    public static List<Employee> toEmployeeEntityList(List<EmployeeInputDTO> employeeDTOs) {
+    public static List<Employee> toEmployeeEntityList(List<EmployeeInputDTO> employeeDTOs, Meters meters) {
         if (employeeDTOs == null) {
             return null;
         }
 
+        long start = System.nanoTime();
         List<Employee> employeeList = new ArrayList<>();
         for (EmployeeInputDTO employeeDTO : employeeDTOs) {
-            employeeList.add(toEmployeeEntity(employeeDTO));  // Convert each DTO to entity
+            LocalDate birthDay = DateUtil.convertDateStringToFormattedLocalDate(employeeDTO.birthDate(), meters.dateConversion(), meters.invalidDates());
+            employeeList.add(toEmployeeEntity(employeeDTO, birthDay));  // Convert each DTO to entity
         }
 
+        meters.toEntity().record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
         return employeeList;
     }
 }
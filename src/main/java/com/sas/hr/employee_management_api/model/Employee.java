@@ -1,25 +1,42 @@
 package com.sas.hr.employee_management_api.model;
 
 import jakarta.persistence.*;
-import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.SQLRestriction;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 
 @Data
 @NoArgsConstructor
-@AllArgsConstructor
 @Entity
-@Table(name = "employee")
+// Soft-deleted rows are invisible to every JPA query until the purge job removes them
+@SQLRestriction("deleted_at IS NULL")
+@Table(name = "employee", indexes = {
+        @Index(name = "idx_employee_last_name", columnList = "last_name, first_name"),
+        @Index(name = "idx_employee_first_name", columnList = "first_name"),
+        @Index(name = "idx_employee_city", columnList = "city"),
+        @Index(name = "idx_employee_state", columnList = "state"),
+        @Index(name = "idx_employee_birth_day", columnList = "birth_day"),
+        @Index(name = "idx_employee_deleted_at", columnList = "deleted_at")
+})
 @SqlResultSetMapping(
         name = "EmployeeMapping",
         entities = @EntityResult(entityClass = Employee.class)
 )
 public class Employee {
 
+    public static final String ID_SEQUENCE = "employee_seq";
+    // Ids reserved per sequence call; shared with EmployeeIdAllocator for the JDBC insert paths
+    public static final int ID_ALLOCATION_SIZE = 50;
+
+    private static final long FNV_OFFSET_BASIS = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = ID_SEQUENCE)
+    @SequenceGenerator(name = ID_SEQUENCE, sequenceName = ID_SEQUENCE, allocationSize = ID_ALLOCATION_SIZE)
     private Long id;
 
     @Column(name="first_name")
@@ -37,4 +54,53 @@ public class Employee {
 
     @Column(name="birth_day")
     private LocalDate birthDay;
+
+    @Version
+    @Column(name="version", nullable = false)
+    private Long version;
+
+    @Column(name = "deleted_at")
+    private LocalDateTime deletedAt;
+
+    // Hash of the imported attributes, see computeContentHash(); null when unknown, e.g. after a patch
+    @Column(name = "content_hash")
+    private Long contentHash;
+
+    public Employee(Long id, String firstName, String lastName, String location, String city, String state, LocalDate birthDay, Long version) {
+        this.id = id;
+        this.firstName = firstName;
+        this.lastName = lastName;
+        this.location = location;
+        this.city = city;
+        this.state = state;
+        this.birthDay = birthDay;
+        this.version = version;
+    }
+
+    public Employee(Long id, String firstName, String lastName, String location, String city, String state, LocalDate birthDay) {
+        this(id, firstName, lastName, location, city, state, birthDay, null);
+    }
+
+    /**
+     * Computes a 64-bit FNV-1a hash over the attributes a CSV import sets (names, location, city, state and
+     * birthday). Delta imports compare it with the stored {@code content_hash} to skip rows that did not change.
+     */
+    public long computeContentHash() {
+        long hash = FNV_OFFSET_BASIS;
+        for (Object value : new Object[]{firstName, lastName, location, city, state, birthDay}) {
+            String text = value != null ? value.toString() : "\u0000";
+            for (int i = 0; i < text.length(); i++) {
+                hash = (hash ^ text.charAt(i)) * FNV_PRIME;
+            }
+            // Separator, so that moving characters between attributes changes the hash
+            hash = (hash ^ 0x1F) * FNV_PRIME;
+        }
+        return hash;
+    }
+
+    @PrePersist
+    @PreUpdate
+    void updateContentHash() {
+        contentHash = computeContentHash();
+    }
 }
@@ -0,0 +1,67 @@
+package com.sas.hr.employee_management_api.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * One entry of the employee change log, which doubles as the transactional outbox.
+ *
+ * Write paths append entries without a {@code sequence} in the same transaction as the change itself.
+ * The relay in {@code EmployeeChangeFeedService} then assigns increasing sequence numbers to committed
+ * entries, in the order it sees them commit; consumers of the change feed read entries by sequence.
+ * For creations and updates the entry carries the employee after the change, for deletions only its id
+ * and last version.
+ *
+ * Mapped so that Hibernate creates the table in the in-memory mode and validates it against the migration
+ * in the persistent mode; it is read and written with JDBC by {@code EmployeeChangeLogRepository}.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity
+@Table(name = "employee_change_log", indexes = {
+        @Index(name = "idx_employee_change_log_seq", columnList = "seq", unique = true),
+        @Index(name = "idx_employee_change_log_employee", columnList = "employee_id, seq")
+})
+public class EmployeeChangeLogEntry {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "seq")
+    private Long sequence;
+
+    @Column(name = "employee_id", nullable = false)
+    private Long employeeId;
+
+    @Column(name = "change_type", nullable = false, length = 16)
+    private String changeType;
+
+    @Column(name = "employee_version")
+    private Long employeeVersion;
+
+    @Column(name = "first_name")
+    private String firstName;
+    @Column(name = "last_name")
+    private String lastName;
+    @Column(name = "location")
+    private String location;
+
+    @Column
+    private String city;
+
+    @Column
+    private String state;
+
+    @Column(name = "birth_day")
+    private LocalDate birthDay;
+
+    @Column(name = "occurred_at", nullable = false)
+    private LocalDateTime occurredAt;
+}
@@ -0,0 +1,208 @@
+package com.sas.hr.employee_management_api.model;
+
+import com.sas.hr.employee_management_api.exception.InvalidQueryParameterException;
+import org.springframework.data.domain.Sort;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * The selectable columns of an {@link Employee}, as exposed through the {@code fields} query parameter.
+ * Each constant ties together the API field name, the database column and the JPA attribute so that
+ * both the JPA and the JDBC query paths can select only the requested columns.
+ * Fields flagged as sortable are backed by an index declared on {@link Employee}.
+ */
+public enum EmployeeField {
+
+    ID("id", "id", "id", true, Long.class, Employee::getId, (employee, value) -> employee.setId((Long) value)),
+    FIRST_NAME("firstName", "first_name", "firstName", true, String.class, Employee::getFirstName, (employee, value) -> employee.setFirstName((String) value)),
+    LAST_NAME("lastName", "last_name", "lastName", true, String.class, Employee::getLastName, (employee, value) -> employee.setLastName((String) value)),
+    CITY("city", "city", "city", true, String.class, Employee::getCity, (employee, value) -> employee.setCity((String) value)),
+    STATE("state", "state", "state", true, String.class, Employee::getState, (employee, value) -> employee.setState((String) value)),
+    LOCATION("location", "location", "location", false, String.class, Employee::getLocation, (employee, value) -> employee.setLocation((String) value)),
+    BIRTH_DATE("birthDate", "birth_day", "birthDay", true, LocalDate.class, Employee::getBirthDay, (employee, value) -> employee.setBirthDay((LocalDate) value)),
+    VERSION("version", "version", "version", false, Long.class, Employee::getVersion, (employee, value) -> employee.setVersion((Long) value));
+
+    public static final Set<EmployeeField> ALL = Collections.unmodifiableSet(EnumSet.allOf(EmployeeField.class));
+
+    private final String fieldName;
+    private final String columnName;
+    private final String attributeName;
+    private final boolean sortable;
+    private final Class<?> javaType;
+    private final Function<Employee, Object> getter;
+    private final BiConsumer<Employee, Object> setter;
+
+    EmployeeField(String fieldName, String columnName, String attributeName, boolean sortable, Class<?> javaType,
+                  Function<Employee, Object> getter, BiConsumer<Employee, Object> setter) {
+        this.fieldName = fieldName;
+        this.columnName = columnName;
+        this.attributeName = attributeName;
+        this.sortable = sortable;
+        this.javaType = javaType;
+        this.getter = getter;
+        this.setter = setter;
+    }
+
+    public String getFieldName() {
+        return fieldName;
+    }
+
+    public String getColumnName() {
+        return columnName;
+    }
+
+    public String getAttributeName() {
+        return attributeName;
+    }
+
+    public boolean isSortable() {
+        return sortable;
+    }
+
+    public Class<?> getJavaType() {
+        return javaType;
+    }
+
+    public Object get(Employee employee) {
+        return getter.apply(employee);
+    }
+
+    public void apply(Employee employee, Object value) {
+        setter.accept(employee, value);
+    }
+
+    /**
+     * Parses a comma-separated list of API field names (e.g. {@code "firstName,lastName"}) into a set of fields.
+     * The {@code id} and the {@code version} (needed for the ETag) are always part of the selection.
+     * A null or blank value selects every field.
+     *
+     * @param fields The comma-separated field names supplied by the caller.
+     * @return The selected fields, always containing {@link #ID} and {@link #VERSION}.
+     * @throws InvalidQueryParameterException if one of the names is not a known field.
+     */
+    public static Set<EmployeeField> parseFields(String fields) {
+        if (fields == null || fields.isBlank()) {
+            return ALL;
+        }
+        EnumSet<EmployeeField> selected = EnumSet.of(ID, VERSION);
+        for (String name : fields.split(",")) {
+            String trimmed = name.trim();
+            if (!trimmed.isEmpty()) {
+                selected.add(fromFieldName(trimmed));
+            }
+        }
+        return selected.size() == ALL.size() ? ALL : Collections.unmodifiableSet(selected);
+    }
+
+    public static EmployeeField fromFieldName(String name) {
+        for (EmployeeField field : values()) {
+            if (field.fieldName.equals(name)) {
+                return field;
+            }
+        }
+        throw new InvalidQueryParameterException("Unknown employee field: '" + name + "'");
+    }
+
+    public static EmployeeField fromAttributeName(String attributeName) {
+        for (EmployeeField field : values()) {
+            if (field.attributeName.equals(attributeName)) {
+                return field;
+            }
+        }
+        throw new InvalidQueryParameterException("Unknown employee attribute: '" + attributeName + "'");
+    }
+
+    /**
+     * Parses a sort expression such as {@code "lastName,firstName:desc"} into a {@link Sort}.
+     * Each comma-separated key is an API field name optionally followed by {@code :asc} or {@code :desc}.
+     * Only index-backed fields are accepted, and {@code id} is appended as a final tie-breaker so that
+     * paging over equal keys is stable.
+     *
+     * @param sortBy The sort expression supplied by the caller; null or blank sorts by id.
+     * @return A {@link Sort} over the JPA attribute names of the selected fields.
+     * @throws InvalidQueryParameterException if a key is unknown, not sortable, repeated or has an invalid direction.
+     */
+    public static Sort parseSort(String sortBy) {
+        if (sortBy == null || sortBy.isBlank()) {
+            return Sort.by(ID.attributeName);
+        }
+        List<Sort.Order> orders = new ArrayList<>();
+        EnumSet<EmployeeField> used = EnumSet.noneOf(EmployeeField.class);
+        for (String key : sortBy.split(",")) {
+            String trimmed = key.trim();
+            if (trimmed.isEmpty()) {
+                continue;
+            }
+            String[] parts = trimmed.split(":", 2);
+            EmployeeField field = fromFieldName(parts[0].trim());
+            if (!field.sortable) {
+                throw new InvalidQueryParameterException("Sorting by '" + field.fieldName + "' is not supported");
+            }
+            if (!used.add(field)) {
+                throw new InvalidQueryParameterException("Sort field '" + field.fieldName + "' is given more than once");
+            }
+            Sort.Direction direction = Sort.Direction.ASC;
+            if (parts.length > 1) {
+                direction = Sort.Direction.fromOptionalString(parts[1].trim())
+                        .orElseThrow(() -> new InvalidQueryParameterException("Invalid sort direction in '" + trimmed + "', expected asc or desc"));
+            }
+            orders.add(new Sort.Order(direction, field.attributeName));
+        }
+        if (!used.contains(ID)) {
+            orders.add(Sort.Order.asc(ID.attributeName));
+        }
+        return Sort.by(orders);
+    }
+
+    public static boolean isAll(Set<EmployeeField> fields) {
+        return fields == null || fields.containsAll(ALL);
+    }
+
+    /**
+     * Builds the SELECT list for the given fields, e.g. {@code "id, first_name"}.
+     */
+    public static String selectColumns(Set<EmployeeField> fields) {
+        return fields.stream()
+                .map(EmployeeField::getColumnName)
+                .collect(Collectors.joining(", "));
+    }
+
+    /**
+     * Translates a {@link Sort} over JPA attribute names into an ORDER BY clause. Only attributes known to
+     * {@link EmployeeField} are accepted, so the clause can safely be concatenated into the statement.
+     */
+    public static String orderByClause(Sort sort) {
+        if (sort.isUnsorted()) {
+            return "";
+        }
+        return " ORDER BY " + sort.stream()
+                .map(order -> fromAttributeName(order.getProperty()).getColumnName() + " " + order.getDirection().name())
+                .collect(Collectors.joining(", "));
+    }
+
+    /**
+     * Builds a comparator that orders employees the way {@link #orderByClause(Sort)} orders rows in H2, where
+     * nulls sort first in ascending and last in descending order. Used to merge rows that were sorted by the
+     * database in separate queries.
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public static Comparator<Employee> comparator(Sort sort) {
+        Comparator<Employee> comparator = (first, second) -> 0;
+        for (Sort.Order order : sort) {
+            EmployeeField field = fromAttributeName(order.getProperty());
+            Comparator<Employee> byField = Comparator.comparing(employee -> (Comparable) field.get(employee),
+                    Comparator.nullsFirst(Comparator.naturalOrder()));
+            comparator = comparator.thenComparing(order.isAscending() ? byField : byField.reversed());
+        }
+        return comparator;
+    }
+}
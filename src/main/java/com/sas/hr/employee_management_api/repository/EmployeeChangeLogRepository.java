@@ -0,0 +1,143 @@
+package com.sas.hr.employee_management_api.repository;
+
+import com.sas.hr.employee_management_api.event.EmployeeChangedEvent.ChangeType;
+import com.sas.hr.employee_management_api.model.Employee;
+import com.sas.hr.employee_management_api.model.EmployeeChangeLogEntry;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.util.List;
+
+/**
+ * JDBC access to the {@code employee_change_log} table, see {@link EmployeeChangeLogEntry}.
+ */
+@Repository
+public class EmployeeChangeLogRepository {
+
+    private static final String COLUMNS = "id, seq, employee_id, change_type, employee_version, first_name, last_name, location, city, state, birth_day, occurred_at";
+
+    private static final RowMapper<EmployeeChangeLogEntry> ENTRY_MAPPER = (rs, rowNum) -> {
+        Date birthDay = rs.getDate("birth_day");
+        return new EmployeeChangeLogEntry(rs.getLong("id"), rs.getObject("seq", Long.class), rs.getLong("employee_id"),
+                rs.getString("change_type"), rs.getObject("employee_version", Long.class), rs.getString("first_name"),
+                rs.getString("last_name"), rs.getString("location"), rs.getString("city"), rs.getString("state"),
+                birthDay != null ? birthDay.toLocalDate() : null, rs.getTimestamp("occurred_at").toLocalDateTime());
+    };
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public EmployeeChangeLogRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * Appends unsequenced entries for the given employees with a single JDBC batch. Runs in the caller's
+     * transaction, so the entries commit or roll back together with the change they describe.
+     *
+     * @param type      The kind of change.
+     * @param employees The employees after the change, or before it for deletions.
+     */
+    public void appendToOutbox(ChangeType type, List<Employee> employees) {
+        String sql = "INSERT INTO employee_change_log (employee_id, change_type, employee_version, first_name, last_name, location, city, state, birth_day, occurred_at) " +
+                "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, LOCALTIMESTAMP)";
+        boolean tombstone = type == ChangeType.DELETED;
+        jdbcTemplate.batchUpdate(sql, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                Employee employee = employees.get(i);
+                ps.setLong(1, employee.getId());
+                ps.setString(2, type.name());
+                ps.setObject(3, employee.getVersion(), Types.BIGINT);
+                ps.setString(4, tombstone ? null : employee.getFirstName());
+                ps.setString(5, tombstone ? null : employee.getLastName());
+                ps.setString(6, tombstone ? null : employee.getLocation());
+                ps.setString(7, tombstone ? null : employee.getCity());
+                ps.setString(8, tombstone ? null : employee.getState());
+                ps.setDate(9, tombstone || employee.getBirthDay() == null ? null : Date.valueOf(employee.getBirthDay()));
+            }
+            @Override
+            public int getBatchSize() {
+                return employees.size();
+            }
+        });
+    }
+
+    /**
+     * Assigns the next sequence numbers to the oldest committed entries that have none yet.
+     *
+     * Must only be called by a single thread: sequence numbers continue from the highest one assigned so far.
+     *
+     * @param maxEntries The maximum number of entries to sequence.
+     * @return The number of entries that were sequenced.
+     */
+    public int sequencePendingEntries(int maxEntries) {
+        List<Long> pending = jdbcTemplate.queryForList(
+                "SELECT id FROM employee_change_log WHERE seq IS NULL ORDER BY id LIMIT ?", Long.class, maxEntries);
+        if (pending.isEmpty()) {
+            return 0;
+        }
+        long next = findMaxSequence() + 1;
+        jdbcTemplate.batchUpdate("UPDATE employee_change_log SET seq = ? WHERE id = ?", new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                ps.setLong(1, next + i);
+                ps.setLong(2, pending.get(i));
+            }
+            @Override
+            public int getBatchSize() {
+                return pending.size();
+            }
+        });
+        return pending.size();
+    }
+
+    /**
+     * @return The highest sequence number assigned so far, or 0.
+     */
+    public long findMaxSequence() {
+        Long max = jdbcTemplate.queryForObject("SELECT MAX(seq) FROM employee_change_log", Long.class);
+        return max != null ? max : 0L;
+    }
+
+    /**
+     * @param afterSequence The exclusive lower bound of the sequence numbers to read.
+     * @param limit         The maximum number of entries to read.
+     * @return Sequenced entries, ordered by sequence.
+     */
+    public List<EmployeeChangeLogEntry> findEntriesAfter(long afterSequence, int limit) {
+        return jdbcTemplate.query("SELECT " + COLUMNS + " FROM employee_change_log WHERE seq > ? ORDER BY seq LIMIT ?",
+                ENTRY_MAPPER, afterSequence, limit);
+    }
+
+    /**
+     * Deletes sequenced entries older than the cutoff for which a later entry of the same employee exists.
+     * The latest entry of every employee is kept, so a consumer that replays the compacted log still ends
+     * up with the current state.
+     *
+     * @return The number of deleted entries.
+     */
+    public int deleteSupersededEntries(Timestamp cutoff) {
+        return jdbcTemplate.update("DELETE FROM employee_change_log c WHERE c.seq IS NOT NULL AND c.occurred_at < ? " +
+                "AND EXISTS (SELECT 1 FROM employee_change_log n WHERE n.employee_id = c.employee_id AND n.seq > c.seq)", cutoff);
+    }
+
+    /**
+     * Deletes deletion entries older than the cutoff that are the latest entry of their employee. The entry
+     * with the highest sequence number is always kept, so that sequence numbers are never handed out twice.
+     *
+     * @return The number of deleted entries.
+     */
+    public int deleteTombstones(Timestamp cutoff) {
+        return jdbcTemplate.update("DELETE FROM employee_change_log c WHERE c.seq IS NOT NULL AND c.change_type = ? AND c.occurred_at < ? " +
+                "AND c.seq < (SELECT MAX(seq) FROM employee_change_log) " +
+                "AND NOT EXISTS (SELECT 1 FROM employee_change_log n WHERE n.employee_id = c.employee_id AND n.seq > c.seq)",
+                ChangeType.DELETED.name(), cutoff);
+    }
+}
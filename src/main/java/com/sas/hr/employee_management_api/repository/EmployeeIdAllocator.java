@@ -0,0 +1,71 @@
+package com.sas.hr.employee_management_api.repository;
+
+import com.sas.hr.employee_management_api.model.Employee;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Hands out employee ids for the JDBC insert paths from the same sequence Hibernate uses for
+ * {@link Employee#getId()}, following Hibernate's pooled optimizer.
+ *
+ * Every value {@code v} drawn from {@code employee_seq} (which increments by
+ * {@link Employee#ID_ALLOCATION_SIZE}) reserves the block {@code [v - size + 1, v]} for the caller that drew
+ * it, so ids never collide with the ones Hibernate allocates. All blocks needed for a request are drawn
+ * with a single statement.
+ */
+@Component
+public class EmployeeIdAllocator {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ReentrantLock lock = new ReentrantLock();
+    // Reserved ranges not handed out yet, each {next, last}
+    private final Deque<long[]> blocks = new ArrayDeque<>();
+
+    public EmployeeIdAllocator(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * @param count The number of ids needed.
+     * @return {@code count} unused ids, ascending within each reserved block.
+     */
+    public long[] allocate(int count) {
+        long[] ids = new long[count];
+        lock.lock();
+        try {
+            long available = blocks.stream().mapToLong(block -> block[1] - block[0] + 1).sum();
+            while (available < count) {
+                available += reserve(count - available);
+            }
+            for (int i = 0; i < count; i++) {
+                long[] block = blocks.peekFirst();
+                ids[i] = block[0]++;
+                if (block[0] > block[1]) {
+                    blocks.removeFirst();
+                }
+            }
+        } finally {
+            lock.unlock();
+        }
+        return ids;
+    }
+
+    private long reserve(long needed) {
+        int values = (int) ((needed + Employee.ID_ALLOCATION_SIZE - 1) / Employee.ID_ALLOCATION_SIZE);
+        long reserved = 0;
+        List<Long> hiValues = jdbcTemplate.queryForList(
+                "SELECT NEXT VALUE FOR " + Employee.ID_SEQUENCE + " FROM SYSTEM_RANGE(1, ?)", Long.class, values);
+        for (Long hi : hiValues) {
+            // The sequence starts at 1, so its first value only covers itself
+            long[] block = {Math.max(1, hi - Employee.ID_ALLOCATION_SIZE + 1), hi};
+            blocks.addLast(block);
+            reserved += block[1] - block[0] + 1;
+        }
+        return reserved;
+    }
+}
@@ -6,6 +6,6 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
 @Repository
-public interface EmployeeJpaRepository extends JpaRepository<Employee, Long> {
+public interface EmployeeJpaRepository extends JpaRepository<Employee, Long>, EmployeeProjectionRepository {
 
 }
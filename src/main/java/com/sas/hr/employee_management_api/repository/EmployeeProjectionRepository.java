@@ -0,0 +1,20 @@
+package com.sas.hr.employee_management_api.repository;
+
+import com.sas.hr.employee_management_api.model.Employee;
+import com.sas.hr.employee_management_api.model.EmployeeField;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Column-projecting queries for {@link EmployeeJpaRepository}. Only the requested columns are selected,
+ * the remaining attributes of the returned {@link Employee} instances are left {@code null}.
+ */
+public interface EmployeeProjectionRepository {
+
+    Page<Employee> findAllProjected(Set<EmployeeField> fields, Pageable pageable);
+
+    Optional<Employee> findProjectedById(Long id, Set<EmployeeField> fields);
+}
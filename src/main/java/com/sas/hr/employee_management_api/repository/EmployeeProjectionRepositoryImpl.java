@@ -0,0 +1,84 @@
+package com.sas.hr.employee_management_api.repository;
+
+import com.sas.hr.employee_management_api.model.Employee;
+import com.sas.hr.employee_management_api.model.EmployeeField;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import org.springframework.data.support.PageableExecutionUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+public class EmployeeProjectionRepositoryImpl implements EmployeeProjectionRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public Page<Employee> findAllProjected(Set<EmployeeField> fields, Pageable pageable) {
+        CriteriaBuilder criteriaBuilder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = criteriaBuilder.createTupleQuery();
+        Root<Employee> root = query.from(Employee.class);
+        query.multiselect(toSelections(root, fields));
+        if (pageable.getSort().isSorted()) {
+            query.orderBy(QueryUtils.toOrders(pageable.getSort(), root, criteriaBuilder));
+        }
+
+        TypedQuery<Tuple> typedQuery = entityManager.createQuery(query);
+        if (pageable.isPaged()) {
+            typedQuery.setFirstResult((int) pageable.getOffset());
+            typedQuery.setMaxResults(pageable.getPageSize());
+        }
+        List<Employee> content = typedQuery.getResultList().stream()
+                .map(tuple -> toEmployee(tuple, fields))
+                .toList();
+        return PageableExecutionUtils.getPage(content, pageable, this::countEmployees);
+    }
+
+    @Override
+    public Optional<Employee> findProjectedById(Long id, Set<EmployeeField> fields) {
+        CriteriaBuilder criteriaBuilder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = criteriaBuilder.createTupleQuery();
+        Root<Employee> root = query.from(Employee.class);
+        query.multiselect(toSelections(root, fields))
+                .where(criteriaBuilder.equal(root.get(EmployeeField.ID.getAttributeName()), id));
+
+        return entityManager.createQuery(query).getResultList().stream()
+                .findFirst()
+                .map(tuple -> toEmployee(tuple, fields));
+    }
+
+    private long countEmployees() {
+        CriteriaBuilder criteriaBuilder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Long> query = criteriaBuilder.createQuery(Long.class);
+        query.select(criteriaBuilder.count(query.from(Employee.class)));
+        return entityManager.createQuery(query).getSingleResult();
+    }
+
+    private List<Selection<?>> toSelections(Root<Employee> root, Set<EmployeeField> fields) {
+        List<Selection<?>> selections = new ArrayList<>();
+        for (EmployeeField field : fields) {
+            selections.add(root.get(field.getAttributeName()).alias(field.getFieldName()));
+        }
+        return selections;
+    }
+
+    private Employee toEmployee(Tuple tuple, Set<EmployeeField> fields) {
+        Employee employee = new Employee();
+        for (EmployeeField field : fields) {
+            field.apply(employee, tuple.get(field.getFieldName()));
+        }
+        return employee;
+    }
+}
@@ -1,24 +1,44 @@
 package com.sas.hr.employee_management_api.repository;
 
 
+import com.sas.hr.employee_management_api.config.HotPathMetrics;
 import com.sas.hr.employee_management_api.model.Employee;
+import com.sas.hr.employee_management_api.model.EmployeeField;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.dao.DataAccessException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.jdbc.core.BatchPreparedStatementSetter;
 import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
 import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
 import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
 import org.springframework.stereotype.Repository;
 
+import javax.sql.DataSource;
 import java.sql.Date;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
 
 @Slf4j
 @Repository
@@ -30,48 +50,147 @@ public class EmployeeRepository {
     @Autowired
     private NamedParameterJdbcTemplate namedParameterJdbcTemplate;
 
-    public void batchInsertEmployeesUsingJdbc(List<Employee> employees) {
-        String sql = "INSERT INTO employee (first_name, last_name, city, state, location, birth_day) VALUES (?, ?, ?, ?, ?, ?)";
+    @Autowired
+    private EmployeeIdAllocator idAllocator;
+
+    @Value("${employee.export.fetch-size:1000}")
+    private int exportFetchSize;
+
+    // Tags the employee.jdbc meters, so shard latencies can be told apart from the primary database
+    private String databaseName = "primary";
+
+    private Timer batchInsertTimer;
+    private Timer findByMonthTimer;
+    private Timer countByMonthTimer;
+    private DistributionSummary batchSizes;
+
+    /**
+     * Creates a repository over another database holding the employee schema, e.g. one shard of
+     * {@link ShardedEmployeeRepository}. Ids of new employees still come from the given allocator.
+     */
+    static EmployeeRepository forDataSource(DataSource dataSource, EmployeeIdAllocator idAllocator, int exportFetchSize,
+                                            MeterRegistry meterRegistry, String databaseName) {
+        EmployeeRepository repository = new EmployeeRepository();
+        repository.jdbcTemplate = new JdbcTemplate(dataSource);
+        repository.namedParameterJdbcTemplate = new NamedParameterJdbcTemplate(repository.jdbcTemplate);
+        repository.idAllocator = idAllocator;
+        repository.exportFetchSize = exportFetchSize;
+        repository.databaseName = databaseName;
+        repository.registerMeters(meterRegistry);
+        return repository;
+    }
+
+    @Autowired
+    void registerMeters(HotPathMetrics hotPathMetrics) {
+        registerMeters(hotPathMetrics.registry());
+    }
+
+    /**
+     * Registers the meters of this repository once: the {@code employee.jdbc} timer of each hot-path query, which
+     * also records failed runs, and {@code employee.jdbc.batch.size}, all tagged with the database they run on.
+     */
+    void registerMeters(MeterRegistry meterRegistry) {
+        this.batchInsertTimer = queryTimer(meterRegistry, "batch-insert");
+        this.findByMonthTimer = queryTimer(meterRegistry, "find-by-month");
+        this.countByMonthTimer = queryTimer(meterRegistry, "count-by-month");
+        this.batchSizes = DistributionSummary.builder("employee.jdbc.batch.size")
+                .description("Rows per JDBC insert batch")
+                .tag("database", databaseName)
+                .register(meterRegistry);
+    }
+
+    private Timer queryTimer(MeterRegistry meterRegistry, String query) {
+        return Timer.builder("employee.jdbc")
+                .description("Duration of the hot-path employee queries")
+                .tag("query", query)
+                .tag("database", databaseName)
+                .register(meterRegistry);
+    }
+
+    /**
+     * Inserts employees with a single JDBC batch. Employees without an id get one from the
+     * {@link EmployeeIdAllocator}, so the ids are known without reading generated keys back.
+     *
+     * @param employees The employees to insert; their id (if missing) and version are set.
+     * @return The ids of the inserted employees, in the order of {@code employees}.
+     */
+    public List<Long> batchInsertEmployeesUsingJdbc(List<Employee> employees) {
+        batchSizes.record(employees.size());
+        return batchInsertTimer.record(() -> insertBatch(employees));
+    }
+
+    private List<Long> insertBatch(List<Employee> employees) {
+        assignIds(employees);
+        String sql = "INSERT INTO employee (id, first_name, last_name, city, state, location, birth_day, content_hash, version) VALUES (?, ?, ?, ?, ?, ?, ?, ?, 0)";
         try{
             jdbcTemplate.batchUpdate(sql, new BatchPreparedStatementSetter() {
                 @Override
                 public void setValues(PreparedStatement ps, int i) throws SQLException {
                     Employee employee = employees.get(i);
-                    ps.setString(1, employee.getFirstName());
-                    ps.setString(2, employee.getLastName());
-                    ps.setString(3,employee.getCity());
-                    ps.setString(4,employee.getState());
-                    ps.setString(5, employee.getLocation());
-                    ps.setDate(6, employee.getBirthDay() != null ? Date.valueOf(employee.getBirthDay()) : null);
+                    ps.setLong(1, employee.getId());
+                    ps.setString(2, employee.getFirstName());
+                    ps.setString(3, employee.getLastName());
+                    ps.setString(4,employee.getCity());
+                    ps.setString(5,employee.getState());
+                    ps.setString(6, employee.getLocation());
+                    ps.setDate(7, employee.getBirthDay() != null ? Date.valueOf(employee.getBirthDay()) : null);
+                    ps.setLong(8, employee.computeContentHash());
                 }
                 @Override
                 public int getBatchSize() {
                     return employees.size();
                 }
             });
+            employees.forEach(employee -> employee.setVersion(0L));
+            return employees.stream().map(Employee::getId).toList();
         }catch (DataAccessException ex){
             log.error("Error occurred while performing batch insert: {}", ex.getMessage(), ex);
             throw new RuntimeException("Batch insert failed due to database access error.", ex);
         }
     }
 
-    private Employee toEmployee(ResultSet rs) throws SQLException {
+    private void assignIds(List<Employee> employees) {
+        List<Employee> withoutId = employees.stream().filter(employee -> employee.getId() == null).toList();
+        if (withoutId.isEmpty()) {
+            return;
+        }
+        long[] ids = idAllocator.allocate(withoutId.size());
+        for (int i = 0; i < ids.length; i++) {
+            withoutId.get(i).setId(ids[i]);
+        }
+    }
+
+    private Employee toEmployee(ResultSet rs, Set<EmployeeField> fields) throws SQLException {
         Employee employee = new Employee();
-        employee.setId(rs.getLong("id"));
-        employee.setFirstName(rs.getString("first_name"));
-        employee.setLastName(rs.getString("last_name"));
-        employee.setLocation(rs.getString("location"));
-        employee.setBirthDay(rs.getDate("birth_day").toLocalDate());
+        for (EmployeeField field : fields) {
+            field.apply(employee, rs.getObject(field.getColumnName(), field.getJavaType()));
+        }
         return employee;
     }
 
-
     public Page<Employee> findEmployeesByBirthdayMonth(int month, Pageable pageable) {
+        return findEmployeesByBirthdayMonth(month, pageable, EmployeeField.ALL);
+    }
+
+    /**
+     * Finds the employees born in the given month, selecting only the requested columns.
+     * Columns that are not part of {@code fields} are left {@code null} on the returned entities.
+     *
+     * @param month    The birth month (1-12).
+     * @param pageable The pagination information.
+     * @param fields   The columns to select; {@link EmployeeField#ID} is expected to be part of it.
+     * @return A page of partially populated {@link Employee} entities.
+     */
+    public Page<Employee> findEmployeesByBirthdayMonth(int month, Pageable pageable, Set<EmployeeField> fields) {
+        return findByMonthTimer.record(() -> queryEmployeesByBirthdayMonth(month, pageable, fields));
+    }
+
+    private Page<Employee> queryEmployeesByBirthdayMonth(int month, Pageable pageable, Set<EmployeeField> fields) {
         MapSqlParameterSource params = new MapSqlParameterSource("month", month).addValue("limit", pageable.getPageSize()).addValue("offset", (pageable.getPageNumber() * pageable.getPageSize()));
-        String sql = "SELECT * FROM employee e WHERE EXTRACT(MONTH FROM e.birth_day) = :month  LIMIT :limit OFFSET :offset";
+        String sql = "SELECT " + EmployeeField.selectColumns(fields) + " FROM employee e WHERE EXTRACT(MONTH FROM e.birth_day) = :month AND e.deleted_at IS NULL" + EmployeeField.orderByClause(pageable.getSort()) + " LIMIT :limit OFFSET :offset";
         try{
             List<Employee> result = namedParameterJdbcTemplate.query(sql, params ,(resultSet, i) -> {
-                return toEmployee(resultSet);
+                return toEmployee(resultSet, fields);
             });
             int totalRecords = countEmployeesByBirthdayMonth(month);
 
@@ -84,12 +203,352 @@ public class EmployeeRepository {
 
     }
 
+    /**
+     * Reads the first {@code limit} employees in the given order, optionally only those born in the given month.
+     *
+     * @param month  Optional birth month (1-12) to filter on, or null.
+     * @param sort   The order of the rows; must not be unsorted.
+     * @param limit  The maximum number of rows to read.
+     * @param fields The columns to select.
+     * @return The partially populated employees, in {@code sort} order.
+     */
+    public List<Employee> findFirstEmployees(Integer month, Sort sort, int limit, Set<EmployeeField> fields) {
+        MapSqlParameterSource params = new MapSqlParameterSource("month", month).addValue("limit", limit);
+        String sql = "SELECT " + EmployeeField.selectColumns(fields) + " FROM employee WHERE deleted_at IS NULL" +
+                (month != null ? " AND EXTRACT(MONTH FROM birth_day) = :month" : "") + EmployeeField.orderByClause(sort) + " LIMIT :limit";
+        return namedParameterJdbcTemplate.query(sql, params, (resultSet, i) -> toEmployee(resultSet, fields));
+    }
+
+    public Optional<Employee> findEmployeeById(Long id, Set<EmployeeField> fields) {
+        String sql = "SELECT " + EmployeeField.selectColumns(fields) + " FROM employee WHERE id = :id AND deleted_at IS NULL";
+        List<Employee> found = namedParameterJdbcTemplate.query(sql, new MapSqlParameterSource("id", id), (resultSet, i) -> toEmployee(resultSet, fields));
+        return found.stream().findFirst();
+    }
+
+    public int countEmployees() {
+        Integer count = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM employee WHERE deleted_at IS NULL", Integer.class);
+        return (count != null) ? count : 0;
+    }
+
+    /**
+     * @return Whether the table holds any row at all, including soft-deleted rows that have not been purged yet.
+     */
+    public boolean hasRows() {
+        return Boolean.TRUE.equals(jdbcTemplate.queryForObject("SELECT EXISTS (SELECT 1 FROM employee)", Boolean.class));
+    }
+
     public int countEmployeesByBirthdayMonth(int month) {
-        String sql = "SELECT COUNT(*) FROM employee WHERE EXTRACT(MONTH FROM birth_day) = :month";
+        return countByMonthTimer.record(() -> queryCountByBirthdayMonth(month));
+    }
+
+    private int queryCountByBirthdayMonth(int month) {
+        String sql = "SELECT COUNT(*) FROM employee WHERE EXTRACT(MONTH FROM birth_day) = :month AND deleted_at IS NULL";
         MapSqlParameterSource params = new MapSqlParameterSource("month", month);
         Integer count = namedParameterJdbcTemplate.queryForObject(sql, params, Integer.class);
         return (count != null) ? count : 0;
     }
 
+    /**
+     * Reads the current rows of the given employees and locks them until the surrounding transaction ends,
+     * so a batch can decide per row whether it is missing or stale before writing.
+     *
+     * @param ids The ids to read.
+     * @return The existing employees among {@code ids}, in no particular order.
+     */
+    public List<Employee> findEmployeesByIdsForUpdate(Collection<Long> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        String sql = "SELECT " + EmployeeField.selectColumns(EmployeeField.ALL) + " FROM employee WHERE id IN (:ids) AND deleted_at IS NULL FOR UPDATE";
+        return namedParameterJdbcTemplate.query(sql, new MapSqlParameterSource("ids", ids), (resultSet, i) -> toEmployee(resultSet, EmployeeField.ALL));
+    }
+
+    /**
+     * Updates employees with a single JDBC batch. Each row is only updated if its version equals the
+     * corresponding expected version; a null expected version updates unconditionally.
+     *
+     * @param employees        The new attributes; the id of each selects the row to update.
+     * @param expectedVersions The expected version per employee, same order and size as {@code employees}.
+     * @return The number of rows updated per employee (0 or 1).
+     */
+    public int[] batchUpdateEmployeesUsingJdbc(List<Employee> employees, List<Long> expectedVersions) {
+        String sql = "UPDATE employee SET first_name = ?, last_name = ?, city = ?, state = ?, location = ?, birth_day = ?, content_hash = ?, " +
+                "version = version + 1 WHERE id = ? AND deleted_at IS NULL AND (CAST(? AS BIGINT) IS NULL OR version = ?)";
+        return jdbcTemplate.batchUpdate(sql, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                Employee employee = employees.get(i);
+                Long expectedVersion = expectedVersions.get(i);
+                ps.setString(1, employee.getFirstName());
+                ps.setString(2, employee.getLastName());
+                ps.setString(3, employee.getCity());
+                ps.setString(4, employee.getState());
+                ps.setString(5, employee.getLocation());
+                ps.setDate(6, employee.getBirthDay() != null ? Date.valueOf(employee.getBirthDay()) : null);
+                ps.setLong(7, employee.computeContentHash());
+                ps.setLong(8, employee.getId());
+                ps.setObject(9, expectedVersion, Types.BIGINT);
+                ps.setObject(10, expectedVersion, Types.BIGINT);
+            }
+            @Override
+            public int getBatchSize() {
+                return employees.size();
+            }
+        });
+    }
+
+    /**
+     * Inserts employees exactly as given, keeping their ids and versions, with a single JDBC batch.
+     * Used to restore a snapshot; afterwards {@link #restartIdSequenceAfter(long)} must move the id
+     * sequence past the restored ids.
+     *
+     * @param employees The employees to insert, each with an id and a version.
+     */
+    public void batchRestoreEmployeesUsingJdbc(List<Employee> employees) {
+        String sql = "INSERT INTO employee (id, first_name, last_name, city, state, location, birth_day, content_hash, version) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)";
+        jdbcTemplate.batchUpdate(sql, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                Employee employee = employees.get(i);
+                ps.setLong(1, employee.getId());
+                ps.setString(2, employee.getFirstName());
+                ps.setString(3, employee.getLastName());
+                ps.setString(4, employee.getCity());
+                ps.setString(5, employee.getState());
+                ps.setString(6, employee.getLocation());
+                ps.setDate(7, employee.getBirthDay() != null ? Date.valueOf(employee.getBirthDay()) : null);
+                ps.setLong(8, employee.computeContentHash());
+                ps.setLong(9, employee.getVersion());
+            }
+            @Override
+            public int getBatchSize() {
+                return employees.size();
+            }
+        });
+    }
+
+    /**
+     * Restarts the id sequence so that the next block it hands out starts right after the given id.
+     * Must only be called before any id has been allocated, e.g. while restoring a snapshot at startup.
+     *
+     * @param maxId The highest id in use.
+     */
+    public void restartIdSequenceAfter(long maxId) {
+        // A sequence value v reserves the block [v - allocation size + 1, v]
+        jdbcTemplate.execute("ALTER SEQUENCE " + Employee.ID_SEQUENCE + " RESTART WITH " + (maxId + Employee.ID_ALLOCATION_SIZE));
+    }
+
+    /**
+     * Soft-deletes employees with a single JDBC batch, see {@link #deleteEmployeeById(Long)}.
+     *
+     * @param ids The ids of the employees to delete.
+     * @return The number of rows deleted per id (0 or 1).
+     */
+    public int[] batchDeleteEmployeesUsingJdbc(List<Long> ids) {
+        return jdbcTemplate.batchUpdate("UPDATE employee SET deleted_at = LOCALTIMESTAMP WHERE id = ? AND deleted_at IS NULL", new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                ps.setLong(1, ids.get(i));
+            }
+            @Override
+            public int getBatchSize() {
+                return ids.size();
+            }
+        });
+    }
+
+    /**
+     * Replaces the attributes of an employee and increments its version in a single statement.
+     *
+     * The UPDATE runs inside an H2 data change delta table ({@code OLD TABLE}), so the same round trip
+     * returns the row as it was before the update; no read-before-write is needed. The updated row is
+     * fully determined by {@code employee} and the old version, so it does not have to be read back.
+     *
+     * @param employee        The new attributes; its id selects the row to update.
+     * @param expectedVersion When not null, the row is only updated if its version still equals this value.
+     * @return The row before the update, or empty when no row matched the id (and version).
+     */
+    public Optional<Employee> updateEmployee(Employee employee, Long expectedVersion) {
+        MapSqlParameterSource params = new MapSqlParameterSource("id", employee.getId())
+                .addValue("firstName", employee.getFirstName())
+                .addValue("lastName", employee.getLastName())
+                .addValue("city", employee.getCity())
+                .addValue("state", employee.getState())
+                .addValue("location", employee.getLocation())
+                .addValue("birthDay", employee.getBirthDay() != null ? Date.valueOf(employee.getBirthDay()) : null)
+                .addValue("contentHash", employee.computeContentHash())
+                .addValue("expectedVersion", expectedVersion);
+        String sql = "SELECT " + EmployeeField.selectColumns(EmployeeField.ALL) + " FROM OLD TABLE (UPDATE employee SET first_name = :firstName, last_name = :lastName, " +
+                "city = :city, state = :state, location = :location, birth_day = :birthDay, content_hash = :contentHash, version = version + 1 " +
+                "WHERE id = :id AND deleted_at IS NULL" +
+                (expectedVersion != null ? " AND version = :expectedVersion" : "") + ")";
+        List<Employee> previous = namedParameterJdbcTemplate.query(sql, params, (resultSet, i) -> toEmployee(resultSet, EmployeeField.ALL));
+        return previous.stream().findFirst();
+    }
+
+    /**
+     * Writes only the given columns of an employee and increments its version, in a single statement.
+     *
+     * Every column is compared with {@code IS DISTINCT FROM}, so a patch that would not change anything
+     * matches no row and is not written. Like {@link #updateEmployee(Employee, Long)} the UPDATE runs
+     * inside an H2 {@code OLD TABLE}, which returns the row as it was before the update.
+     *
+     * @param id              The id of the employee to patch.
+     * @param changes         The columns to write with their new values; must not be empty.
+     * @param expectedVersion When not null, the row is only updated if its version still equals this value.
+     * @return The row before the update, or empty when no row matched the id (and version) or nothing changed.
+     */
+    public Optional<Employee> patchEmployee(Long id, Map<EmployeeField, Object> changes, Long expectedVersion) {
+        MapSqlParameterSource params = new MapSqlParameterSource("id", id).addValue("expectedVersion", expectedVersion);
+        List<String> assignments = new ArrayList<>();
+        List<String> differences = new ArrayList<>();
+        changes.forEach((field, value) -> {
+            String column = field.getColumnName();
+            if (field.getJavaType() == LocalDate.class) {
+                params.addValue(column, value != null ? Date.valueOf((LocalDate) value) : null, Types.DATE);
+            } else {
+                params.addValue(column, value, Types.VARCHAR);
+            }
+            assignments.add(column + " = :" + column);
+            differences.add(column + " IS DISTINCT FROM :" + column);
+        });
+        // Only some columns are known here, so the content hash is cleared and the next delta import rewrites the row
+        String sql = "SELECT " + EmployeeField.selectColumns(EmployeeField.ALL) + " FROM OLD TABLE (UPDATE employee SET " + String.join(", ", assignments) +
+                ", content_hash = NULL, version = version + 1 WHERE id = :id AND deleted_at IS NULL" + (expectedVersion != null ? " AND version = :expectedVersion" : "") +
+                " AND (" + String.join(" OR ", differences) + "))";
+        List<Employee> previous = namedParameterJdbcTemplate.query(sql, params, (resultSet, i) -> toEmployee(resultSet, EmployeeField.ALL));
+        return previous.stream().findFirst();
+    }
+
+    /**
+     * Soft-deletes an employee in a single statement and returns the deleted row, read from the H2
+     * {@code OLD TABLE} of the UPDATE in the same round trip. The row only gets a {@code deleted_at},
+     * which hides it from every query; {@link #purgeDeletedEmployees(Timestamp, int)} removes it later.
+     *
+     * @param id The id of the employee to delete.
+     * @return The deleted row, or empty when no employee has this id.
+     */
+    public Optional<Employee> deleteEmployeeById(Long id) {
+        String sql = "SELECT " + EmployeeField.selectColumns(EmployeeField.ALL) + " FROM OLD TABLE (UPDATE employee SET deleted_at = LOCALTIMESTAMP WHERE id = :id AND deleted_at IS NULL)";
+        List<Employee> deleted = namedParameterJdbcTemplate.query(sql, new MapSqlParameterSource("id", id), (resultSet, i) -> toEmployee(resultSet, EmployeeField.ALL));
+        return deleted.stream().findFirst();
+    }
 
+    /**
+     * Soft-deletes the next chunk of at most {@code limit} employees matching the filters, in id order after
+     * {@code afterId}. Only the {@code deleted_at} column is written; the rows are reclaimed later by
+     * {@link #purgeDeletedEmployees(Timestamp, int)}. Callers page through all matches by passing the highest
+     * id of the previous chunk, so every statement stays bounded and starts with an index seek.
+     *
+     * @param month   Optional birth month (1-12) to filter on, or null.
+     * @param state   Optional state to filter on, or null.
+     * @param afterId Only employees with a greater id are deleted; 0 for the first chunk.
+     * @param limit   The maximum number of employees to delete.
+     * @return The deleted rows; fewer than {@code limit} once no match is left.
+     */
+    public List<Employee> softDeleteEmployees(Integer month, String state, long afterId, int limit) {
+        MapSqlParameterSource params = new MapSqlParameterSource("month", month)
+                .addValue("state", state)
+                .addValue("afterId", afterId)
+                .addValue("limit", limit);
+        String sql = "SELECT " + EmployeeField.selectColumns(EmployeeField.ALL) + " FROM OLD TABLE (UPDATE employee SET deleted_at = LOCALTIMESTAMP " +
+                "WHERE deleted_at IS NULL AND id IN (SELECT id FROM employee WHERE deleted_at IS NULL AND id > :afterId" +
+                (month != null ? " AND EXTRACT(MONTH FROM birth_day) = :month" : "") +
+                (state != null ? " AND state = :state" : "") + " ORDER BY id FETCH FIRST :limit ROWS ONLY))";
+        return namedParameterJdbcTemplate.query(sql, params, (resultSet, i) -> toEmployee(resultSet, EmployeeField.ALL));
+    }
+
+    /**
+     * Hard-deletes at most {@code limit} employees that were soft-deleted before the cutoff.
+     *
+     * @return The number of purged rows; less than {@code limit} once no tombstone older than the cutoff is left.
+     */
+    public int purgeDeletedEmployees(Timestamp cutoff, int limit) {
+        return jdbcTemplate.update("DELETE FROM employee WHERE deleted_at < ? FETCH FIRST ? ROWS ONLY", cutoff, limit);
+    }
+
+    /**
+     * Streams every employee matching the optional filters to the given consumer, ordered by id.
+     *
+     * The statement is executed with a forward-only, read-only cursor and a tuned fetch size so that rows
+     * are pulled from the database in chunks while they are consumed; the result set is never materialized.
+     *
+     * @param month    Optional birth month (1-12) to filter on, or null.
+     * @param state    Optional state to filter on, or null.
+     * @param consumer Receives each employee in turn.
+     */
+    public void streamEmployees(Integer month, String state, Consumer<Employee> consumer) {
+        StringBuilder where = new StringBuilder("deleted_at IS NULL");
+        List<Object> params = new ArrayList<>();
+        if (month != null) {
+            where.append(" AND EXTRACT(MONTH FROM birth_day) = ?");
+            params.add(month);
+        }
+        if (state != null) {
+            where.append(" AND state = ?");
+            params.add(state);
+        }
+        streamEmployees(where.toString(), params, consumer);
+    }
+
+    /**
+     * Streams the id, version, stored content hash and the given key columns of every employee, e.g. to match
+     * the rows of a delta import. Only these columns are read, with the same streaming cursor as
+     * {@link #streamEmployees(Integer, String, Consumer)}.
+     *
+     * @param keyFields The natural key columns to read.
+     * @param consumer  Receives each employee in turn, with only the requested columns and the content hash set.
+     */
+    public void streamEmployeeContentHashes(Set<EmployeeField> keyFields, Consumer<Employee> consumer) {
+        EnumSet<EmployeeField> fields = EnumSet.of(EmployeeField.ID, EmployeeField.VERSION);
+        fields.addAll(keyFields);
+        String sql = "SELECT " + EmployeeField.selectColumns(fields) + ", content_hash FROM employee WHERE deleted_at IS NULL";
+        jdbcTemplate.query(connection -> {
+            PreparedStatement ps = connection.prepareStatement(sql, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            ps.setFetchSize(exportFetchSize);
+            return ps;
+        }, (RowCallbackHandler) rs -> {
+            Employee employee = toEmployee(rs, fields);
+            employee.setContentHash(rs.getObject("content_hash", Long.class));
+            consumer.accept(employee);
+        });
+    }
+
+    private void streamEmployees(String where, List<Object> params, Consumer<Employee> consumer) {
+        String sql = "SELECT " + EmployeeField.selectColumns(EmployeeField.ALL) + " FROM employee WHERE " + where + " ORDER BY id";
+        jdbcTemplate.query(connection -> {
+            PreparedStatement ps = connection.prepareStatement(sql, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            ps.setFetchSize(exportFetchSize);
+            for (int i = 0; i < params.size(); i++) {
+                ps.setObject(i + 1, params.get(i));
+            }
+            return ps;
+        }, (RowCallbackHandler) rs -> consumer.accept(toEmployee(rs, EmployeeField.ALL)));
+    }
+
+    /**
+     * Counts the employees per distinct value of the given column, e.g. the headcount per state.
+     * Rows with a null value are counted under a null key.
+     *
+     * @param field The column to group by.
+     * @return The number of employees for each distinct value.
+     */
+    public Map<String, Long> countEmployeesGroupedBy(EmployeeField field) {
+        String sql = "SELECT " + field.getColumnName() + ", COUNT(*) FROM employee WHERE deleted_at IS NULL GROUP BY " + field.getColumnName();
+        Map<String, Long> counts = new HashMap<>();
+        jdbcTemplate.query(sql, (RowCallbackHandler) rs -> counts.put(rs.getString(1), rs.getLong(2)));
+        return counts;
+    }
+
+    /**
+     * Counts the employees per birth month (1-12). Employees without a birth date are not counted.
+     *
+     * @return The number of employees born in each month that has at least one employee.
+     */
+    public Map<Integer, Long> countEmployeesGroupedByBirthMonth() {
+        String sql = "SELECT EXTRACT(MONTH FROM birth_day), COUNT(*) FROM employee WHERE birth_day IS NOT NULL AND deleted_at IS NULL GROUP BY EXTRACT(MONTH FROM birth_day)";
+        Map<Integer, Long> counts = new HashMap<>();
+        jdbcTemplate.query(sql, (RowCallbackHandler) rs -> counts.put(rs.getInt(1), rs.getLong(2)));
+        return counts;
+    }
 }
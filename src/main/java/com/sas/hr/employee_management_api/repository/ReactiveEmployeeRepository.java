@@ -0,0 +1,113 @@
+package com.sas.hr.employee_management_api.repository;
+
+import com.sas.hr.employee_management_api.model.Employee;
+import com.sas.hr.employee_management_api.model.EmployeeField;
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.pool.ConnectionPoolConfiguration;
+import io.r2dbc.spi.ConnectionFactories;
+import io.r2dbc.spi.ConnectionFactoryOptions;
+import io.r2dbc.spi.Row;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Pageable;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.Set;
+
+/**
+ * Non-blocking read access to the employee table over R2DBC.
+ *
+ * It connects to the same H2 database as the JDBC {@code DataSource} and shares its schema. The R2DBC
+ * connection pool is deliberately not exposed as a {@code ConnectionFactory} bean: Spring Boot would
+ * otherwise back off from auto-configuring the JDBC {@code DataSource} that JPA and the rest of the
+ * application run on.
+ */
+@Slf4j
+@Repository
+public class ReactiveEmployeeRepository implements DisposableBean {
+
+    private final ConnectionPool connectionPool;
+    private final DatabaseClient databaseClient;
+
+    public ReactiveEmployeeRepository(@Value("${employee.reactive.url:r2dbc:h2:mem:///testdb?options=DB_CLOSE_DELAY=-1}") String url,
+                                      @Value("${spring.datasource.username:sa}") String username,
+                                      @Value("${spring.datasource.password:}") String password,
+                                      @Value("${employee.reactive.pool.max-size:10}") int maxSize) {
+        ConnectionFactoryOptions options = ConnectionFactoryOptions.parse(url).mutate()
+                .option(ConnectionFactoryOptions.USER, username)
+                .option(ConnectionFactoryOptions.PASSWORD, password)
+                .build();
+        this.connectionPool = new ConnectionPool(ConnectionPoolConfiguration.builder(ConnectionFactories.get(options))
+                .initialSize(0)
+                .maxSize(maxSize)
+                .build());
+        this.databaseClient = DatabaseClient.create(connectionPool);
+    }
+
+    /**
+     * Streams one page of employees, selecting only the requested columns.
+     * Rows are emitted as they are read and only as fast as the subscriber requests them.
+     *
+     * @param pageable The page to read; its sort must only use attributes known to {@link EmployeeField}.
+     * @param fields   The columns to select.
+     * @return The employees of the page, in the requested order.
+     */
+    public Flux<Employee> findAll(Pageable pageable, Set<EmployeeField> fields) {
+        String sql = "SELECT " + EmployeeField.selectColumns(fields) + " FROM employee WHERE deleted_at IS NULL" + EmployeeField.orderByClause(pageable.getSort()) + " LIMIT :limit OFFSET :offset";
+        return databaseClient.sql(sql)
+                .bind("limit", pageable.getPageSize())
+                .bind("offset", pageable.getOffset())
+                .map((row, metadata) -> toEmployee(row, fields))
+                .all();
+    }
+
+    /**
+     * Streams one page of the employees born in the given month, selecting only the requested columns.
+     *
+     * @param month    The birth month (1-12).
+     * @param pageable The page to read.
+     * @param fields   The columns to select.
+     * @return The employees of the page, in the requested order.
+     */
+    public Flux<Employee> findByBirthMonth(int month, Pageable pageable, Set<EmployeeField> fields) {
+        String sql = "SELECT " + EmployeeField.selectColumns(fields) + " FROM employee WHERE EXTRACT(MONTH FROM birth_day) = :month AND deleted_at IS NULL" +
+                EmployeeField.orderByClause(pageable.getSort()) + " LIMIT :limit OFFSET :offset";
+        return databaseClient.sql(sql)
+                .bind("month", month)
+                .bind("limit", pageable.getPageSize())
+                .bind("offset", pageable.getOffset())
+                .map((row, metadata) -> toEmployee(row, fields))
+                .all();
+    }
+
+    /**
+     * Reads a single employee, selecting only the requested columns.
+     *
+     * @param id     The employee id.
+     * @param fields The columns to select.
+     * @return The employee, or an empty {@link Mono} if there is none with this id.
+     */
+    public Mono<Employee> findById(Long id, Set<EmployeeField> fields) {
+        return databaseClient.sql("SELECT " + EmployeeField.selectColumns(fields) + " FROM employee WHERE id = :id AND deleted_at IS NULL")
+                .bind("id", id)
+                .map((row, metadata) -> toEmployee(row, fields))
+                .one();
+    }
+
+    private Employee toEmployee(Row row, Set<EmployeeField> fields) {
+        Employee employee = new Employee();
+        for (EmployeeField field : fields) {
+            field.apply(employee, row.get(field.getColumnName(), field.getJavaType()));
+        }
+        return employee;
+    }
+
+    @Override
+    public void destroy() {
+        connectionPool.dispose();
+    }
+}
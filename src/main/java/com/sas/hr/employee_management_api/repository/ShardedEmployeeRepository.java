@@ -0,0 +1,318 @@
+package com.sas.hr.employee_management_api.repository;
+
+import com.sas.hr.employee_management_api.config.HotPathMetrics;
+import com.sas.hr.employee_management_api.model.Employee;
+import com.sas.hr.employee_management_api.model.EmployeeField;
+import com.zaxxer.hikari.HikariDataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.flywaydb.core.Flyway;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Optional hash-sharded employee storage ({@code employee.sharding.enabled=true}).
+ *
+ * Employees are partitioned by a hash of their id across {@code employee.sharding.shard-count} databases
+ * (by default in-memory H2 instances built from {@code employee.sharding.url-template}), each with its own
+ * connection pool and the schema of the Flyway migrations. Ids still come from the primary database's pooled
+ * sequence, so they are unique across shards and known before the shard is picked.
+ *
+ * Point reads and writes go to the one shard that owns the id. Listings ask every shard in parallel for its
+ * first {@code offset + size} rows in the requested order and merge them with a k-way merge, so sort order and
+ * paging are the same as with a single database; the cost grows with the page offset. Imports are split by
+ * shard and written to all shards in parallel, each shard in batches of its own transactions, so an import that
+ * fails part way leaves the batches already committed on other shards in place.
+ */
+@Slf4j
+@Repository
+public class ShardedEmployeeRepository implements DisposableBean {
+
+    private static final Sort ID_SORT = Sort.by(EmployeeField.ID.getAttributeName());
+
+    private record Shard(HikariDataSource dataSource, EmployeeRepository repository, TransactionTemplate transactionTemplate) {}
+
+    private final boolean enabled;
+    private final EmployeeIdAllocator idAllocator;
+    private final List<Shard> shards;
+    private final ExecutorService executor;
+
+    public ShardedEmployeeRepository(EmployeeIdAllocator idAllocator,
+                                     HotPathMetrics hotPathMetrics,
+                                     @Value("${employee.sharding.enabled:false}") boolean enabled,
+                                     @Value("${employee.sharding.shard-count:4}") int shardCount,
+                                     @Value("${employee.sharding.url-template:jdbc:h2:mem:employee_shard_%d;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE}") String urlTemplate,
+                                     @Value("${employee.sharding.pool-size:5}") int poolSize,
+                                     @Value("${spring.datasource.username:sa}") String username,
+                                     @Value("${spring.datasource.password:}") String password,
+                                     @Value("${employee.export.fetch-size:1000}") int fetchSize) {
+        this.enabled = enabled;
+        this.idAllocator = idAllocator;
+        this.shards = new ArrayList<>();
+        if (!enabled) {
+            this.executor = null;
+            return;
+        }
+        for (int i = 0; i < shardCount; i++) {
+            HikariDataSource dataSource = new HikariDataSource();
+            dataSource.setPoolName("employee-shard-" + i);
+            dataSource.setJdbcUrl(String.format(urlTemplate, i));
+            dataSource.setUsername(username);
+            dataSource.setPassword(password);
+            dataSource.setMaximumPoolSize(poolSize);
+            Flyway.configure().dataSource(dataSource).locations("classpath:db/migration").load().migrate();
+            shards.add(new Shard(dataSource, EmployeeRepository.forDataSource(dataSource, idAllocator, fetchSize,
+                    hotPathMetrics.registry(), "shard-" + i),
+                    new TransactionTemplate(new DataSourceTransactionManager(dataSource))));
+        }
+        this.executor = Executors.newFixedThreadPool(shardCount, Thread.ofPlatform().name("employee-shard-", 0).daemon().factory());
+        log.info("Sharding employees across {} databases ({})", shardCount, String.format(urlTemplate, 0));
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * @return The index of the shard that owns the given id.
+     */
+    static int shardOf(long id, int shardCount) {
+        // Ids are handed out in blocks; mix the bits so consecutive ids spread over the shards
+        long hash = id * 0x9E3779B97F4A7C15L;
+        return Math.floorMod((int) (hash ^ (hash >>> 32)), shardCount);
+    }
+
+    private EmployeeRepository shardFor(long id) {
+        return shards.get(shardOf(id, shards.size())).repository();
+    }
+
+    public Optional<Employee> findEmployeeById(Long id, Set<EmployeeField> fields) {
+        return shardFor(id).findEmployeeById(id, fields);
+    }
+
+    public Optional<Employee> updateEmployee(Employee employee, Long expectedVersion) {
+        return shardFor(employee.getId()).updateEmployee(employee, expectedVersion);
+    }
+
+    public Optional<Employee> patchEmployee(Long id, Map<EmployeeField, Object> changes, Long expectedVersion) {
+        return shardFor(id).patchEmployee(id, changes, expectedVersion);
+    }
+
+    public Optional<Employee> deleteEmployeeById(Long id) {
+        return shardFor(id).deleteEmployeeById(id);
+    }
+
+    /**
+     * Soft-deletes every employee matching the filters on all shards in parallel. Each shard works through its
+     * matches in chunks of at most {@code chunkSize} rows, one shard transaction per chunk, see
+     * {@link EmployeeRepository#softDeleteEmployees(Integer, String, long, int)}.
+     *
+     * @param inTransaction Called with the rows of every chunk before its shard transaction commits.
+     * @return The number of deleted employees over all shards.
+     */
+    public int softDeleteEmployees(Integer month, String state, int chunkSize, Consumer<List<Employee>> inTransaction) {
+        return join(shards.stream().map(shard -> CompletableFuture.supplyAsync(() -> {
+            int deleted = 0;
+            long afterId = 0;
+            List<Employee> chunk;
+            do {
+                long from = afterId;
+                chunk = shard.transactionTemplate().execute(status -> {
+                    List<Employee> rows = shard.repository().softDeleteEmployees(month, state, from, chunkSize);
+                    if (!rows.isEmpty()) {
+                        inTransaction.accept(rows);
+                    }
+                    return rows;
+                });
+                deleted += chunk.size();
+                afterId = chunk.stream().mapToLong(Employee::getId).max().orElse(afterId);
+            } while (chunk.size() == chunkSize);
+            return deleted;
+        }, executor)).toList()).stream()
+                .mapToInt(Integer::intValue)
+                .sum();
+    }
+
+    /**
+     * Hard-deletes at most {@code limit} tombstones older than the cutoff on every shard.
+     *
+     * @return The number of purged rows over all shards.
+     */
+    public int purgeDeletedEmployees(Timestamp cutoff, int limit) {
+        return join(scatter(repository -> repository.purgeDeletedEmployees(cutoff, limit))).stream()
+                .mapToInt(Integer::intValue)
+                .sum();
+    }
+
+    /**
+     * Inserts one employee into the shard owning its id, allocating the id first if it has none, and calls
+     * {@code inTransaction} within the same shard transaction. Change events published there are delivered to
+     * after-commit listeners once the shard has committed, and not at all if it rolls back.
+     *
+     * @param employee      The employee to insert; its id (if missing) and version are set.
+     * @param inTransaction Called with the inserted employee before the shard transaction commits.
+     */
+    public void insertEmployee(Employee employee, Consumer<Employee> inTransaction) {
+        if (employee.getId() == null) {
+            employee.setId(idAllocator.allocate(1)[0]);
+        }
+        Shard shard = shards.get(shardOf(employee.getId(), shards.size()));
+        shard.transactionTemplate().executeWithoutResult(status -> {
+            shard.repository().batchInsertEmployeesUsingJdbc(List.of(employee));
+            inTransaction.accept(employee);
+        });
+    }
+
+    /**
+     * Inserts employees into the shards owning their ids, all shards in parallel. Employees without an id
+     * get one from the {@link EmployeeIdAllocator} first.
+     *
+     * @param employees The employees to insert; their id (if missing) and version are set.
+     * @param batchSize The number of rows each shard inserts per batch and transaction.
+     * @return The ids of the inserted employees, in the order of {@code employees}.
+     */
+    public List<Long> batchInsertEmployees(List<Employee> employees, int batchSize) {
+        List<Employee> withoutId = employees.stream().filter(employee -> employee.getId() == null).toList();
+        long[] ids = idAllocator.allocate(withoutId.size());
+        for (int i = 0; i < ids.length; i++) {
+            withoutId.get(i).setId(ids[i]);
+        }
+        Map<Integer, List<Employee>> byShard = employees.stream()
+                .collect(Collectors.groupingBy(employee -> shardOf(employee.getId(), shards.size())));
+        join(byShard.entrySet().stream().map(entry -> CompletableFuture.runAsync(() -> {
+            Shard shard = shards.get(entry.getKey());
+            List<Employee> rows = entry.getValue();
+            for (int i = 0; i < rows.size(); i += batchSize) {
+                List<Employee> batch = rows.subList(i, Math.min(i + batchSize, rows.size()));
+                shard.transactionTemplate().executeWithoutResult(status -> shard.repository().batchInsertEmployeesUsingJdbc(batch));
+            }
+        }, executor)).toList());
+        return employees.stream().map(Employee::getId).toList();
+    }
+
+    /**
+     * Reads one page of employees across all shards, optionally only those born in the given month.
+     *
+     * @param month    Optional birth month (1-12) to filter on, or null.
+     * @param pageable The page; an unsorted page is sorted by id, and id is always the final tie-breaker.
+     * @param fields   The columns to return; the sort columns are read as well but left {@code null}.
+     * @return The page, with the total over all shards.
+     */
+    public Page<Employee> findEmployees(Integer month, Pageable pageable, Set<EmployeeField> fields) {
+        Sort sort = pageable.getSort().and(pageable.getSort().getOrderFor(EmployeeField.ID.getAttributeName()) == null ? ID_SORT : Sort.unsorted());
+        EnumSet<EmployeeField> selected = EnumSet.copyOf(fields);
+        sort.forEach(order -> selected.add(EmployeeField.fromAttributeName(order.getProperty())));
+        int limit = Math.toIntExact(pageable.getOffset() + pageable.getPageSize());
+
+        List<CompletableFuture<List<Employee>>> rows = scatter(repository -> repository.findFirstEmployees(month, sort, limit, selected));
+        List<CompletableFuture<Integer>> counts = scatter(repository -> month != null
+                ? repository.countEmployeesByBirthdayMonth(month) : repository.countEmployees());
+        List<Employee> page = mergeSorted(join(rows), EmployeeField.comparator(sort), pageable.getOffset(), pageable.getPageSize());
+        long total = join(counts).stream().mapToLong(Integer::longValue).sum();
+
+        for (EmployeeField extra : EnumSet.complementOf(EnumSet.copyOf(fields))) {
+            page.forEach(employee -> extra.apply(employee, null));
+        }
+        return new PageImpl<>(page, pageable, total);
+    }
+
+    /**
+     * Streams every employee matching the optional filters, one shard after the other, see
+     * {@link EmployeeRepository#streamEmployees(Integer, String, Consumer)}. Rows are in id order within a shard only.
+     */
+    public void streamEmployees(Integer month, String state, Consumer<Employee> consumer) {
+        shards.forEach(shard -> shard.repository().streamEmployees(month, state, consumer));
+    }
+
+    /**
+     * @return The number of employees per value of the given column, summed over all shards.
+     */
+    public Map<String, Long> countEmployeesGroupedBy(EmployeeField field) {
+        return sum(join(scatter(repository -> repository.countEmployeesGroupedBy(field))));
+    }
+
+    /**
+     * @return The number of employees per birth month (1-12), summed over all shards.
+     */
+    public Map<Integer, Long> countEmployeesGroupedByBirthMonth() {
+        return sum(join(scatter(EmployeeRepository::countEmployeesGroupedByBirthMonth)));
+    }
+
+    private static <K> Map<K, Long> sum(List<Map<K, Long>> counts) {
+        Map<K, Long> total = new HashMap<>();
+        counts.forEach(shardCounts -> shardCounts.forEach((key, count) -> total.merge(key, count, Long::sum)));
+        return total;
+    }
+
+    private <T> List<CompletableFuture<T>> scatter(Function<EmployeeRepository, T> query) {
+        return shards.stream().map(shard -> CompletableFuture.supplyAsync(() -> query.apply(shard.repository()), executor)).toList();
+    }
+
+    private static <T> List<T> join(List<CompletableFuture<T>> futures) {
+        try {
+            CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).join();
+            return futures.stream().map(CompletableFuture::join).toList();
+        } catch (CompletionException ex) {
+            throw ex.getCause() instanceof RuntimeException cause ? cause : ex;
+        }
+    }
+
+    /**
+     * Merges runs that are each sorted by {@code comparator} into one sorted list, skipping the first
+     * {@code skip} elements and returning at most {@code limit}. Only the heads of the runs are compared,
+     * so merging k runs costs O(log k) per returned element.
+     */
+    static <T> List<T> mergeSorted(List<List<T>> runs, Comparator<? super T> comparator, long skip, int limit) {
+        record Cursor<T>(List<T> run, int index) {
+            T head() {
+                return run.get(index);
+            }
+        }
+        PriorityQueue<Cursor<T>> heads = new PriorityQueue<>(Math.max(runs.size(), 1), (a, b) -> comparator.compare(a.head(), b.head()));
+        runs.stream().filter(run -> !run.isEmpty()).forEach(run -> heads.add(new Cursor<>(run, 0)));
+        List<T> merged = new ArrayList<>(limit);
+        long position = 0;
+        while (!heads.isEmpty() && merged.size() < limit) {
+            Cursor<T> cursor = heads.poll();
+            if (position++ >= skip) {
+                merged.add(cursor.head());
+            }
+            if (cursor.index() + 1 < cursor.run().size()) {
+                heads.add(new Cursor<>(cursor.run(), cursor.index() + 1));
+            }
+        }
+        return merged;
+    }
+
+    @Override
+    public void destroy() {
+        if (executor != null) {
+            executor.shutdownNow();
+        }
+        shards.forEach(shard -> shard.dataSource().close());
+    }
+}
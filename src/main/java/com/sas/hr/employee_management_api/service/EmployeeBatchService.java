@@ -0,0 +1,248 @@
+package com.sas.hr.employee_management_api.service;
+
+import com.sas.hr.employee_management_api.dto.EmployeeBatchItemResultDTO;
+import com.sas.hr.employee_management_api.dto.EmployeeBatchItemResultDTO.Operation;
+import com.sas.hr.employee_management_api.dto.EmployeeBatchItemResultDTO.Status;
+import com.sas.hr.employee_management_api.dto.EmployeeBatchRequestDTO;
+import com.sas.hr.employee_management_api.dto.EmployeeBatchResultDTO;
+import com.sas.hr.employee_management_api.dto.EmployeeBatchUpdateDTO;
+import com.sas.hr.employee_management_api.dto.EmployeeInputDTO;
+import com.sas.hr.employee_management_api.event.EmployeeChangedEvent;
+import com.sas.hr.employee_management_api.event.EmployeesImportedEvent;
+import com.sas.hr.employee_management_api.exception.InvalidBatchRequestException;
+import com.sas.hr.employee_management_api.exception.ShardingUnsupportedException;
+import com.sas.hr.employee_management_api.mapper.EmployeeMapper;
+import com.sas.hr.employee_management_api.model.Employee;
+import com.sas.hr.employee_management_api.repository.EmployeeRepository;
+import com.sas.hr.employee_management_api.repository.ShardedEmployeeRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Slf4j
+@Service
+public class EmployeeBatchService {
+
+    private final EmployeeRepository employeeRepository;
+    private final ShardedEmployeeRepository shardedRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+    private final int chunkSize;
+    private final int maxItems;
+
+    public EmployeeBatchService(EmployeeRepository employeeRepository,
+                                ShardedEmployeeRepository shardedRepository,
+                                ApplicationEventPublisher eventPublisher,
+                                TransactionTemplate transactionTemplate,
+                                @Value("${employee.batch.chunk-size:0}") int chunkSize,
+                                @Value("${employee.batch.max-items:10000}") int maxItems) {
+        this.employeeRepository = employeeRepository;
+        this.shardedRepository = shardedRepository;
+        this.eventPublisher = eventPublisher;
+        this.transactionTemplate = transactionTemplate;
+        this.chunkSize = chunkSize;
+        this.maxItems = maxItems;
+    }
+
+    /**
+     * Applies a batch of creates, updates and deletes.
+     *
+     * The whole payload is validated before anything is written; any problem rejects the batch with an
+     * {@link InvalidBatchRequestException}. Creates, updates and deletes are then executed as JDBC batches,
+     * in this order. With {@code employee.batch.chunk-size} at 0 the whole batch runs in one transaction;
+     * otherwise every chunk of that many items commits on its own, and chunks committed before a failure
+     * stay committed.
+     *
+     * Updates and deletes of missing employees, and updates whose version no longer matches, do not fail
+     * the batch; they are reported per item. Change events are published at the end of each transaction, so the
+     * change log entries they produce commit with it; the read-side caches only apply them after the commit.
+     *
+     * @param request The batch to apply.
+     * @return Per-item results, creates first, then updates, then deletes, each in request order.
+     * @throws InvalidBatchRequestException if the payload is empty, too large or contains invalid items.
+     * @throws ShardingUnsupportedException with sharded storage, since the batch runs in one primary transaction.
+     */
+    public EmployeeBatchResultDTO applyBatch(EmployeeBatchRequestDTO request) {
+        if (shardedRepository.isEnabled()) {
+            throw new ShardingUnsupportedException("Batch writes");
+        }
+        validate(request);
+        List<Employee> creates = toEmployees(request.create(), "create", null);
+        List<Employee> updates = toEmployees(request.update().stream().map(EmployeeBatchUpdateDTO::employee).toList(), "update",
+                request.update().stream().map(EmployeeBatchUpdateDTO::id).toList());
+        List<Long> expectedVersions = request.update().stream().map(EmployeeBatchUpdateDTO::version).toList();
+
+        List<EmployeeBatchItemResultDTO> results = new ArrayList<>(request.size());
+        if (chunkSize <= 0) {
+            execute(results, (chunkResults, events) -> {
+                applyCreates(creates, 0, chunkResults, events);
+                applyUpdates(updates, expectedVersions, 0, chunkResults, events);
+                applyDeletes(request.delete(), 0, chunkResults, events);
+            });
+        } else {
+            for (int from = 0; from < creates.size(); from += chunkSize) {
+                int start = from, end = Math.min(from + chunkSize, creates.size());
+                execute(results, (chunkResults, events) -> applyCreates(creates.subList(start, end), start, chunkResults, events));
+            }
+            for (int from = 0; from < updates.size(); from += chunkSize) {
+                int start = from, end = Math.min(from + chunkSize, updates.size());
+                execute(results, (chunkResults, events) ->
+                        applyUpdates(updates.subList(start, end), expectedVersions.subList(start, end), start, chunkResults, events));
+            }
+            for (int from = 0; from < request.delete().size(); from += chunkSize) {
+                int start = from, end = Math.min(from + chunkSize, request.delete().size());
+                execute(results, (chunkResults, events) -> applyDeletes(request.delete().subList(start, end), start, chunkResults, events));
+            }
+        }
+        EmployeeBatchResultDTO result = EmployeeBatchResultDTO.of(results);
+        log.info("Applied employee batch: {} created, {} updated, {} deleted, {} failed",
+                result.created(), result.updated(), result.deleted(), result.failed());
+        return result;
+    }
+
+    private interface ChunkWork {
+        void apply(List<EmployeeBatchItemResultDTO> results, List<Object> events);
+    }
+
+    private void execute(List<EmployeeBatchItemResultDTO> results, ChunkWork work) {
+        List<EmployeeBatchItemResultDTO> chunkResults = new ArrayList<>();
+        List<Object> events = new ArrayList<>();
+        transactionTemplate.executeWithoutResult(status -> {
+            work.apply(chunkResults, events);
+            events.forEach(eventPublisher::publishEvent);
+        });
+        results.addAll(chunkResults);
+    }
+
+    private void applyCreates(List<Employee> employees, int offset, List<EmployeeBatchItemResultDTO> results, List<Object> events) {
+        if (employees.isEmpty()) {
+            return;
+        }
+        employeeRepository.batchInsertEmployeesUsingJdbc(employees);
+        for (int i = 0; i < employees.size(); i++) {
+            Employee employee = employees.get(i);
+            results.add(new EmployeeBatchItemResultDTO(Operation.CREATE, offset + i, employee.getId(), employee.getVersion(), Status.CREATED));
+        }
+        events.add(new EmployeesImportedEvent(List.copyOf(employees)));
+    }
+
+    private void applyUpdates(List<Employee> employees, List<Long> expectedVersions, int offset,
+                              List<EmployeeBatchItemResultDTO> results, List<Object> events) {
+        if (employees.isEmpty()) {
+            return;
+        }
+        Map<Long, Employee> current = findCurrent(employees.stream().map(Employee::getId).toList());
+        EmployeeBatchItemResultDTO[] itemResults = new EmployeeBatchItemResultDTO[employees.size()];
+        List<Employee> toUpdate = new ArrayList<>();
+        List<Long> toUpdateVersions = new ArrayList<>();
+        List<Integer> toUpdateIndexes = new ArrayList<>();
+        for (int i = 0; i < employees.size(); i++) {
+            Employee employee = employees.get(i);
+            Employee before = current.get(employee.getId());
+            Long expectedVersion = expectedVersions.get(i);
+            if (before == null) {
+                itemResults[i] = new EmployeeBatchItemResultDTO(Operation.UPDATE, offset + i, employee.getId(), null, Status.NOT_FOUND);
+            } else if (expectedVersion != null && !expectedVersion.equals(before.getVersion())) {
+                itemResults[i] = new EmployeeBatchItemResultDTO(Operation.UPDATE, offset + i, employee.getId(), before.getVersion(), Status.VERSION_MISMATCH);
+            } else {
+                toUpdate.add(employee);
+                toUpdateVersions.add(expectedVersion);
+                toUpdateIndexes.add(i);
+            }
+        }
+
+        int[] counts = toUpdate.isEmpty() ? new int[0] : employeeRepository.batchUpdateEmployeesUsingJdbc(toUpdate, toUpdateVersions);
+        for (int j = 0; j < toUpdate.size(); j++) {
+            int i = toUpdateIndexes.get(j);
+            Employee employee = toUpdate.get(j);
+            Employee before = current.get(employee.getId());
+            if (counts[j] == 0) {
+                itemResults[i] = new EmployeeBatchItemResultDTO(Operation.UPDATE, offset + i, employee.getId(), before.getVersion(), Status.VERSION_MISMATCH);
+                continue;
+            }
+            employee.setVersion(before.getVersion() + 1);
+            itemResults[i] = new EmployeeBatchItemResultDTO(Operation.UPDATE, offset + i, employee.getId(), employee.getVersion(), Status.UPDATED);
+            events.add(EmployeeChangedEvent.updated(before, employee));
+        }
+        results.addAll(List.of(itemResults));
+    }
+
+    private void applyDeletes(List<Long> ids, int offset, List<EmployeeBatchItemResultDTO> results, List<Object> events) {
+        if (ids.isEmpty()) {
+            return;
+        }
+        Map<Long, Employee> current = findCurrent(ids);
+        int[] counts = employeeRepository.batchDeleteEmployeesUsingJdbc(ids);
+        for (int i = 0; i < ids.size(); i++) {
+            Employee before = current.get(ids.get(i));
+            if (counts[i] == 0 || before == null) {
+                results.add(new EmployeeBatchItemResultDTO(Operation.DELETE, offset + i, ids.get(i), null, Status.NOT_FOUND));
+            } else {
+                results.add(new EmployeeBatchItemResultDTO(Operation.DELETE, offset + i, ids.get(i), null, Status.DELETED));
+                events.add(EmployeeChangedEvent.deleted(before));
+            }
+        }
+    }
+
+    private Map<Long, Employee> findCurrent(List<Long> ids) {
+        return employeeRepository.findEmployeesByIdsForUpdate(ids).stream()
+                .collect(Collectors.toMap(Employee::getId, Function.identity()));
+    }
+
+    private List<Employee> toEmployees(List<EmployeeInputDTO> inputs, String operation, List<Long> ids) {
+        List<Employee> employees = new ArrayList<>(inputs.size());
+        List<String> problems = new ArrayList<>();
+        for (int i = 0; i < inputs.size(); i++) {
+            Employee employee = EmployeeMapper.toEmployeeEntity(inputs.get(i));
+            if (employee.getBirthDay() == null) {
+                problems.add(operation + "[" + i + "].birthDate: unsupported date '" + inputs.get(i).birthDate() + "'");
+            }
+            if (ids != null) {
+                employee.setId(ids.get(i));
+            }
+            employees.add(employee);
+        }
+        if (!problems.isEmpty()) {
+            throw new InvalidBatchRequestException(problems);
+        }
+        return employees;
+    }
+
+    private void validate(EmployeeBatchRequestDTO request) {
+        List<String> problems = new ArrayList<>();
+        if (request.size() == 0) {
+            problems.add("The batch contains no items");
+        }
+        if (request.size() > maxItems) {
+            problems.add("The batch contains " + request.size() + " items, at most " + maxItems + " are allowed");
+        }
+        Set<Long> updateIds = new HashSet<>();
+        for (int i = 0; i < request.update().size(); i++) {
+            if (!updateIds.add(request.update().get(i).id())) {
+                problems.add("update[" + i + "].id: employee " + request.update().get(i).id() + " is updated more than once");
+            }
+        }
+        Set<Long> deleteIds = new HashSet<>();
+        for (int i = 0; i < request.delete().size(); i++) {
+            Long id = request.delete().get(i);
+            if (!deleteIds.add(id)) {
+                problems.add("delete[" + i + "]: employee " + id + " is deleted more than once");
+            } else if (updateIds.contains(id)) {
+                problems.add("delete[" + i + "]: employee " + id + " is both updated and deleted");
+            }
+        }
+        if (!problems.isEmpty()) {
+            throw new InvalidBatchRequestException(problems);
+        }
+    }
+}
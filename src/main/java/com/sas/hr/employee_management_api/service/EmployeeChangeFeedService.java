@@ -0,0 +1,149 @@
+package com.sas.hr.employee_management_api.service;
+
+import com.sas.hr.employee_management_api.dto.EmployeeChangeDTO;
+import com.sas.hr.employee_management_api.dto.EmployeeChangeFeedDTO;
+import com.sas.hr.employee_management_api.dto.EmployeeDetailsDTO;
+import com.sas.hr.employee_management_api.event.EmployeeChangedEvent;
+import com.sas.hr.employee_management_api.event.EmployeeChangedEvent.ChangeType;
+import com.sas.hr.employee_management_api.event.EmployeesDeletedEvent;
+import com.sas.hr.employee_management_api.event.EmployeesImportedEvent;
+import com.sas.hr.employee_management_api.exception.ShardingUnsupportedException;
+import com.sas.hr.employee_management_api.mapper.EmployeeMapper;
+import com.sas.hr.employee_management_api.model.Employee;
+import com.sas.hr.employee_management_api.model.EmployeeChangeLogEntry;
+import com.sas.hr.employee_management_api.repository.EmployeeChangeLogRepository;
+import com.sas.hr.employee_management_api.repository.ShardedEmployeeRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Change feed of employee mutations, backed by the {@code employee_change_log} table used as a transactional outbox.
+ *
+ * The event listeners run synchronously on the publishing thread, so every create, update, delete and import
+ * batch appends its entries inside the transaction of the change itself. A single scheduled relay then
+ * assigns feed sequence numbers to committed entries; since only the relay assigns them, a consumer that read
+ * up to sequence {@code n} never misses an entry that commits later with a lower outbox id.
+ *
+ * A background compaction drops entries superseded by a later change of the same employee once they are older
+ * than {@code employee.change-feed.retention}, and deletion entries after {@code employee.change-feed.tombstone-retention}.
+ * Consumers that fall further behind than the tombstone retention must resynchronize from {@code GET /employees}.
+ *
+ * The outbox lives in the primary database, so it cannot commit together with writes to the shards. With
+ * {@code employee.sharding.enabled} the feed is therefore switched off: nothing is appended and reading it fails.
+ */
+@Slf4j
+@Service
+public class EmployeeChangeFeedService {
+
+    private final EmployeeChangeLogRepository changeLogRepository;
+    private final ShardedEmployeeRepository shardedRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final int relayBatchSize;
+    private final Duration retention;
+    private final Duration tombstoneRetention;
+
+    public EmployeeChangeFeedService(EmployeeChangeLogRepository changeLogRepository,
+                                     ShardedEmployeeRepository shardedRepository,
+                                     TransactionTemplate transactionTemplate,
+                                     @Value("${employee.change-feed.relay-batch-size:1000}") int relayBatchSize,
+                                     @Value("${employee.change-feed.retention:1h}") Duration retention,
+                                     @Value("${employee.change-feed.tombstone-retention:7d}") Duration tombstoneRetention) {
+        this.changeLogRepository = changeLogRepository;
+        this.shardedRepository = shardedRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.relayBatchSize = relayBatchSize;
+        this.retention = retention;
+        this.tombstoneRetention = tombstoneRetention;
+    }
+
+    @EventListener
+    public void onEmployeeChanged(EmployeeChangedEvent event) {
+        if (shardedRepository.isEnabled()) {
+            return;
+        }
+        changeLogRepository.appendToOutbox(event.type(), List.of(event.after() != null ? event.after() : event.before()));
+    }
+
+    @EventListener
+    public void onEmployeesImported(EmployeesImportedEvent event) {
+        if (shardedRepository.isEnabled()) {
+            return;
+        }
+        changeLogRepository.appendToOutbox(ChangeType.CREATED, event.employees());
+    }
+
+    @EventListener
+    public void onEmployeesDeleted(EmployeesDeletedEvent event) {
+        if (shardedRepository.isEnabled()) {
+            return;
+        }
+        changeLogRepository.appendToOutbox(ChangeType.DELETED, event.employees());
+    }
+
+    /**
+     * Sequences every committed outbox entry, {@code employee.change-feed.relay-batch-size} entries per transaction.
+     *
+     * @return The number of sequenced entries.
+     */
+    @Scheduled(fixedDelayString = "${employee.change-feed.relay-interval-ms:200}")
+    public int relay() {
+        int total = 0;
+        int relayed;
+        do {
+            Integer count = transactionTemplate.execute(status -> changeLogRepository.sequencePendingEntries(relayBatchSize));
+            relayed = count != null ? count : 0;
+            total += relayed;
+        } while (relayed == relayBatchSize);
+        return total;
+    }
+
+    @Scheduled(fixedDelayString = "${employee.change-feed.compaction-interval-ms:300000}",
+            initialDelayString = "${employee.change-feed.compaction-interval-ms:300000}")
+    public void compact() {
+        LocalDateTime now = LocalDateTime.now();
+        int superseded = changeLogRepository.deleteSupersededEntries(Timestamp.valueOf(now.minus(retention)));
+        int tombstones = changeLogRepository.deleteTombstones(Timestamp.valueOf(now.minus(tombstoneRetention)));
+        if (superseded + tombstones > 0) {
+            log.info("Compacted employee change log: {} superseded entries and {} tombstones removed", superseded, tombstones);
+        }
+    }
+
+    /**
+     * Reads the changes after the given sequence number, oldest first.
+     *
+     * @param after The last sequence number the consumer has processed, 0 to start from the beginning.
+     * @param limit The maximum number of changes to return.
+     * @return The changes and the sequence number to continue from.
+     * @throws ShardingUnsupportedException with sharded storage.
+     */
+    @Transactional(readOnly = true)
+    public EmployeeChangeFeedDTO getChanges(long after, int limit) {
+        if (shardedRepository.isEnabled()) {
+            throw new ShardingUnsupportedException("The change feed");
+        }
+        List<EmployeeChangeDTO> changes = changeLogRepository.findEntriesAfter(after, limit).stream()
+                .map(EmployeeChangeFeedService::toChangeDTO)
+                .toList();
+        long next = changes.isEmpty() ? after : changes.get(changes.size() - 1).sequence();
+        return new EmployeeChangeFeedDTO(changes, next);
+    }
+
+    private static EmployeeChangeDTO toChangeDTO(EmployeeChangeLogEntry entry) {
+        ChangeType type = ChangeType.valueOf(entry.getChangeType());
+        EmployeeDetailsDTO employee = type == ChangeType.DELETED ? null : EmployeeMapper.toEmployeeDTO(new Employee(entry.getEmployeeId(),
+                entry.getFirstName(), entry.getLastName(), entry.getLocation(), entry.getCity(), entry.getState(), entry.getBirthDay(),
+                entry.getEmployeeVersion()));
+        return new EmployeeChangeDTO(entry.getSequence(), type, entry.getEmployeeId(), entry.getEmployeeVersion(), employee,
+                entry.getOccurredAt().toString());
+    }
+}
@@ -0,0 +1,207 @@
+package com.sas.hr.employee_management_api.service;
+
+import com.sas.hr.employee_management_api.config.HotPathMetrics;
+import com.sas.hr.employee_management_api.dto.EmployeeDeltaImportResultDTO;
+import com.sas.hr.employee_management_api.event.EmployeeChangedEvent;
+import com.sas.hr.employee_management_api.event.EmployeesDeletedEvent;
+import com.sas.hr.employee_management_api.event.EmployeesImportedEvent;
+import com.sas.hr.employee_management_api.exception.ShardingUnsupportedException;
+import com.sas.hr.employee_management_api.mapper.EmployeeMapper;
+import com.sas.hr.employee_management_api.model.Employee;
+import com.sas.hr.employee_management_api.model.EmployeeField;
+import com.sas.hr.employee_management_api.repository.EmployeeRepository;
+import com.sas.hr.employee_management_api.repository.ShardedEmployeeRepository;
+import com.sas.hr.employee_management_api.util.CSVProcessor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.core.io.Resource;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Delta import of a full roster CSV: only new, changed and (optionally) missing employees are written.
+ *
+ * Incoming rows are matched to existing employees by the natural key configured in
+ * {@code employee.delta-import.natural-key} (API field names, by default first name, last name and birth date).
+ * Matching only reads the id, version, key columns and stored {@code content_hash} of every employee; a matched
+ * row whose {@link Employee#computeContentHash() content hash} is unchanged is skipped without touching the
+ * database. Inserts, updates and deletes are written as JDBC batches of {@code batch.size} rows, each
+ * batch in its own transaction together with its change events, so the write cost follows the number of changes.
+ *
+ * Employees that share a natural key are paired up one by one, preferring pairs with equal content.
+ */
+@Slf4j
+@Service
+public class EmployeeDeltaImportService {
+
+    private final EmployeeRepository employeeRepository;
+    private final ShardedEmployeeRepository shardedRepository;
+    private final CSVProcessor csvProcessor;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+    private final EmployeeMapper.Meters mappingMeters;
+    private final Set<EmployeeField> naturalKey;
+    private final int batchSize;
+
+    public EmployeeDeltaImportService(EmployeeRepository employeeRepository,
+                                      ShardedEmployeeRepository shardedRepository,
+                                      CSVProcessor csvProcessor,
+                                      ApplicationEventPublisher eventPublisher,
+                                      TransactionTemplate transactionTemplate,
+                                      HotPathMetrics hotPathMetrics,
+                                      @Value("${employee.delta-import.natural-key:firstName,lastName,birthDate}") String naturalKey,
+                                      @Value("${batch.size}") int batchSize) {
+        this.employeeRepository = employeeRepository;
+        this.shardedRepository = shardedRepository;
+        this.csvProcessor = csvProcessor;
+        this.eventPublisher = eventPublisher;
+        this.transactionTemplate = transactionTemplate;
+        this.mappingMeters = EmployeeMapper.Meters.register(hotPathMetrics.registry());
+        this.naturalKey = parseNaturalKey(naturalKey);
+        this.batchSize = batchSize;
+    }
+
+    private static Set<EmployeeField> parseNaturalKey(String naturalKey) {
+        Set<EmployeeField> fields = EnumSet.noneOf(EmployeeField.class);
+        for (String name : naturalKey.split(",")) {
+            if (!name.isBlank()) {
+                fields.add(EmployeeField.fromFieldName(name.trim()));
+            }
+        }
+        if (fields.isEmpty() || fields.contains(EmployeeField.ID) || fields.contains(EmployeeField.VERSION)) {
+            throw new IllegalArgumentException("employee.delta-import.natural-key must name employee attributes, not '" + naturalKey + "'");
+        }
+        return Collections.unmodifiableSet(fields);
+    }
+
+    /**
+     * Applies a roster CSV as a delta against the stored employees.
+     *
+     * @param resource      The CSV, in the layout of {@link CSVProcessor#loadEmployeesFromCsv(Resource)}.
+     * @param deleteMissing Whether employees that are not in the CSV are deleted.
+     * @return How many employees were inserted, updated, deleted and left unchanged.
+     * @throws IOException if the CSV cannot be read.
+     * @throws ShardingUnsupportedException with sharded storage, since the stored hashes are read from the primary table.
+     */
+    public EmployeeDeltaImportResultDTO importDelta(Resource resource, boolean deleteMissing) throws IOException {
+        if (shardedRepository.isEnabled()) {
+            throw new ShardingUnsupportedException("Delta imports");
+        }
+        List<Employee> incoming = EmployeeMapper.toEmployeeEntityList(csvProcessor.loadEmployeesFromCsv(resource), mappingMeters);
+
+        Map<List<Object>, List<Employee>> existing = new HashMap<>();
+        employeeRepository.streamEmployeeContentHashes(naturalKey,
+                employee -> existing.computeIfAbsent(keyOf(employee), key -> new ArrayList<>(1)).add(employee));
+
+        List<Employee> inserts = new ArrayList<>();
+        List<Employee> updates = new ArrayList<>();
+        int unchanged = 0;
+        for (Employee employee : incoming) {
+            long contentHash = employee.computeContentHash();
+            List<Employee> candidates = existing.get(keyOf(employee));
+            Employee match = candidates != null ? takeMatch(candidates, contentHash) : null;
+            if (match == null) {
+                inserts.add(employee);
+            } else if (Objects.equals(match.getContentHash(), contentHash)) {
+                unchanged++;
+            } else {
+                employee.setId(match.getId());
+                updates.add(employee);
+            }
+        }
+        List<Long> missing = deleteMissing
+                ? existing.values().stream().flatMap(List::stream).map(Employee::getId).toList()
+                : List.of();
+
+        for (int i = 0; i < inserts.size(); i += batchSize) {
+            List<Employee> batch = inserts.subList(i, Math.min(i + batchSize, inserts.size()));
+            transactionTemplate.executeWithoutResult(status -> {
+                employeeRepository.batchInsertEmployeesUsingJdbc(batch);
+                eventPublisher.publishEvent(new EmployeesImportedEvent(batch));
+            });
+        }
+        int updated = 0;
+        for (int i = 0; i < updates.size(); i += batchSize) {
+            List<Employee> batch = updates.subList(i, Math.min(i + batchSize, updates.size()));
+            updated += Objects.requireNonNullElse(transactionTemplate.execute(status -> applyUpdates(batch)), 0);
+        }
+        int deleted = 0;
+        for (int i = 0; i < missing.size(); i += batchSize) {
+            List<Long> batch = missing.subList(i, Math.min(i + batchSize, missing.size()));
+            deleted += Objects.requireNonNullElse(transactionTemplate.execute(status -> applyDeletes(batch)), 0);
+        }
+
+        EmployeeDeltaImportResultDTO result = new EmployeeDeltaImportResultDTO(inserts.size(), updated, deleted, unchanged);
+        log.info("Applied delta import of {} rows: {} inserted, {} updated, {} deleted, {} unchanged",
+                incoming.size(), result.inserted(), result.updated(), result.deleted(), result.unchanged());
+        return result;
+    }
+
+    private List<Object> keyOf(Employee employee) {
+        List<Object> key = new ArrayList<>(naturalKey.size());
+        naturalKey.forEach(field -> key.add(field.get(employee)));
+        return key;
+    }
+
+    /**
+     * Removes and returns the candidate with the given content hash, or else the first candidate.
+     */
+    private static Employee takeMatch(List<Employee> candidates, long contentHash) {
+        if (candidates.isEmpty()) {
+            return null;
+        }
+        for (Iterator<Employee> it = candidates.iterator(); it.hasNext(); ) {
+            Employee candidate = it.next();
+            if (Objects.equals(candidate.getContentHash(), contentHash)) {
+                it.remove();
+                return candidate;
+            }
+        }
+        return candidates.remove(0);
+    }
+
+    private int applyUpdates(List<Employee> employees) {
+        // Lock the rows and read them whole; the events need the previous values
+        Map<Long, Employee> before = findCurrent(employees.stream().map(Employee::getId).toList());
+        List<Employee> present = employees.stream().filter(employee -> before.containsKey(employee.getId())).toList();
+        if (present.isEmpty()) {
+            return 0;
+        }
+        employeeRepository.batchUpdateEmployeesUsingJdbc(present, Collections.nCopies(present.size(), null));
+        for (Employee employee : present) {
+            Employee previous = before.get(employee.getId());
+            employee.setVersion(previous.getVersion() + 1);
+            eventPublisher.publishEvent(EmployeeChangedEvent.updated(previous, employee));
+        }
+        return present.size();
+    }
+
+    private int applyDeletes(List<Long> ids) {
+        List<Employee> before = new ArrayList<>(findCurrent(ids).values());
+        if (before.isEmpty()) {
+            return 0;
+        }
+        employeeRepository.batchDeleteEmployeesUsingJdbc(before.stream().map(Employee::getId).toList());
+        eventPublisher.publishEvent(new EmployeesDeletedEvent(before));
+        return before.size();
+    }
+
+    private Map<Long, Employee> findCurrent(List<Long> ids) {
+        return employeeRepository.findEmployeesByIdsForUpdate(ids).stream()
+                .collect(Collectors.toMap(Employee::getId, Function.identity()));
+    }
+}
@@ -0,0 +1,94 @@
+package com.sas.hr.employee_management_api.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sas.hr.employee_management_api.dto.ExportFormat;
+import com.sas.hr.employee_management_api.mapper.EmployeeMapper;
+import com.sas.hr.employee_management_api.model.Employee;
+import com.sas.hr.employee_management_api.repository.EmployeeRepository;
+import com.sas.hr.employee_management_api.repository.ShardedEmployeeRepository;
+import com.sas.hr.employee_management_api.util.CSVProcessor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.csv.CSVPrinter;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.function.Consumer;
+
+@Slf4j
+@Service
+public class EmployeeExportService {
+
+    private final EmployeeRepository employeeRepository;
+    private final ShardedEmployeeRepository shardedRepository;
+    private final CSVProcessor csvProcessor;
+    private final ObjectMapper objectMapper;
+
+    public EmployeeExportService(EmployeeRepository employeeRepository, ShardedEmployeeRepository shardedRepository,
+                                 CSVProcessor csvProcessor, ObjectMapper objectMapper) {
+        this.employeeRepository = employeeRepository;
+        this.shardedRepository = shardedRepository;
+        this.csvProcessor = csvProcessor;
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * Writes every employee matching the optional filters to the output stream in the requested format.
+     *
+     * Rows are read through a database cursor and written one by one as they arrive, so the memory used
+     * does not depend on the number of exported employees. The export runs in a read-only transaction, so
+     * it uses the read pool when one is configured. CSV output uses the import layout of
+     * {@link CSVProcessor}; NDJSON output writes one {@code EmployeeDetailsDTO} JSON object per line.
+     * With sharded storage the shards are exported one after the other.
+     *
+     * @param format The output format.
+     * @param month  Optional birth month (1-12) to filter on, or null.
+     * @param state  Optional state to filter on, or null.
+     * @param out    The stream to write to; it is flushed but not closed.
+     * @throws IOException if writing to the output stream fails.
+     */
+    @Transactional(readOnly = true)
+    public void exportEmployees(ExportFormat format, Integer month, String state, OutputStream out) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        try {
+            if (format == ExportFormat.CSV) {
+                CSVPrinter printer = csvProcessor.createEmployeePrinter(writer);
+                streamEmployees(month, state, employee -> {
+                    try {
+                        csvProcessor.printEmployee(printer, employee);
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+                printer.flush();
+            } else {
+                streamEmployees(month, state, employee -> {
+                    try {
+                        writer.write(objectMapper.writeValueAsString(EmployeeMapper.toEmployeeDTO(employee)));
+                        writer.write('\n');
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+            }
+        } catch (UncheckedIOException e) {
+            log.error("Employee export aborted: {}", e.getMessage());
+            throw e.getCause();
+        }
+        writer.flush();
+    }
+
+    private void streamEmployees(Integer month, String state, Consumer<Employee> consumer) {
+        if (shardedRepository.isEnabled()) {
+            shardedRepository.streamEmployees(month, state, consumer);
+        } else {
+            employeeRepository.streamEmployees(month, state, consumer);
+        }
+    }
+}
@@ -0,0 +1,159 @@
+package com.sas.hr.employee_management_api.service;
+
+import com.sas.hr.employee_management_api.dto.EmployeeFileImportResultDTO;
+import com.sas.hr.employee_management_api.dto.EmployeeImportResultDTO;
+import com.sas.hr.employee_management_api.dto.EmployeeInputDTO;
+import com.sas.hr.employee_management_api.util.CSVProcessor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+
+/**
+ * Imports several CSV files, or the CSV entries of zip archives, in parallel.
+ *
+ * Every file is parsed and inserted by one of {@code employee.import.parallelism} import threads, through the
+ * same batched insert as a single upload. Zip archives are read as a stream, never extracted to disk: entries
+ * are parsed one after the other while the rows of earlier entries are inserted in parallel, and at most
+ * {@code parallelism} parsed entries wait for or are in insertion at any time. A file that fails is reported in
+ * its result; the batches of other files, and the batches of the failed file committed before the error, stay.
+ */
+@Slf4j
+@Service
+public class EmployeeFileImportService implements DisposableBean {
+
+    private final CSVProcessor csvProcessor;
+    private final EmployeeService employeeService;
+    private final ExecutorService executor;
+    private final Semaphore pendingEntries;
+
+    public EmployeeFileImportService(CSVProcessor csvProcessor,
+                                     EmployeeService employeeService,
+                                     @Value("${employee.import.parallelism:4}") int parallelism) {
+        this.csvProcessor = csvProcessor;
+        this.employeeService = employeeService;
+        this.executor = Executors.newFixedThreadPool(parallelism, Thread.ofPlatform().name("employee-import-", 0).daemon().factory());
+        this.pendingEntries = new Semaphore(parallelism);
+    }
+
+    /**
+     * Imports the given CSV files and zip archives; archives are recognized by their name or content type.
+     * Archive entries that are directories or not named {@code *.csv} are skipped.
+     *
+     * @param files The uploaded files.
+     * @return The per-file results, in upload and archive order, and their totals.
+     */
+    public EmployeeImportResultDTO importFiles(List<MultipartFile> files) {
+        long start = System.nanoTime();
+        List<CompletableFuture<EmployeeFileImportResultDTO>> results = new ArrayList<>();
+        for (MultipartFile file : files) {
+            if (isZip(file)) {
+                importArchive(file, results);
+            } else {
+                results.add(CompletableFuture.supplyAsync(() -> importCsv(file), executor));
+            }
+        }
+        List<EmployeeFileImportResultDTO> fileResults = results.stream().map(CompletableFuture::join).toList();
+        EmployeeImportResultDTO result = EmployeeImportResultDTO.of(fileResults, elapsedMillis(start));
+        log.info("Imported {} employees from {} files in {} ms ({} failed)",
+                result.rows(), fileResults.size(), result.elapsedMillis(), result.failedFiles());
+        return result;
+    }
+
+    private EmployeeFileImportResultDTO importCsv(MultipartFile file) {
+        String name = file.getOriginalFilename();
+        long parseStart = System.nanoTime();
+        List<EmployeeInputDTO> rows;
+        try (Reader reader = new InputStreamReader(file.getInputStream(), StandardCharsets.UTF_8)) {
+            rows = csvProcessor.loadEmployeesFromCsv(reader);
+        } catch (IOException | RuntimeException ex) {
+            return failed(name, ex);
+        }
+        return persist(name, rows, elapsedMillis(parseStart));
+    }
+
+    private void importArchive(MultipartFile archive, List<CompletableFuture<EmployeeFileImportResultDTO>> results) {
+        try (ZipInputStream zip = new ZipInputStream(archive.getInputStream())) {
+            ZipEntry entry;
+            while ((entry = zip.getNextEntry()) != null) {
+                if (entry.isDirectory() || !entry.getName().toLowerCase(Locale.ROOT).endsWith(".csv")) {
+                    continue;
+                }
+                String name = archive.getOriginalFilename() + "!/" + entry.getName();
+                pendingEntries.acquireUninterruptibly();
+                long parseStart = System.nanoTime();
+                List<EmployeeInputDTO> rows;
+                try {
+                    // Not closed: closing the reader would close the archive stream
+                    rows = csvProcessor.loadEmployeesFromCsv(new InputStreamReader(zip, StandardCharsets.UTF_8));
+                } catch (IOException | RuntimeException ex) {
+                    pendingEntries.release();
+                    results.add(CompletableFuture.completedFuture(failed(name, ex)));
+                    if (ex instanceof IOException) {
+                        // The archive itself cannot be read any further
+                        return;
+                    }
+                    continue;
+                }
+                long parseMillis = elapsedMillis(parseStart);
+                results.add(CompletableFuture.supplyAsync(() -> {
+                    try {
+                        return persist(name, rows, parseMillis);
+                    } finally {
+                        pendingEntries.release();
+                    }
+                }, executor));
+            }
+        } catch (IOException ex) {
+            results.add(CompletableFuture.completedFuture(failed(archive.getOriginalFilename(), ex)));
+        }
+    }
+
+    private EmployeeFileImportResultDTO persist(String name, List<EmployeeInputDTO> rows, long parseMillis) {
+        long persistStart = System.nanoTime();
+        try {
+            int imported = employeeService.importEmployees(rows).size();
+            return new EmployeeFileImportResultDTO(name, imported, parseMillis, elapsedMillis(persistStart), null);
+        } catch (RuntimeException ex) {
+            log.error("Error importing {}: {}", name, ex.getMessage(), ex);
+            return new EmployeeFileImportResultDTO(name, 0, parseMillis, elapsedMillis(persistStart), ex.getMessage());
+        }
+    }
+
+    private static EmployeeFileImportResultDTO failed(String name, Exception ex) {
+        log.error("Error reading {}: {}", name, ex.getMessage());
+        return new EmployeeFileImportResultDTO(name, 0, 0, 0, ex.getMessage());
+    }
+
+    private static boolean isZip(MultipartFile file) {
+        String name = file.getOriginalFilename();
+        String contentType = file.getContentType();
+        return name != null && name.toLowerCase(Locale.ROOT).endsWith(".zip")
+                || "application/zip".equals(contentType) || "application/x-zip-compressed".equals(contentType);
+    }
+
+    private static long elapsedMillis(long startNanos) {
+        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdownNow();
+    }
+}
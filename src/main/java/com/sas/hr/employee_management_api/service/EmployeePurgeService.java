@@ -0,0 +1,87 @@
+package com.sas.hr.employee_management_api.service;
+
+import com.sas.hr.employee_management_api.admission.AdmissionBudget;
+import com.sas.hr.employee_management_api.admission.AdmissionBudgets;
+import com.sas.hr.employee_management_api.repository.EmployeeRepository;
+import com.sas.hr.employee_management_api.repository.ShardedEmployeeRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * Background purge of soft-deleted employees.
+ *
+ * Deletes only set {@code deleted_at}; this job hard-deletes the tombstones once they are older than
+ * {@code employee.purge.min-age}. Every batch is a single DELETE of at most {@code employee.purge.batch-size}
+ * rows in its own transaction, so locks are held briefly, and a run stops after {@code employee.purge.max-batches}
+ * batches. The job only works in quiet periods: before every batch it checks that no admission budget is used
+ * above {@code employee.purge.max-utilization}, and otherwise leaves the rest to the next run.
+ */
+@Slf4j
+@Service
+public class EmployeePurgeService {
+
+    private final EmployeeRepository employeeRepository;
+    private final ShardedEmployeeRepository shardedRepository;
+    private final AdmissionBudgets admissionBudgets;
+    private final Duration minAge;
+    private final int batchSize;
+    private final int maxBatches;
+    private final double maxUtilization;
+
+    public EmployeePurgeService(EmployeeRepository employeeRepository,
+                                ShardedEmployeeRepository shardedRepository,
+                                AdmissionBudgets admissionBudgets,
+                                @Value("${employee.purge.min-age:1m}") Duration minAge,
+                                @Value("${employee.purge.batch-size:1000}") int batchSize,
+                                @Value("${employee.purge.max-batches:100}") int maxBatches,
+                                @Value("${employee.purge.max-utilization:0.5}") double maxUtilization) {
+        this.employeeRepository = employeeRepository;
+        this.shardedRepository = shardedRepository;
+        this.admissionBudgets = admissionBudgets;
+        this.minAge = minAge;
+        this.batchSize = batchSize;
+        this.maxBatches = maxBatches;
+        this.maxUtilization = maxUtilization;
+    }
+
+    /**
+     * Purges tombstones older than the minimum age in bounded batches while the application is quiet.
+     *
+     * @return The number of purged rows.
+     */
+    @Scheduled(fixedDelayString = "${employee.purge.interval-ms:60000}",
+            initialDelayString = "${employee.purge.interval-ms:60000}")
+    public int purge() {
+        Timestamp cutoff = Timestamp.valueOf(LocalDateTime.now().minus(minAge));
+        int total = 0;
+        for (int batch = 0; batch < maxBatches && isQuiet(); batch++) {
+            int purged = shardedRepository.isEnabled()
+                    ? shardedRepository.purgeDeletedEmployees(cutoff, batchSize)
+                    : employeeRepository.purgeDeletedEmployees(cutoff, batchSize);
+            total += purged;
+            if (purged == 0 || !shardedRepository.isEnabled() && purged < batchSize) {
+                break;
+            }
+        }
+        if (total > 0) {
+            log.info("Purged {} soft-deleted employees", total);
+        }
+        return total;
+    }
+
+    private boolean isQuiet() {
+        for (AdmissionBudget budget : admissionBudgets.all()) {
+            if (budget.getUtilization() > maxUtilization) {
+                log.debug("Postponing the employee purge, {} requests are at {} utilization", budget.getEndpointClass(), budget.getUtilization());
+                return false;
+            }
+        }
+        return true;
+    }
+}
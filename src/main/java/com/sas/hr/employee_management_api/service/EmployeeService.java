@@ -1,33 +1,50 @@
 package com.sas.hr.employee_management_api.service;
 
 
+import com.sas.hr.employee_management_api.cache.EmployeeCache;
+import com.sas.hr.employee_management_api.cache.RequestCoalescer;
+import com.sas.hr.employee_management_api.config.HotPathMetrics;
 import com.sas.hr.employee_management_api.dto.EmployeeDetailsDTO;
 import com.sas.hr.employee_management_api.dto.EmployeeInputDTO;
+import com.sas.hr.employee_management_api.event.EmployeeChangedEvent;
+import com.sas.hr.employee_management_api.event.EmployeesDeletedEvent;
+import com.sas.hr.employee_management_api.event.EmployeesImportedEvent;
 import com.sas.hr.employee_management_api.exception.EmployeeNotFoundException;
+import com.sas.hr.employee_management_api.exception.EmployeeVersionMismatchException;
+import com.sas.hr.employee_management_api.exception.InvalidQueryParameterException;
 import com.sas.hr.employee_management_api.mapper.EmployeeMapper;
 import com.sas.hr.employee_management_api.model.Employee;
+import com.sas.hr.employee_management_api.model.EmployeeField;
 import com.sas.hr.employee_management_api.repository.EmployeeJpaRepository;
 import com.sas.hr.employee_management_api.repository.EmployeeRepository;
+import com.sas.hr.employee_management_api.repository.ShardedEmployeeRepository;
+import com.sas.hr.employee_management_api.store.ColumnarEmployeeStore;
 import com.sas.hr.employee_management_api.util.CSVProcessor;
-import com.sas.hr.employee_management_api.util.DateUtil;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.core.io.ClassPathResource;
 import org.springframework.core.io.FileSystemResource;
 import org.springframework.core.io.Resource;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.Consumer;
 
 @Service
 @Slf4j
@@ -36,15 +53,42 @@ public class EmployeeService {
     private final EmployeeRepository employeeRepository;
     private final CSVProcessor csvProcessor;
     private final EmployeeJpaRepository employeeJpaRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ColumnarEmployeeStore readStore;
+    private final EmployeeCache employeeCache;
+    private final RequestCoalescer requestCoalescer;
+    private final TransactionTemplate transactionTemplate;
+    private final GroupCommitEmployeeWriter groupCommitWriter;
+    private final ShardedEmployeeRepository shardedRepository;
+    private final EmployeeMapper.Meters mappingMeters;
+
+    // Normalized keys of the coalesced reads; Pageable includes page, size and sort
+    private record EmployeeListKey(Integer month, Pageable pageable, Set<EmployeeField> fields) {}
+    private record EmployeeLookupKey(Long id, Set<EmployeeField> fields) {}
 
     @Value("${batch.size}")
     private int batchSize;
 
+    @Value("${employee.delete.chunk-size:1000}")
+    private int deleteChunkSize = 1000;
+
     @Autowired
-    public EmployeeService(EmployeeRepository employeeRepository, CSVProcessor csvProcessor, EmployeeJpaRepository employeeJpaRepository) {
+    public EmployeeService(EmployeeRepository employeeRepository, CSVProcessor csvProcessor, EmployeeJpaRepository employeeJpaRepository,
+                           ApplicationEventPublisher eventPublisher, ColumnarEmployeeStore readStore, EmployeeCache employeeCache,
+                           RequestCoalescer requestCoalescer, TransactionTemplate transactionTemplate,
+                           GroupCommitEmployeeWriter groupCommitWriter, ShardedEmployeeRepository shardedRepository,
+                           HotPathMetrics hotPathMetrics) {
         this.employeeRepository = employeeRepository;
         this.csvProcessor = csvProcessor;
         this.employeeJpaRepository = employeeJpaRepository;
+        this.eventPublisher = eventPublisher;
+        this.readStore = readStore;
+        this.employeeCache = employeeCache;
+        this.requestCoalescer = requestCoalescer;
+        this.transactionTemplate = transactionTemplate;
+        this.groupCommitWriter = groupCommitWriter;
+        this.shardedRepository = shardedRepository;
+        this.mappingMeters = EmployeeMapper.Meters.register(hotPathMetrics.registry());
     }
 
     /**
@@ -54,12 +98,24 @@ public class EmployeeService {
      * {@link Employee} entities, and then persists the entities to the database.
      *
      * @param resource The {@link Resource} representing the CSV file to be processed.
+     * @return The ids of the created employees, in file order.
      * @throws IOException if an error occurs while reading the CSV file or processing its contents.
      */
-    private void processCsvFile(Resource resource) throws IOException {
+    private List<Long> processCsvFile(Resource resource) throws IOException {
         List<EmployeeInputDTO> employeeDTOList = loadEmployeesFromCsv(resource);
-        List<Employee> employeeList = EmployeeMapper.toEmployeeEntityList(employeeDTOList);
-        persistEmployees(employeeList);
+        return importEmployees(employeeDTOList);
+    }
+
+    /**
+     * Maps parsed CSV rows to {@link Employee} entities and persists them in batches, see
+     * {@link #persistEmployees(List)}. Safe to call from several threads at once, e.g. one per imported file.
+     *
+     * @param employeeDTOList The rows read by the {@link CSVProcessor}.
+     * @return The ids of the created employees, in list order.
+     */
+    public List<Long> importEmployees(List<EmployeeInputDTO> employeeDTOList) {
+        List<Employee> employeeList = EmployeeMapper.toEmployeeEntityList(employeeDTOList, mappingMeters);
+        return persistEmployees(employeeList);
     }
 
     /**
@@ -82,17 +138,32 @@ public class EmployeeService {
      *
      * This method takes a list of {@link Employee} objects and saves them to the database
      * using a batch insert operation. This approach is more efficient than saving each
-     * employee individually, especially when dealing with large datasets.
+     * employee individually, especially when dealing with large datasets. Each batch is inserted in its
+     * own transaction, in which an {@link EmployeesImportedEvent} is published. With sharding enabled the
+     * employees are written to all shards in parallel and the events are published once they are stored.
      *
      * @param employeeList A list of {@link Employee} objects to be persisted in the database.
      *                     Must not be null or empty.
+     * @return The ids allocated to the persisted employees, in list order.
      */
-    private void persistEmployees(List<Employee> employeeList) {
+    private List<Long> persistEmployees(List<Employee> employeeList) {
+        if (shardedRepository.isEnabled()) {
+            List<Long> ids = shardedRepository.batchInsertEmployees(employeeList, batchSize);
+            for (int i = 0; i < employeeList.size(); i += batchSize) {
+                eventPublisher.publishEvent(new EmployeesImportedEvent(employeeList.subList(i, Math.min(i + batchSize, employeeList.size()))));
+            }
+            return ids;
+        }
+        List<Long> ids = new ArrayList<>(employeeList.size());
         for (int i = 0; i < employeeList.size(); i += batchSize) {
             int end = Math.min(i + batchSize, employeeList.size());
             List<Employee> batchList = employeeList.subList(i, end);
-            employeeRepository.batchInsertEmployeesUsingJdbc(batchList); // Call repository method for each batch
+            transactionTemplate.executeWithoutResult(status -> {
+                ids.addAll(employeeRepository.batchInsertEmployeesUsingJdbc(batchList)); // Call repository method for each batch
+                eventPublisher.publishEvent(new EmployeesImportedEvent(batchList));
+            });
         }
+        return ids;
     }
 
     /**
@@ -104,12 +175,13 @@ public class EmployeeService {
      * safely without affecting the original file.
      *
      * @param file The CSV file uploaded by the user, represented as a {@link MultipartFile}.
+     * @return The ids of the created employees, in file order.
      * @throws IOException if an error occurs while saving the file or processing its contents.
      */
-    public void processUploadedCsv(MultipartFile file) throws IOException {
+    public List<Long> processUploadedCsv(MultipartFile file) throws IOException {
         Path tempFilePath = saveMultipartFileToTemp(file);
         Resource resource = new FileSystemResource(tempFilePath.toFile());
-        processCsvFile(resource);
+        return processCsvFile(resource);
     }
 
     /**
@@ -140,10 +212,12 @@ public class EmployeeService {
      * CSV file is defined as a classpath resource. If an error occurs while reading
      * the file, an {@link IOException} will be thrown.
      *
+     * @return The ids of the created employees, in file order.
      * @throws IOException if an error occurs while reading the CSV file.
-     */    public void saveEmployeesFromResources() throws IOException {
+     */
+    public List<Long> saveEmployeesFromResources() throws IOException {
         Resource resource = new ClassPathResource("static/data/ProgrammingChallengeData.csv"); // adjust based on your structure
-        processCsvFile(resource);
+        return processCsvFile(resource);
     }
 
     /**
@@ -157,9 +231,39 @@ public class EmployeeService {
      * @return A {@link Page} containing {@link EmployeeDetailsDTO} objects representing
      *         all employees in the database.
      */
+    @Transactional(readOnly = true)
     public Page<EmployeeDetailsDTO> getAllEmployees(Pageable pageable){
-        Page<Employee> employeeList = employeeJpaRepository.findAll(pageable);
-        return EmployeeMapper.convertPageEmployeeToDTO(employeeList);
+        return getAllEmployees(pageable, EmployeeField.ALL);
+    }
+
+    /**
+     * Retrieves a paginated list of all employees, selecting only the requested fields.
+     *
+     * Served from the {@link ColumnarEmployeeStore} when it is enabled and the sort is by id. Otherwise,
+     * when every field is requested the full entities are loaded through the JPA repository,
+     * otherwise only the requested columns are selected and the remaining DTO attributes are left {@code null}.
+     * Identical concurrent database reads share one query through the {@link RequestCoalescer}.
+     * Like every lookup here it runs in a read-only transaction: Hibernate keeps no snapshots for dirty checking
+     * and never flushes, and the query runs on the read pool when {@code employee.read-pool.enabled} is set.
+     *
+     * @param pageable The pagination information including page number and size.
+     * @param fields   The fields to select, see {@link EmployeeField#parseFields(String)}.
+     * @return A {@link Page} containing the (possibly partial) {@link EmployeeDetailsDTO} objects.
+     */
+    @Transactional(readOnly = true)
+    public Page<EmployeeDetailsDTO> getAllEmployees(Pageable pageable, Set<EmployeeField> fields){
+        if (readStore.isEnabled() && readStore.supports(pageable.getSort())) {
+            return EmployeeMapper.convertPageEmployeeToDTO(readStore.findAll(pageable, fields), mappingMeters);
+        }
+        return requestCoalescer.execute(new EmployeeListKey(null, pageable, Set.copyOf(fields)), () -> {
+            if (shardedRepository.isEnabled()) {
+                return EmployeeMapper.convertPageEmployeeToDTO(shardedRepository.findEmployees(null, pageable, fields), mappingMeters);
+            }
+            Page<Employee> employeeList = EmployeeField.isAll(fields)
+                    ? employeeJpaRepository.findAll(pageable)
+                    : employeeJpaRepository.findAllProjected(fields, pageable);
+            return EmployeeMapper.convertPageEmployeeToDTO(employeeList, mappingMeters);
+        });
     }
 
     /**
@@ -174,35 +278,105 @@ public class EmployeeService {
      * @return A {@link Page} containing {@link EmployeeDetailsDTO} objects representing
      *         the employees whose birthdays are in the specified month.
      */
+    @Transactional(readOnly = true)
     public Page<EmployeeDetailsDTO> getAllEmployeesByMonth(int month,Pageable pageable) {
-        Page<Employee> employeeList =  employeeRepository.findEmployeesByBirthdayMonth(month,pageable);
-        return EmployeeMapper.convertPageEmployeeToDTO(employeeList);
+        return getAllEmployeesByMonth(month, pageable, EmployeeField.ALL);
+    }
+
+    /**
+     * Retrieves a paginated list of employees born in the specified month, selecting only the requested fields.
+     * Served from the {@link ColumnarEmployeeStore} when it is enabled and the sort is by id; identical
+     * concurrent database reads share one query through the {@link RequestCoalescer}.
+     *
+     * @param month    The month (1-12) for which to retrieve employees' birthday information.
+     * @param pageable The pagination information including page number and size.
+     * @param fields   The fields to select, see {@link EmployeeField#parseFields(String)}.
+     * @return A {@link Page} containing the (possibly partial) {@link EmployeeDetailsDTO} objects.
+     */
+    @Transactional(readOnly = true)
+    public Page<EmployeeDetailsDTO> getAllEmployeesByMonth(int month, Pageable pageable, Set<EmployeeField> fields) {
+        if (readStore.isEnabled() && readStore.supports(pageable.getSort())) {
+            return EmployeeMapper.convertPageEmployeeToDTO(readStore.findByBirthMonth(month, pageable, fields), mappingMeters);
+        }
+        return requestCoalescer.execute(new EmployeeListKey(month, pageable, Set.copyOf(fields)), () -> {
+            Page<Employee> employeeList = shardedRepository.isEnabled()
+                    ? shardedRepository.findEmployees(month, pageable, fields)
+                    : employeeRepository.findEmployeesByBirthdayMonth(month, pageable, fields);
+            return EmployeeMapper.convertPageEmployeeToDTO(employeeList, mappingMeters);
+        });
     }
 
     /**
      * Deletes an employee record from the database based on the provided ID.
      *
-     * This method retrieves the employee with the specified ID from the repository.
-     * If the employee is found, it will be deleted. If no employee with the given ID
-     * exists, an {@link EmployeeNotFoundException} will be thrown.
+     * The delete is a single statement by id that also returns the deleted row, which is needed
+     * to publish the {@link EmployeeChangedEvent}. If no row was affected, an
+     * {@link EmployeeNotFoundException} will be thrown.
      *
      * @param id The ID of the employee to delete. Must be a valid, existing employee ID.
      * @throws EmployeeNotFoundException if no employee with the specified ID exists in the database.
      */
+    @Transactional
     public void deleteEmployeeById(Long id) {
-        Employee employee = employeeJpaRepository.findById(id).orElseThrow(() -> new EmployeeNotFoundException(id));
-        employeeJpaRepository.delete(employee);
+        Optional<Employee> deleted = shardedRepository.isEnabled()
+                ? shardedRepository.deleteEmployeeById(id)
+                : employeeRepository.deleteEmployeeById(id);
+        Employee employee = deleted.orElseThrow(() -> new EmployeeNotFoundException(id));
+        eventPublisher.publishEvent(EmployeeChangedEvent.deleted(employee));
+    }
+
+    /**
+     * Deletes every employee matching the filters, e.g. all employees of a state.
+     *
+     * The employees are only soft-deleted by setting their {@code deleted_at}, in chunks of at most
+     * {@code employee.delete.chunk-size} rows by ascending id. Every chunk is its own short transaction and
+     * publishes its own {@link EmployeesDeletedEvent}, so neither the locks, the events nor the change feed
+     * entries grow with the number of matches. A failure leaves the chunks before it deleted. The rows
+     * themselves are reclaimed later in small batches by the {@link EmployeePurgeService}.
+     *
+     * @param month Optional birth month (1-12) to filter on, or null.
+     * @param state Optional state to filter on, or null.
+     * @return The number of deleted employees.
+     * @throws InvalidQueryParameterException if neither filter is given.
+     */
+    public int deleteEmployees(Integer month, String state) {
+        if (month == null && state == null) {
+            throw new InvalidQueryParameterException("Deleting employees in bulk requires a month or a state");
+        }
+        Consumer<List<Employee>> publish = chunk -> eventPublisher.publishEvent(new EmployeesDeletedEvent(chunk));
+        int deleted = shardedRepository.isEnabled()
+                ? shardedRepository.softDeleteEmployees(month, state, deleteChunkSize, publish)
+                : softDeleteInChunks(month, state, publish);
+        log.info("Soft-deleted {} employees (month={}, state={})", deleted, month, state);
+        return deleted;
     }
 
+    private int softDeleteInChunks(Integer month, String state, Consumer<List<Employee>> publish) {
+        int deleted = 0;
+        long afterId = 0;
+        List<Employee> chunk;
+        do {
+            long from = afterId;
+            chunk = transactionTemplate.execute(status -> {
+                List<Employee> rows = employeeRepository.softDeleteEmployees(month, state, from, deleteChunkSize);
+                if (!rows.isEmpty()) {
+                    publish.accept(rows);
+                }
+                return rows;
+            });
+            deleted += chunk.size();
+            afterId = chunk.stream().mapToLong(Employee::getId).max().orElse(afterId);
+        } while (chunk.size() == deleteChunkSize);
+        return deleted;
+    }
 
     /**
      * Updates an existing employee record with the provided details.
      *
-     * This method retrieves the employee with the specified ID from the repository.
-     * If the employee is found, it updates the employee's details based on the
-     * information provided in the {@link EmployeeInputDTO}. The updated employee
-     * record is then saved back to the repository. If no employee with the given ID
-     * exists, an {@link EmployeeNotFoundException} will be thrown.
+     * The employee is updated with a single UPDATE by id, without loading it first. The returned
+     * {@link EmployeeDetailsDTO} is built from the provided details and the new version, so the row
+     * does not have to be read back. If no row was affected, an {@link EmployeeNotFoundException}
+     * will be thrown.
      *
      * @param id The ID of the employee to update. Must be a valid, existing employee ID.
      * @param employeeInputDTO The DTO containing the new details for the employee.
@@ -211,16 +385,84 @@ public class EmployeeService {
      * @return An {@link EmployeeDetailsDTO} representing the updated employee.
      * @throws EmployeeNotFoundException if no employee with the specified ID exists in the database.
      */
+    @Transactional
     public EmployeeDetailsDTO updateEmployee(Long id, EmployeeInputDTO employeeInputDTO) {
+        return updateEmployee(id, employeeInputDTO, null);
+    }
 
-        Employee employee = employeeJpaRepository.findById(id).orElseThrow(() -> new EmployeeNotFoundException(id));
+    /**
+     * Updates an existing employee record, provided its row version still matches the expected one.
+     *
+     * @param id The ID of the employee to update.
+     * @param employeeInputDTO The DTO containing the new details for the employee.
+     * @param expectedVersion The version the caller last saw (from {@code If-Match}), or null to update unconditionally.
+     * @return An {@link EmployeeDetailsDTO} representing the updated employee, including its new version.
+     * @throws EmployeeNotFoundException if no employee with the specified ID exists in the database.
+     * @throws EmployeeVersionMismatchException if the employee has been modified since {@code expectedVersion}.
+     */
+    @Transactional
+    public EmployeeDetailsDTO updateEmployee(Long id, EmployeeInputDTO employeeInputDTO, Long expectedVersion) {
+        Employee employee = EmployeeMapper.toEmployeeEntity(employeeInputDTO);
+        employee.setId(id);
 
-        employee.setLocation(employeeInputDTO.location());
-        employee.setBirthDay(DateUtil.convertDateStringToFormattedLocalDate(employeeInputDTO.birthDate()));
-        employee.setFirstName(employeeInputDTO.firstName());
-        employee.setLastName(employeeInputDTO.lastName());
-        Employee resultEmployee = employeeJpaRepository.save(employee);
-        return EmployeeMapper.toEmployeeDTO(resultEmployee);
+        Optional<Employee> before = shardedRepository.isEnabled()
+                ? shardedRepository.updateEmployee(employee, expectedVersion)
+                : employeeRepository.updateEmployee(employee, expectedVersion);
+        if (before.isEmpty()) {
+            // Only the failure path pays for a second statement, to tell a stale version from a missing row
+            if (expectedVersion != null && employeeExists(id)) {
+                throw new EmployeeVersionMismatchException(id);
+            }
+            throw new EmployeeNotFoundException(id);
+        }
+        employee.setVersion(before.get().getVersion() + 1);
+        eventPublisher.publishEvent(EmployeeChangedEvent.updated(before.get(), employee));
+        return EmployeeMapper.toEmployeeDTO(employee);
+    }
+
+    /**
+     * Applies a partial update to an existing employee, writing only the supplied columns.
+     *
+     * The patch is a single UPDATE that only matches when at least one column actually changes. If it
+     * matched nothing, the employee is read once to report a missing employee or a stale version;
+     * otherwise the patch was a no-op and the current employee is returned without a write or an event.
+     *
+     * @param id The ID of the employee to patch.
+     * @param changes The columns to change with their new values, see {@link EmployeeMapper#toFieldChanges}.
+     * @param expectedVersion The version the caller last saw (from {@code If-Match}), or null to patch unconditionally.
+     * @return An {@link EmployeeDetailsDTO} representing the employee after the patch.
+     * @throws EmployeeNotFoundException if no employee with the specified ID exists in the database.
+     * @throws EmployeeVersionMismatchException if the employee has been modified since {@code expectedVersion}.
+     */
+    @Transactional
+    public EmployeeDetailsDTO patchEmployee(Long id, Map<EmployeeField, Object> changes, Long expectedVersion) {
+        Optional<Employee> before = Optional.empty();
+        if (!changes.isEmpty()) {
+            before = shardedRepository.isEnabled()
+                    ? shardedRepository.patchEmployee(id, changes, expectedVersion)
+                    : employeeRepository.patchEmployee(id, changes, expectedVersion);
+        }
+        if (before.isPresent()) {
+            Employee employee = EmployeeMapper.copyOf(before.get());
+            changes.forEach((field, value) -> field.apply(employee, value));
+            employee.setVersion(before.get().getVersion() + 1);
+            eventPublisher.publishEvent(EmployeeChangedEvent.updated(before.get(), employee));
+            return EmployeeMapper.toEmployeeDTO(employee);
+        }
+
+        Employee current = findCurrentEmployee(id).orElseThrow(() -> new EmployeeNotFoundException(id));
+        if (expectedVersion != null && !expectedVersion.equals(current.getVersion())) {
+            throw new EmployeeVersionMismatchException(id);
+        }
+        return EmployeeMapper.toEmployeeDTO(current);
+    }
+
+    private boolean employeeExists(Long id) {
+        return shardedRepository.isEnabled() ? shardedRepository.findEmployeeById(id, Set.of(EmployeeField.ID)).isPresent() : employeeJpaRepository.existsById(id);
+    }
+
+    private Optional<Employee> findCurrentEmployee(Long id) {
+        return shardedRepository.isEnabled() ? shardedRepository.findEmployeeById(id, EmployeeField.ALL) : employeeJpaRepository.findById(id);
     }
 
     /**
@@ -229,13 +471,31 @@ public class EmployeeService {
      * and saves it to the repository. Upon successful creation, it returns the details of
      * the newly created employee as an {@link EmployeeDetailsDTO}.
      *
+     * With sharding enabled the employee is inserted into the shard owning its newly allocated id, and the event is
+     * published in that shard's transaction.
+     * With group commit enabled the employee is handed to the {@link GroupCommitEmployeeWriter}, which
+     * inserts it together with concurrent creates; otherwise it is saved in its own transaction. The caller
+     * holds no transaction while waiting for its group.
+     *
      * @param employeeInputDTO The DTO containing the details for the new employee.
      *                         It should include fields such as first name, last name,
      *                         location, and birth date.
      * @return An {@link EmployeeDetailsDTO} representing the newly created employee.
-     */    public EmployeeDetailsDTO createEmployee(EmployeeInputDTO employeeInputDTO) {
+     */
+    public EmployeeDetailsDTO createEmployee(EmployeeInputDTO employeeInputDTO) {
         Employee employee = EmployeeMapper.toEmployeeEntity(employeeInputDTO);
-        Employee resultEmployee = employeeJpaRepository.save(employee);
+        if (shardedRepository.isEnabled()) {
+            shardedRepository.insertEmployee(employee, inserted -> eventPublisher.publishEvent(EmployeeChangedEvent.created(inserted)));
+            return EmployeeMapper.toEmployeeDTO(employee);
+        }
+        if (groupCommitWriter.isEnabled()) {
+            return EmployeeMapper.toEmployeeDTO(groupCommitWriter.insert(employee));
+        }
+        Employee resultEmployee = transactionTemplate.execute(status -> {
+            Employee saved = employeeJpaRepository.save(employee);
+            eventPublisher.publishEvent(EmployeeChangedEvent.created(saved));
+            return saved;
+        });
         return EmployeeMapper.toEmployeeDTO(resultEmployee);
     }
 
@@ -251,8 +511,47 @@ public class EmployeeService {
      * @return An {@link EmployeeDetailsDTO} representing the details of the found employee.
      * @throws EmployeeNotFoundException if no employee with the specified ID exists in the database.
      */
+    @Transactional(readOnly = true)
     public EmployeeDetailsDTO getEmployeeById(Long id) {
-        Optional<Employee> employee = employeeJpaRepository.findById(id);
+        return getEmployeeById(id, EmployeeField.ALL);
+    }
+
+    /**
+     * Retrieves an employee's details based on the provided ID, selecting only the requested fields.
+     *
+     * Full lookups go through the {@link EmployeeCache}; on a miss the employee is read from the
+     * {@link ColumnarEmployeeStore} when it is enabled, or from the database; the cache already shares one load
+     * between concurrent misses. Sparse lookups are projected from a cached entry when there is one and otherwise
+     * select only the requested columns, with identical concurrent lookups coalesced into one query.
+     *
+     * @param id     The ID of the employee to retrieve.
+     * @param fields The fields to select, see {@link EmployeeField#parseFields(String)}.
+     * @return An {@link EmployeeDetailsDTO} whose unselected attributes are {@code null}.
+     * @throws EmployeeNotFoundException if no employee with the specified ID exists in the database.
+     */
+    @Transactional(readOnly = true)
+    public EmployeeDetailsDTO getEmployeeById(Long id, Set<EmployeeField> fields) {
+        if (EmployeeField.isAll(fields)) {
+            return employeeCache.get(id, employeeId -> loadEmployeeById(employeeId, EmployeeField.ALL));
+        }
+        EmployeeDetailsDTO cached = employeeCache.getIfPresent(id);
+        if (cached != null) {
+            return EmployeeMapper.project(cached, fields);
+        }
+        return requestCoalescer.execute(new EmployeeLookupKey(id, Set.copyOf(fields)), () -> loadEmployeeById(id, fields));
+    }
+
+    private EmployeeDetailsDTO loadEmployeeById(Long id, Set<EmployeeField> fields) {
+        Optional<Employee> employee;
+        if (readStore.isEnabled()) {
+            employee = readStore.findById(id, fields);
+        } else if (shardedRepository.isEnabled()) {
+            employee = shardedRepository.findEmployeeById(id, fields);
+        } else {
+            employee = EmployeeField.isAll(fields)
+                    ? employeeJpaRepository.findById(id)
+                    : employeeJpaRepository.findProjectedById(id, fields);
+        }
         return employee.map(EmployeeMapper::toEmployeeDTO)
                 .orElseThrow(() -> new EmployeeNotFoundException(id));
     }
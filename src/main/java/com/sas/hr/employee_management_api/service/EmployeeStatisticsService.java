@@ -0,0 +1,221 @@
+package com.sas.hr.employee_management_api.service;
+
+import com.sas.hr.employee_management_api.dto.EmployeeStatisticsDTO;
+import com.sas.hr.employee_management_api.event.EmployeeChangedEvent;
+import com.sas.hr.employee_management_api.event.EmployeesDeletedEvent;
+import com.sas.hr.employee_management_api.event.EmployeesImportedEvent;
+import com.sas.hr.employee_management_api.model.Employee;
+import com.sas.hr.employee_management_api.model.EmployeeField;
+import com.sas.hr.employee_management_api.repository.EmployeeRepository;
+import com.sas.hr.employee_management_api.repository.ShardedEmployeeRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Keeps headcount aggregates (total, per state, per city and per birth month) in memory.
+ *
+ * The counters are rebuilt from the database (all shards with {@code employee.sharding.enabled}) once the application is ready and are then maintained
+ * incrementally from the {@link EmployeeChangedEvent}, {@link EmployeesImportedEvent} and
+ * {@link EmployeesDeletedEvent} published by every write path, so reading the statistics never touches the database. Increments run concurrently
+ * under the read lock; the write lock is only taken while the counters are rebuilt.
+ *
+ * Changes that arrive while a rebuild queries the table are buffered and applied on top of the rebuilt counters,
+ * so they are not lost when the counters are reset. A change that committed just before the queries but whose
+ * event arrives during them is counted twice; that window is the time between a commit and its after-commit
+ * callbacks.
+ */
+@Slf4j
+@Service
+public class EmployeeStatisticsService {
+
+    static final String UNKNOWN = "unknown";
+
+    private final EmployeeRepository employeeRepository;
+    private final ShardedEmployeeRepository shardedRepository;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final LongAdder total = new LongAdder();
+    private final ConcurrentHashMap<String, LongAdder> byState = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, LongAdder> byCity = new ConcurrentHashMap<>();
+    private final LongAdder[] byBirthMonth = new LongAdder[12];
+
+    private record Delta(Employee employee, int delta) {}
+
+    // Non-null while a rebuild runs its queries; set and cleared under the write lock
+    private List<Delta> rebuildBuffer;
+
+    public EmployeeStatisticsService(EmployeeRepository employeeRepository, ShardedEmployeeRepository shardedRepository) {
+        this.employeeRepository = employeeRepository;
+        this.shardedRepository = shardedRepository;
+        for (int i = 0; i < byBirthMonth.length; i++) {
+            byBirthMonth[i] = new LongAdder();
+        }
+    }
+
+    /**
+     * Recomputes every counter from the database with one grouped query per dimension.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        List<Delta> buffer = Collections.synchronizedList(new ArrayList<>());
+        lock.writeLock().lock();
+        try {
+            rebuildBuffer = buffer;
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        Map<String, Long> states;
+        Map<String, Long> cities;
+        Map<Integer, Long> months;
+        try {
+            if (shardedRepository.isEnabled()) {
+                states = shardedRepository.countEmployeesGroupedBy(EmployeeField.STATE);
+                cities = shardedRepository.countEmployeesGroupedBy(EmployeeField.CITY);
+                months = shardedRepository.countEmployeesGroupedByBirthMonth();
+            } else {
+                states = employeeRepository.countEmployeesGroupedBy(EmployeeField.STATE);
+                cities = employeeRepository.countEmployeesGroupedBy(EmployeeField.CITY);
+                months = employeeRepository.countEmployeesGroupedByBirthMonth();
+            }
+        } catch (RuntimeException ex) {
+            // Keep the old counters, with the changes seen in the meantime
+            lock.writeLock().lock();
+            try {
+                buffer.forEach(change -> apply(change.employee(), change.delta()));
+                rebuildBuffer = null;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            throw ex;
+        }
+
+        lock.writeLock().lock();
+        try {
+            total.reset();
+            byState.clear();
+            byCity.clear();
+            for (LongAdder month : byBirthMonth) {
+                month.reset();
+            }
+            states.forEach((state, count) -> {
+                counter(byState, state).add(count);
+                total.add(count);
+            });
+            cities.forEach((city, count) -> counter(byCity, city).add(count));
+            months.forEach((month, count) -> byBirthMonth[month - 1].add(count));
+            buffer.forEach(change -> apply(change.employee(), change.delta()));
+            rebuildBuffer = null;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        log.info("Employee statistics rebuilt: {} employees", total.sum());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onEmployeeChanged(EmployeeChangedEvent event) {
+        lock.readLock().lock();
+        try {
+            if (event.before() != null) {
+                record(event.before(), -1);
+            }
+            if (event.after() != null) {
+                record(event.after(), 1);
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onEmployeesImported(EmployeesImportedEvent event) {
+        lock.readLock().lock();
+        try {
+            for (Employee employee : event.employees()) {
+                record(employee, 1);
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onEmployeesDeleted(EmployeesDeletedEvent event) {
+        lock.readLock().lock();
+        try {
+            for (Employee employee : event.employees()) {
+                record(employee, -1);
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Returns a snapshot of the current aggregates. Keys whose count dropped to zero are omitted.
+     *
+     * @return The headcount in total, per state, per city and per birth month.
+     */
+    public EmployeeStatisticsDTO getStatistics() {
+        lock.readLock().lock();
+        try {
+            Map<Integer, Long> months = new TreeMap<>();
+            for (int i = 0; i < byBirthMonth.length; i++) {
+                long count = byBirthMonth[i].sum();
+                if (count > 0) {
+                    months.put(i + 1, count);
+                }
+            }
+            return new EmployeeStatisticsDTO(total.sum(), snapshot(byState), snapshot(byCity), months);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // Called under the read lock
+    private void record(Employee employee, int delta) {
+        List<Delta> buffer = rebuildBuffer;
+        if (buffer != null) {
+            buffer.add(new Delta(employee, delta));
+        } else {
+            apply(employee, delta);
+        }
+    }
+
+    private void apply(Employee employee, int delta) {
+        total.add(delta);
+        counter(byState, employee.getState()).add(delta);
+        counter(byCity, employee.getCity()).add(delta);
+        if (employee.getBirthDay() != null) {
+            byBirthMonth[employee.getBirthDay().getMonthValue() - 1].add(delta);
+        }
+    }
+
+    private static LongAdder counter(ConcurrentHashMap<String, LongAdder> counters, String key) {
+        return counters.computeIfAbsent(key != null ? key : UNKNOWN, k -> new LongAdder());
+    }
+
+    private static Map<String, Long> snapshot(ConcurrentHashMap<String, LongAdder> counters) {
+        Map<String, Long> snapshot = new TreeMap<>();
+        counters.forEach((key, counter) -> {
+            long count = counter.sum();
+            if (count > 0) {
+                snapshot.put(key, count);
+            }
+        });
+        return snapshot;
+    }
+}
@@ -0,0 +1,189 @@
+package com.sas.hr.employee_management_api.service;
+
+import com.sas.hr.employee_management_api.event.EmployeeChangedEvent;
+import com.sas.hr.employee_management_api.model.Employee;
+import com.sas.hr.employee_management_api.repository.EmployeeRepository;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Opt-in group commit for single employee creates ({@code employee.group-commit.enabled=true}).
+ *
+ * Concurrent {@link #insert(Employee)} calls are queued and a single writer thread gathers them into groups:
+ * after the first create arrives it waits at most {@code employee.group-commit.max-wait} for more, and never
+ * collects more than {@code employee.group-commit.max-batch-size}. Each group is written as one JDBC batch
+ * in one transaction, with ids from the pooled sequence, and every caller is then completed with its own
+ * employee. A longer wait or larger groups mean fewer commits at the cost of added latency per create; a
+ * {@code max-wait} of 0 only groups creates that are already queued.
+ *
+ * If a group fails, its creates are retried one by one, so a single bad row only fails its own caller.
+ * Group sizes are recorded in the {@code employee.group-commit.size} distribution summary.
+ */
+@Slf4j
+@Component
+public class GroupCommitEmployeeWriter implements DisposableBean {
+
+    private static final long STOP_POLL_MILLIS = 100;
+
+    private record PendingCreate(Employee employee, CompletableFuture<Employee> result) {}
+
+    private final EmployeeRepository employeeRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+    private final boolean enabled;
+    private final int maxBatchSize;
+    private final long maxWaitNanos;
+    private final BlockingQueue<PendingCreate> queue;
+    private final DistributionSummary groupSizes;
+    private final Thread writer;
+    private volatile boolean stopped;
+
+    public GroupCommitEmployeeWriter(EmployeeRepository employeeRepository,
+                                     ApplicationEventPublisher eventPublisher,
+                                     TransactionTemplate transactionTemplate,
+                                     MeterRegistry meterRegistry,
+                                     @Value("${employee.group-commit.enabled:false}") boolean enabled,
+                                     @Value("${employee.group-commit.max-batch-size:64}") int maxBatchSize,
+                                     @Value("${employee.group-commit.max-wait:2ms}") Duration maxWait,
+                                     @Value("${employee.group-commit.max-queue:10000}") int maxQueue) {
+        this.employeeRepository = employeeRepository;
+        this.eventPublisher = eventPublisher;
+        this.transactionTemplate = transactionTemplate;
+        this.enabled = enabled;
+        this.maxBatchSize = Math.max(maxBatchSize, 1);
+        this.maxWaitNanos = maxWait.toNanos();
+        this.queue = new ArrayBlockingQueue<>(Math.max(maxQueue, 1));
+        this.groupSizes = DistributionSummary.builder("employee.group-commit.size")
+                .description("Number of employee creates committed together")
+                .register(meterRegistry);
+        this.writer = enabled ? Thread.ofPlatform().name("employee-group-commit").daemon().start(this::run) : null;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Inserts the employee as part of the next group commit and waits until that group has committed.
+     * Blocks while {@code employee.group-commit.max-queue} creates are already waiting.
+     *
+     * @param employee The employee to create; its id and version are set once it has been committed.
+     * @return The created employee.
+     */
+    public Employee insert(Employee employee) {
+        if (stopped) {
+            throw new IllegalStateException("The group commit writer has been stopped");
+        }
+        PendingCreate pending = new PendingCreate(employee, new CompletableFuture<>());
+        try {
+            queue.put(pending);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while queueing an employee create", e);
+        }
+        if (stopped && queue.remove(pending)) {
+            // Queued after the writer drained the queue for the last time
+            throw new IllegalStateException("The group commit writer has been stopped");
+        }
+        try {
+            return pending.result().join();
+        } catch (CompletionException ex) {
+            throw ex.getCause() instanceof RuntimeException cause ? cause : ex;
+        }
+    }
+
+    private void run() {
+        List<PendingCreate> group = new ArrayList<>(maxBatchSize);
+        while (!stopped) {
+            try {
+                PendingCreate first = queue.poll(STOP_POLL_MILLIS, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                group.add(first);
+                collect(group);
+                commit(group);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            } catch (RuntimeException ex) {
+                // commit() completes every caller itself; never let the writer thread die
+                log.error("Unexpected error in the employee group commit writer", ex);
+            } finally {
+                group.clear();
+            }
+        }
+        PendingCreate pending;
+        while ((pending = queue.poll()) != null) {
+            pending.result().completeExceptionally(new IllegalStateException("The group commit writer has been stopped"));
+        }
+    }
+
+    private void collect(List<PendingCreate> group) throws InterruptedException {
+        long deadline = System.nanoTime() + maxWaitNanos;
+        while (group.size() < maxBatchSize) {
+            // Take whatever is already queued, then wait for stragglers until the deadline
+            if (queue.drainTo(group, maxBatchSize - group.size()) > 0) {
+                continue;
+            }
+            long remaining = deadline - System.nanoTime();
+            PendingCreate next = remaining > 0 ? queue.poll(remaining, TimeUnit.NANOSECONDS) : null;
+            if (next == null) {
+                return;
+            }
+            group.add(next);
+        }
+    }
+
+    private void commit(List<PendingCreate> group) {
+        groupSizes.record(group.size());
+        try {
+            insertGroup(group.stream().map(PendingCreate::employee).toList());
+            group.forEach(pending -> pending.result().complete(pending.employee()));
+        } catch (RuntimeException ex) {
+            if (group.size() == 1) {
+                group.get(0).result().completeExceptionally(ex);
+                return;
+            }
+            log.warn("Group commit of {} employees failed, retrying them one by one: {}", group.size(), ex.getMessage());
+            for (PendingCreate pending : group) {
+                try {
+                    insertGroup(List.of(pending.employee()));
+                    pending.result().complete(pending.employee());
+                } catch (RuntimeException single) {
+                    pending.result().completeExceptionally(single);
+                }
+            }
+        }
+    }
+
+    private void insertGroup(List<Employee> employees) {
+        transactionTemplate.executeWithoutResult(status -> {
+            employeeRepository.batchInsertEmployeesUsingJdbc(employees);
+            employees.forEach(employee -> eventPublisher.publishEvent(EmployeeChangedEvent.created(employee)));
+        });
+    }
+
+    @Override
+    public void destroy() throws InterruptedException {
+        stopped = true;
+        if (writer != null) {
+            writer.join(Duration.ofSeconds(5));
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package com.sas.hr.employee_management_api.service;
+
+import com.sas.hr.employee_management_api.dto.EmployeeDetailsDTO;
+import com.sas.hr.employee_management_api.exception.EmployeeNotFoundException;
+import com.sas.hr.employee_management_api.exception.ShardingUnsupportedException;
+import com.sas.hr.employee_management_api.mapper.EmployeeMapper;
+import com.sas.hr.employee_management_api.model.EmployeeField;
+import com.sas.hr.employee_management_api.repository.ReactiveEmployeeRepository;
+import com.sas.hr.employee_management_api.repository.ShardedEmployeeRepository;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.Set;
+
+@Service
+public class ReactiveEmployeeService {
+
+    private final ReactiveEmployeeRepository reactiveEmployeeRepository;
+    private final ShardedEmployeeRepository shardedRepository;
+
+    public ReactiveEmployeeService(ReactiveEmployeeRepository reactiveEmployeeRepository, ShardedEmployeeRepository shardedRepository) {
+        this.reactiveEmployeeRepository = reactiveEmployeeRepository;
+        this.shardedRepository = shardedRepository;
+    }
+
+    /**
+     * Streams one page of employees, optionally restricted to a birth month, as DTOs.
+     * Unlike {@link EmployeeService#getAllEmployees} no total count is computed, so a page is a single query.
+     * The R2DBC connection only reaches the primary database, so this fails with sharded storage.
+     *
+     * @param month    Optional birth month (1-12), or null for all employees.
+     * @param pageable The page to read.
+     * @param fields   The fields to return.
+     * @return The employees of the page.
+     */
+    public Flux<EmployeeDetailsDTO> getEmployees(Integer month, Pageable pageable, Set<EmployeeField> fields) {
+        if (shardedRepository.isEnabled()) {
+            return Flux.error(new ShardingUnsupportedException("Reactive reads"));
+        }
+        return (month != null
+                ? reactiveEmployeeRepository.findByBirthMonth(month, pageable, fields)
+                : reactiveEmployeeRepository.findAll(pageable, fields))
+                .map(EmployeeMapper::toEmployeeDTO);
+    }
+
+    /**
+     * Reads a single employee as a DTO.
+     *
+     * @param id     The employee id.
+     * @param fields The fields to return.
+     * @return The employee, or an error with {@link EmployeeNotFoundException} if there is none with this id.
+     */
+    public Mono<EmployeeDetailsDTO> getEmployeeById(Long id, Set<EmployeeField> fields) {
+        if (shardedRepository.isEnabled()) {
+            return Mono.error(new ShardingUnsupportedException("Reactive reads"));
+        }
+        return reactiveEmployeeRepository.findById(id, fields)
+                .map(EmployeeMapper::toEmployeeDTO)
+                .switchIfEmpty(Mono.error(() -> new EmployeeNotFoundException(id)));
+    }
+}
@@ -0,0 +1,322 @@
+package com.sas.hr.employee_management_api.store;
+
+import com.sas.hr.employee_management_api.event.EmployeeChangedEvent;
+import com.sas.hr.employee_management_api.event.EmployeesDeletedEvent;
+import com.sas.hr.employee_management_api.event.EmployeesImportedEvent;
+import com.sas.hr.employee_management_api.model.Employee;
+import com.sas.hr.employee_management_api.model.EmployeeField;
+import com.sas.hr.employee_management_api.repository.EmployeeRepository;
+import com.sas.hr.employee_management_api.repository.ShardedEmployeeRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Optional read-optimized copy of the employee table, held in primitive column arrays.
+ *
+ * Rows are kept sorted by id in a {@code long[]} next to their row versions, birthdays are stored as epoch days in an {@code int[]}
+ * (plus a {@code byte[]} of birth months for month filtering) and every string column holds int codes
+ * into a shared {@link StringDictionary}. Compared to the equivalent {@link Employee} objects this avoids
+ * one object header per row and per attribute and stores repeated names, cities and states only once.
+ *
+ * The store is enabled with {@code employee.read-store.enabled=true}; it stays off with sharded storage, whose rows
+ * are not in the primary table it loads from. It is loaded from the database
+ * when the application is ready and kept consistent afterwards from the {@link EmployeeChangedEvent},
+ * {@link EmployeesImportedEvent} and {@link EmployeesDeletedEvent} published by every write path. Until it is loaded {@link #isEnabled()}
+ * returns false and callers keep reading from the database. Changes that arrive while the table is being loaded are
+ * queued and applied once the load is done, so rows read before they committed do not stay stale.
+ */
+@Slf4j
+@Component
+public class ColumnarEmployeeStore {
+
+    private static final int NO_DATE = Integer.MIN_VALUE;
+    private static final EmployeeField[] STRING_FIELDS = {
+            EmployeeField.FIRST_NAME, EmployeeField.LAST_NAME, EmployeeField.CITY, EmployeeField.STATE, EmployeeField.LOCATION
+    };
+    private static final Sort ID_SORT = Sort.by(EmployeeField.ID.getAttributeName());
+
+    private final EmployeeRepository employeeRepository;
+    private final boolean enabled;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private StringDictionary dictionary = new StringDictionary();
+    private long[] ids;
+    private long[] versions;
+    private final int[][] stringColumns = new int[STRING_FIELDS.length][];
+    private int[] birthDays;
+    private byte[] birthMonths;
+    private int size;
+    private volatile boolean loaded;
+
+    // Non-null while a load runs; changes arriving meanwhile are applied after it
+    private final Object pendingLock = new Object();
+    private List<Runnable> pendingChanges;
+
+    public ColumnarEmployeeStore(EmployeeRepository employeeRepository,
+                                 ShardedEmployeeRepository shardedRepository,
+                                 @Value("${employee.read-store.enabled:false}") boolean enabled,
+                                 @Value("${employee.read-store.initial-capacity:1024}") int initialCapacity) {
+        this.employeeRepository = employeeRepository;
+        if (enabled && shardedRepository.isEnabled()) {
+            log.warn("employee.read-store.enabled is ignored with sharded storage");
+        }
+        this.enabled = enabled && !shardedRepository.isEnabled();
+        allocate(Math.max(initialCapacity, 16));
+    }
+
+    /**
+     * @return true when the store is switched on and has been loaded, i.e. it can serve reads.
+     */
+    public boolean isEnabled() {
+        return enabled && loaded;
+    }
+
+    /**
+     * @return true when listings with the given sort can be served from the store, which keeps rows in id order only.
+     */
+    public boolean supports(Sort sort) {
+        return sort.isUnsorted() || ID_SORT.equals(sort);
+    }
+
+    /**
+     * Replaces the content of the store with the current content of the employee table.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void reload() {
+        if (!enabled) {
+            return;
+        }
+        long start = System.nanoTime();
+        synchronized (pendingLock) {
+            pendingChanges = new ArrayList<>();
+        }
+        lock.writeLock().lock();
+        try {
+            dictionary = new StringDictionary();
+            size = 0;
+            try {
+                employeeRepository.streamEmployees(null, null, this::append);
+            } finally {
+                synchronized (pendingLock) {
+                    pendingChanges.forEach(Runnable::run);
+                    pendingChanges = null;
+                }
+            }
+            loaded = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        log.info("Columnar employee store loaded {} employees ({} distinct strings, ~{} KB) in {} ms",
+                size, dictionary.size(), estimatedHeapBytes() / 1024, (System.nanoTime() - start) / 1_000_000);
+    }
+
+    public Optional<Employee> findById(long id, Set<EmployeeField> fields) {
+        lock.readLock().lock();
+        try {
+            int row = Arrays.binarySearch(ids, 0, size, id);
+            return row < 0 ? Optional.empty() : Optional.of(toEmployee(row, fields));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public Page<Employee> findAll(Pageable pageable, Set<EmployeeField> fields) {
+        lock.readLock().lock();
+        try {
+            int from = (int) Math.min(pageable.getOffset(), size);
+            int to = Math.min(from + pageable.getPageSize(), size);
+            List<Employee> content = new ArrayList<>(to - from);
+            for (int row = from; row < to; row++) {
+                content.add(toEmployee(row, fields));
+            }
+            return new PageImpl<>(content, pageable, size);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public Page<Employee> findByBirthMonth(int month, Pageable pageable, Set<EmployeeField> fields) {
+        lock.readLock().lock();
+        try {
+            long offset = pageable.getOffset();
+            int pageSize = pageable.getPageSize();
+            List<Employee> content = new ArrayList<>(pageSize);
+            long matches = 0;
+            for (int row = 0; row < size; row++) {
+                if (birthMonths[row] == month) {
+                    if (matches >= offset && content.size() < pageSize) {
+                        content.add(toEmployee(row, fields));
+                    }
+                    matches++;
+                }
+            }
+            return new PageImpl<>(content, pageable, matches);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onEmployeeChanged(EmployeeChangedEvent event) {
+        applyChange(() -> {
+            if (event.after() != null) {
+                upsert(event.after());
+            } else {
+                remove(event.before().getId());
+            }
+        });
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onEmployeesImported(EmployeesImportedEvent event) {
+        applyChange(() -> event.employees().forEach(this::upsert));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onEmployeesDeleted(EmployeesDeletedEvent event) {
+        applyChange(() -> event.employees().forEach(employee -> remove(employee.getId())));
+    }
+
+    /**
+     * Applies a change under the write lock, or queues it while a load is running. Changes that arrive before the
+     * first load are dropped; they committed before it and the load reads them from the table.
+     */
+    private void applyChange(Runnable change) {
+        if (!enabled) {
+            return;
+        }
+        synchronized (pendingLock) {
+            if (pendingChanges != null) {
+                pendingChanges.add(change);
+                return;
+            }
+        }
+        if (!loaded) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            change.run();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * @return A rough estimate of the heap used by the columns and the dictionary, in bytes.
+     */
+    public long estimatedHeapBytes() {
+        long perRow = 2L * Long.BYTES + (long) STRING_FIELDS.length * Integer.BYTES + Integer.BYTES + Byte.BYTES;
+        return (long) ids.length * perRow + dictionary.estimatedHeapBytes();
+    }
+
+    public int size() {
+        return size;
+    }
+
+    private void append(Employee employee) {
+        ensureCapacity(size + 1);
+        ids[size] = employee.getId();
+        write(size, employee);
+        size++;
+    }
+
+    private void upsert(Employee employee) {
+        int row = Arrays.binarySearch(ids, 0, size, employee.getId());
+        if (row < 0) {
+            row = -row - 1;
+            ensureCapacity(size + 1);
+            shift(row, row + 1, size - row);
+            size++;
+            ids[row] = employee.getId();
+        }
+        write(row, employee);
+    }
+
+    private void remove(long id) {
+        int row = Arrays.binarySearch(ids, 0, size, id);
+        if (row >= 0) {
+            shift(row + 1, row, size - row - 1);
+            size--;
+        }
+    }
+
+    private void write(int row, Employee employee) {
+        for (int column = 0; column < STRING_FIELDS.length; column++) {
+            stringColumns[column][row] = dictionary.encode(stringValue(employee, STRING_FIELDS[column]));
+        }
+        versions[row] = employee.getVersion() != null ? employee.getVersion() : 0L;
+        LocalDate birthDay = employee.getBirthDay();
+        birthDays[row] = birthDay != null ? (int) birthDay.toEpochDay() : NO_DATE;
+        birthMonths[row] = birthDay != null ? (byte) birthDay.getMonthValue() : 0;
+    }
+
+    private Employee toEmployee(int row, Set<EmployeeField> fields) {
+        Employee employee = new Employee();
+        employee.setId(ids[row]);
+        employee.setVersion(versions[row]);
+        for (int column = 0; column < STRING_FIELDS.length; column++) {
+            if (fields.contains(STRING_FIELDS[column])) {
+                STRING_FIELDS[column].apply(employee, dictionary.decode(stringColumns[column][row]));
+            }
+        }
+        if (fields.contains(EmployeeField.BIRTH_DATE) && birthDays[row] != NO_DATE) {
+            employee.setBirthDay(LocalDate.ofEpochDay(birthDays[row]));
+        }
+        return employee;
+    }
+
+    private static String stringValue(Employee employee, EmployeeField field) {
+        return switch (field) {
+            case FIRST_NAME -> employee.getFirstName();
+            case LAST_NAME -> employee.getLastName();
+            case CITY -> employee.getCity();
+            case STATE -> employee.getState();
+            case LOCATION -> employee.getLocation();
+            default -> throw new IllegalArgumentException("Not a string column: " + field);
+        };
+    }
+
+    private void shift(int from, int to, int length) {
+        System.arraycopy(ids, from, ids, to, length);
+        System.arraycopy(versions, from, versions, to, length);
+        for (int[] column : stringColumns) {
+            System.arraycopy(column, from, column, to, length);
+        }
+        System.arraycopy(birthDays, from, birthDays, to, length);
+        System.arraycopy(birthMonths, from, birthMonths, to, length);
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (capacity > ids.length) {
+            allocate(Math.max(capacity, ids.length + (ids.length >> 1)));
+        }
+    }
+
+    private void allocate(int capacity) {
+        ids = ids == null ? new long[capacity] : Arrays.copyOf(ids, capacity);
+        versions = versions == null ? new long[capacity] : Arrays.copyOf(versions, capacity);
+        for (int column = 0; column < stringColumns.length; column++) {
+            stringColumns[column] = stringColumns[column] == null ? new int[capacity] : Arrays.copyOf(stringColumns[column], capacity);
+        }
+        birthDays = birthDays == null ? new int[capacity] : Arrays.copyOf(birthDays, capacity);
+        birthMonths = birthMonths == null ? new byte[capacity] : Arrays.copyOf(birthMonths, capacity);
+    }
+}
@@ -0,0 +1,238 @@
+package com.sas.hr.employee_management_api.store;
+
+import com.sas.hr.employee_management_api.model.Employee;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Binary snapshot format of the employee table.
+ *
+ * <pre>
+ * header     magic "EMPS" (int), format version (int), row count (int), max id (long), dictionary offset (long)
+ * records    one fixed-width record per row, ordered by id:
+ *            id (long), version (long), first name, last name, city, state, location (int dictionary codes),
+ *            birthday (int epoch day, {@link Integer#MIN_VALUE} for none)
+ * dictionary entry count (int), then per entry its UTF-8 length (int) and bytes
+ * </pre>
+ *
+ * Strings are dictionary-encoded with a {@link StringDictionary}, so repeated names, cities and states are
+ * stored once. The dictionary is written after the records because it is only complete once every row has
+ * been seen. Snapshots are written to a temporary file and moved into place, so a reader never sees a
+ * partially written snapshot. Reading memory-maps the file.
+ */
+final class EmployeeSnapshotFile {
+
+    static final int MAGIC = 0x454D5053;
+    static final int FORMAT_VERSION = 1;
+    static final int HEADER_BYTES = 3 * Integer.BYTES + 2 * Long.BYTES;
+    static final int RECORD_BYTES = 2 * Long.BYTES + 5 * Integer.BYTES + Integer.BYTES;
+
+    private static final int NO_DATE = Integer.MIN_VALUE;
+    private static final int WRITE_BUFFER_BYTES = 1 << 16;
+
+    /**
+     * Summary of a snapshot file, as found in its header.
+     */
+    record Header(int rowCount, long maxId, long dictionaryOffset) {
+    }
+
+    private EmployeeSnapshotFile() {
+    }
+
+    /**
+     * Writes a snapshot of the employees the given source emits, which must be in ascending id order.
+     *
+     * @param target The snapshot file to (re)place.
+     * @param source Emits every employee to the consumer it is given.
+     * @return The header of the written snapshot.
+     */
+    static Header write(Path target, Consumer<Consumer<Employee>> source) throws IOException {
+        Path parent = target.toAbsolutePath().getParent();
+        Files.createDirectories(parent);
+        Path temp = Files.createTempFile(parent, target.getFileName().toString(), ".tmp");
+        try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            StringDictionary dictionary = new StringDictionary();
+            ByteBuffer buffer = ByteBuffer.allocateDirect(WRITE_BUFFER_BYTES);
+            channel.position(HEADER_BYTES);
+            int[] rowCount = {0};
+            long[] maxId = {0L};
+            IOException[] failure = {null};
+            source.accept(employee -> {
+                if (failure[0] != null) {
+                    return;
+                }
+                try {
+                    if (buffer.remaining() < RECORD_BYTES) {
+                        flush(channel, buffer);
+                    }
+                    putRecord(buffer, employee, dictionary);
+                    rowCount[0]++;
+                    maxId[0] = Math.max(maxId[0], employee.getId());
+                } catch (IOException ex) {
+                    failure[0] = ex;
+                }
+            });
+            if (failure[0] != null) {
+                throw failure[0];
+            }
+            flush(channel, buffer);
+
+            long dictionaryOffset = channel.position();
+            writeDictionary(channel, buffer, dictionary);
+
+            Header header = new Header(rowCount[0], maxId[0], dictionaryOffset);
+            buffer.clear();
+            buffer.putInt(MAGIC).putInt(FORMAT_VERSION).putInt(header.rowCount()).putLong(header.maxId()).putLong(header.dictionaryOffset());
+            buffer.flip();
+            channel.write(buffer, 0);
+            channel.force(true);
+            channel.close();
+            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            return header;
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    /**
+     * Reads only the header of a snapshot.
+     *
+     * @throws IOException if the file cannot be read or is not a snapshot in a supported format.
+     */
+    static Header readHeader(Path source) throws IOException {
+        try (FileChannel channel = FileChannel.open(source, StandardOpenOption.READ)) {
+            ByteBuffer buffer = ByteBuffer.allocate(HEADER_BYTES);
+            while (buffer.hasRemaining() && channel.read(buffer) >= 0) {
+                // read the whole header
+            }
+            buffer.flip();
+            return readHeader(buffer, channel.size(), source);
+        }
+    }
+
+    /**
+     * Reads a snapshot, handing its employees to the consumer in chunks of at most {@code chunkSize}, in id order.
+     *
+     * @return The header of the snapshot.
+     * @throws IOException if the file cannot be read or is not a snapshot in a supported format.
+     */
+    static Header read(Path source, int chunkSize, Consumer<List<Employee>> consumer) throws IOException {
+        try (FileChannel channel = FileChannel.open(source, StandardOpenOption.READ)) {
+            if (channel.size() > Integer.MAX_VALUE) {
+                throw new IOException("Snapshot " + source + " is larger than 2 GB");
+            }
+            MappedByteBuffer mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            Header header = readHeader(mapped, channel.size(), source);
+
+            String[] dictionary = readDictionary(mapped.slice((int) header.dictionaryOffset(), (int) (channel.size() - header.dictionaryOffset())));
+            mapped.position(HEADER_BYTES);
+            List<Employee> chunk = new ArrayList<>(Math.min(chunkSize, header.rowCount()));
+            for (int row = 0; row < header.rowCount(); row++) {
+                chunk.add(getRecord(mapped, dictionary));
+                if (chunk.size() == chunkSize) {
+                    consumer.accept(chunk);
+                    chunk = new ArrayList<>(chunkSize);
+                }
+            }
+            if (!chunk.isEmpty()) {
+                consumer.accept(chunk);
+            }
+            return header;
+        }
+    }
+
+    private static Header readHeader(ByteBuffer buffer, long fileSize, Path source) throws IOException {
+        if (fileSize < HEADER_BYTES || buffer.getInt() != MAGIC) {
+            throw new IOException(source + " is not an employee snapshot");
+        }
+        int formatVersion = buffer.getInt();
+        if (formatVersion != FORMAT_VERSION) {
+            throw new IOException("Unsupported snapshot format version " + formatVersion + " in " + source);
+        }
+        Header header = new Header(buffer.getInt(), buffer.getLong(), buffer.getLong());
+        if (header.dictionaryOffset() != HEADER_BYTES + (long) header.rowCount() * RECORD_BYTES || header.dictionaryOffset() > fileSize) {
+            throw new IOException("Snapshot " + source + " is truncated or corrupt");
+        }
+        return header;
+    }
+
+    private static void putRecord(ByteBuffer buffer, Employee employee, StringDictionary dictionary) {
+        buffer.putLong(employee.getId());
+        buffer.putLong(employee.getVersion() != null ? employee.getVersion() : 0L);
+        buffer.putInt(dictionary.encode(employee.getFirstName()));
+        buffer.putInt(dictionary.encode(employee.getLastName()));
+        buffer.putInt(dictionary.encode(employee.getCity()));
+        buffer.putInt(dictionary.encode(employee.getState()));
+        buffer.putInt(dictionary.encode(employee.getLocation()));
+        buffer.putInt(employee.getBirthDay() != null ? (int) employee.getBirthDay().toEpochDay() : NO_DATE);
+    }
+
+    private static Employee getRecord(ByteBuffer buffer, String[] dictionary) {
+        Employee employee = new Employee();
+        employee.setId(buffer.getLong());
+        employee.setVersion(buffer.getLong());
+        employee.setFirstName(decode(dictionary, buffer.getInt()));
+        employee.setLastName(decode(dictionary, buffer.getInt()));
+        employee.setCity(decode(dictionary, buffer.getInt()));
+        employee.setState(decode(dictionary, buffer.getInt()));
+        employee.setLocation(decode(dictionary, buffer.getInt()));
+        int birthDay = buffer.getInt();
+        employee.setBirthDay(birthDay != NO_DATE ? LocalDate.ofEpochDay(birthDay) : null);
+        return employee;
+    }
+
+    private static String decode(String[] dictionary, int code) {
+        return code == StringDictionary.NULL_CODE ? null : dictionary[code];
+    }
+
+    private static void writeDictionary(FileChannel channel, ByteBuffer buffer, StringDictionary dictionary) throws IOException {
+        buffer.clear();
+        buffer.putInt(dictionary.size());
+        for (int code = 0; code < dictionary.size(); code++) {
+            byte[] bytes = dictionary.decode(code).getBytes(StandardCharsets.UTF_8);
+            if (buffer.remaining() < Integer.BYTES) {
+                flush(channel, buffer);
+            }
+            buffer.putInt(bytes.length);
+            for (int offset = 0; offset < bytes.length; ) {
+                if (!buffer.hasRemaining()) {
+                    flush(channel, buffer);
+                }
+                int length = Math.min(buffer.remaining(), bytes.length - offset);
+                buffer.put(bytes, offset, length);
+                offset += length;
+            }
+        }
+        flush(channel, buffer);
+    }
+
+    private static String[] readDictionary(ByteBuffer buffer) {
+        String[] values = new String[buffer.getInt()];
+        for (int code = 0; code < values.length; code++) {
+            byte[] bytes = new byte[buffer.getInt()];
+            buffer.get(bytes);
+            values[code] = new String(bytes, StandardCharsets.UTF_8);
+        }
+        return values;
+    }
+
+    private static void flush(FileChannel channel, ByteBuffer buffer) throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        buffer.clear();
+    }
+}
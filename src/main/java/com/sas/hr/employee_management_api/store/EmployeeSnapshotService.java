@@ -0,0 +1,158 @@
+package com.sas.hr.employee_management_api.store;
+
+import com.sas.hr.employee_management_api.exception.ShardingUnsupportedException;
+import com.sas.hr.employee_management_api.repository.EmployeeRepository;
+import com.sas.hr.employee_management_api.repository.ShardedEmployeeRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationStartedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+
+/**
+ * Writes the employee table to a binary snapshot (see {@link EmployeeSnapshotFile}) and restores it at startup.
+ *
+ * Restoring bulk-inserts the fixed-width records of the memory-mapped snapshot with their ids and versions;
+ * unlike a CSV import nothing is parsed. With {@code employee.snapshot.restore-on-startup=true} the snapshot
+ * at {@code employee.snapshot.path} is restored once the context has started, before the application reports
+ * ready, so the read stores warm up from the restored rows. Restoring is skipped when the table already has
+ * data, e.g. in the persistent storage mode. Snapshots only cover the primary table, so they are not available with
+ * sharded storage.
+ */
+@Slf4j
+@Service
+public class EmployeeSnapshotService {
+
+    private final EmployeeRepository employeeRepository;
+    private final ShardedEmployeeRepository shardedRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final TransactionTemplate snapshotTransactionTemplate;
+    private final Path snapshotPath;
+    private final boolean restoreOnStartup;
+    private final int restoreBatchSize;
+
+    public EmployeeSnapshotService(EmployeeRepository employeeRepository,
+                                   ShardedEmployeeRepository shardedRepository,
+                                   TransactionTemplate transactionTemplate,
+                                   @Value("${employee.snapshot.path:./snapshot/employees.snap}") Path snapshotPath,
+                                   @Value("${employee.snapshot.restore-on-startup:false}") boolean restoreOnStartup,
+                                   @Value("${employee.snapshot.restore-batch-size:1000}") int restoreBatchSize) {
+        this.employeeRepository = employeeRepository;
+        this.shardedRepository = shardedRepository;
+        this.transactionTemplate = transactionTemplate;
+        // Read-only, so it runs on the read pool, and repeatable read, so every row is read as of one point in time
+        this.snapshotTransactionTemplate = new TransactionTemplate(transactionTemplate.getTransactionManager());
+        this.snapshotTransactionTemplate.setReadOnly(true);
+        this.snapshotTransactionTemplate.setIsolationLevel(TransactionDefinition.ISOLATION_REPEATABLE_READ);
+        this.snapshotPath = snapshotPath;
+        this.restoreOnStartup = restoreOnStartup;
+        this.restoreBatchSize = restoreBatchSize;
+    }
+
+    /**
+     * Writes a snapshot of the whole employee table, replacing the previous one.
+     *
+     * The rows are read in one read-only, repeatable-read transaction, so the snapshot is consistent even while
+     * writes continue.
+     *
+     * @return What was written.
+     */
+    public SnapshotInfo createSnapshot() {
+        if (shardedRepository.isEnabled()) {
+            throw new ShardingUnsupportedException("Snapshots");
+        }
+        long start = System.nanoTime();
+        EmployeeSnapshotFile.Header header = snapshotTransactionTemplate.execute(status -> {
+            try {
+                return EmployeeSnapshotFile.write(snapshotPath, consumer -> employeeRepository.streamEmployees(null, null, consumer));
+            } catch (IOException ex) {
+                throw new UncheckedIOException("Could not write snapshot " + snapshotPath, ex);
+            }
+        });
+        SnapshotInfo info = describe(header);
+        log.info("Wrote snapshot of {} employees to {} ({} bytes) in {} ms",
+                info.rowCount(), snapshotPath, info.sizeBytes(), (System.nanoTime() - start) / 1_000_000);
+        return info;
+    }
+
+    /**
+     * @return The snapshot currently on disk, or a {@link SnapshotInfo} with {@code exists} false.
+     */
+    public SnapshotInfo currentSnapshot() {
+        if (!Files.exists(snapshotPath)) {
+            return new SnapshotInfo(snapshotPath.toString(), false, 0, 0L, 0L, null);
+        }
+        try {
+            return describe(EmployeeSnapshotFile.readHeader(snapshotPath));
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Could not read snapshot " + snapshotPath, ex);
+        }
+    }
+
+    @EventListener(ApplicationStartedEvent.class)
+    public void restoreOnStartup() {
+        if (!restoreOnStartup) {
+            return;
+        }
+        if (shardedRepository.isEnabled()) {
+            log.warn("Not restoring snapshot {}: snapshots are not supported with sharded storage", snapshotPath);
+            return;
+        }
+        if (!Files.exists(snapshotPath)) {
+            log.warn("No snapshot to restore at {}", snapshotPath);
+            return;
+        }
+        // Soft-deleted rows still hold their ids until they are purged
+        if (employeeRepository.hasRows()) {
+            log.info("Employee table is not empty, not restoring snapshot {}", snapshotPath);
+            return;
+        }
+        restoreSnapshot();
+    }
+
+    /**
+     * Loads the snapshot into an empty employee table in one transaction and moves the id sequence past the restored ids.
+     *
+     * @return The number of restored employees.
+     */
+    public int restoreSnapshot() {
+        if (shardedRepository.isEnabled()) {
+            throw new ShardingUnsupportedException("Snapshots");
+        }
+        long start = System.nanoTime();
+        EmployeeSnapshotFile.Header header = transactionTemplate.execute(status -> {
+            try {
+                EmployeeSnapshotFile.Header read = EmployeeSnapshotFile.read(snapshotPath, restoreBatchSize,
+                        employeeRepository::batchRestoreEmployeesUsingJdbc);
+                employeeRepository.restartIdSequenceAfter(read.maxId());
+                return read;
+            } catch (IOException ex) {
+                throw new UncheckedIOException("Could not restore snapshot " + snapshotPath, ex);
+            }
+        });
+        log.info("Restored {} employees from snapshot {} in {} ms",
+                header.rowCount(), snapshotPath, (System.nanoTime() - start) / 1_000_000);
+        return header.rowCount();
+    }
+
+    private SnapshotInfo describe(EmployeeSnapshotFile.Header header) {
+        try {
+            FileTime modified = Files.getLastModifiedTime(snapshotPath);
+            return new SnapshotInfo(snapshotPath.toString(), true, header.rowCount(), header.maxId(), Files.size(snapshotPath),
+                    modified.toInstant().toString());
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Could not read snapshot " + snapshotPath, ex);
+        }
+    }
+
+    public record SnapshotInfo(String path, boolean exists, int rowCount, long maxId, long sizeBytes, String lastModified) {
+    }
+}
@@ -0,0 +1,34 @@
+package com.sas.hr.employee_management_api.store;
+
+import com.sas.hr.employee_management_api.store.EmployeeSnapshotService.SnapshotInfo;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.stereotype.Component;
+
+/**
+ * Actuator endpoint ({@code /actuator/snapshot}): GET describes the snapshot on disk, POST writes a new one.
+ *
+ * Restoring is only done at startup ({@code employee.snapshot.restore-on-startup}), while no ids have been
+ * handed out yet.
+ */
+@Component
+@Endpoint(id = "snapshot")
+public class SnapshotEndpoint {
+
+    private final EmployeeSnapshotService snapshotService;
+
+    public SnapshotEndpoint(EmployeeSnapshotService snapshotService) {
+        this.snapshotService = snapshotService;
+    }
+
+    @ReadOperation
+    public SnapshotInfo snapshot() {
+        return snapshotService.currentSnapshot();
+    }
+
+    @WriteOperation
+    public SnapshotInfo createSnapshot() {
+        return snapshotService.createSnapshot();
+    }
+}
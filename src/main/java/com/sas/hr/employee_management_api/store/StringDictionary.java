@@ -0,0 +1,49 @@
+package com.sas.hr.employee_management_api.store;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Dictionary encoding for low-cardinality strings such as names, cities and states. Each distinct value is
+ * stored once and referenced by an int code; {@code -1} encodes {@code null}. Not thread-safe, callers
+ * synchronize access.
+ */
+class StringDictionary {
+
+    static final int NULL_CODE = -1;
+
+    private final Map<String, Integer> codes = new HashMap<>();
+    private final List<String> values = new ArrayList<>();
+
+    int encode(String value) {
+        if (value == null) {
+            return NULL_CODE;
+        }
+        Integer code = codes.get(value);
+        if (code == null) {
+            code = values.size();
+            values.add(value);
+            codes.put(value, code);
+        }
+        return code;
+    }
+
+    String decode(int code) {
+        return code == NULL_CODE ? null : values.get(code);
+    }
+
+    int size() {
+        return values.size();
+    }
+
+    long estimatedHeapBytes() {
+        long bytes = 0;
+        for (String value : values) {
+            // String header + backing array, plus one map entry and one list slot
+            bytes += 40 + value.length() + 48 + 8;
+        }
+        return bytes;
+    }
+}
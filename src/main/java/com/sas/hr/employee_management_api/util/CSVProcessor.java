@@ -1,8 +1,14 @@
 package com.sas.hr.employee_management_api.util;
 
+import com.sas.hr.employee_management_api.config.HotPathMetrics;
 import com.sas.hr.employee_management_api.dto.EmployeeInputDTO;
+import com.sas.hr.employee_management_api.model.Employee;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.csv.CSVFormat;
+import org.apache.commons.csv.CSVPrinter;
 import org.apache.commons.csv.CSVRecord;
 import org.springframework.core.io.Resource;
 import org.springframework.stereotype.Component;
@@ -11,13 +17,32 @@ import java.io.BufferedReader;
 import java.io.FileReader;
 import java.io.IOException;
 import java.io.InputStreamReader;
+import java.io.Reader;
+import java.io.Writer;
+import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.TimeUnit;
 
 @Slf4j
 @Component
 public class CSVProcessor {
 
+    private static final String[] HEADERS = {"First name", "Last name", "Location", "Birthday"};
+    private static final DateTimeFormatter EXPORT_DATE_FORMAT = DateTimeFormatter.ofPattern("M/d/yyyy");
+
+    private final Timer parseTimer;
+    private final DistributionSummary parsedRows;
+
+    public CSVProcessor(HotPathMetrics hotPathMetrics) {
+        MeterRegistry meterRegistry = hotPathMetrics.registry();
+        this.parseTimer = Timer.builder("employee.import.parse")
+                .description("Parsing of one CSV file or zip entry")
+                .register(meterRegistry);
+        this.parsedRows = DistributionSummary.builder("employee.import.rows")
+                .description("Rows per parsed CSV file or zip entry")
+                .register(meterRegistry);
+    }
 
     /**
      * Loads employee data from a CSV file and converts it into a list of {@link EmployeeInputDTO} objects.
@@ -31,38 +56,88 @@ public class CSVProcessor {
      * @throws IOException If an I/O error occurs while reading the CSV file.
      */
     public List<EmployeeInputDTO> loadEmployeesFromCsv(Resource resource) throws IOException {
+        try (BufferedReader reader = createReader(resource)) {
+            return loadEmployeesFromCsv(reader);
+        }
+    }
+
+    /**
+     * Loads employee data from CSV text, see {@link #loadEmployeesFromCsv(Resource)}. The reader is read to the
+     * end but not closed, so it can wrap a stream the caller keeps using, e.g. one entry of a zip archive.
+     *
+     * @param reader The CSV text, starting with the header row.
+     * @return A list of {@link EmployeeInputDTO} objects containing the employee data read.
+     * @throws IOException If an I/O error occurs while reading.
+     */
+    public List<EmployeeInputDTO> loadEmployeesFromCsv(Reader reader) throws IOException {
+        long start = System.nanoTime();
         List<EmployeeInputDTO> employees = new ArrayList<>();
 
-        try (BufferedReader reader = createReader(resource)) {
-            CSVFormat csvFormat = CSVFormat.DEFAULT
-                    .builder()
-                    .setHeader()
-                    .setSkipHeaderRecord(true)
-                    .build();
+        CSVFormat csvFormat = CSVFormat.DEFAULT
+                .builder()
+                .setHeader()
+                .setSkipHeaderRecord(true)
+                .build();
 
-            Iterable<CSVRecord> records = csvFormat.parse(reader);
+        Iterable<CSVRecord> records = csvFormat.parse(reader);
 
-            for (CSVRecord record : records) {
-                String firstName = record.get("First name");
-                String lastName = record.get("Last name");
-                String location = record.get("Location");
+        for (CSVRecord record : records) {
+            String firstName = record.get("First name");
+            String lastName = record.get("Last name");
+            String location = record.get("Location");
 
-                String[] locationParts = location.split(",", 2);
-                String city = locationParts[0].trim();
-                String state = locationParts.length > 1 ? locationParts[1].trim() : "";
+            String[] locationParts = location.split(",", 2);
+            String city = locationParts[0].trim();
+            String state = locationParts.length > 1 ? locationParts[1].trim() : "";
 
-                String birthdayStr = record.get("Birthday");
+            String birthdayStr = record.get("Birthday");
 
 
-                EmployeeInputDTO employee = new EmployeeInputDTO(firstName, lastName,city,state, location, birthdayStr);
-                employees.add(employee);
-            }
+            EmployeeInputDTO employee = new EmployeeInputDTO(firstName, lastName,city,state, location, birthdayStr);
+            employees.add(employee);
         }
 
+        parseTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        parsedRows.record(employees.size());
         return employees;
     }
 
 
+    /**
+     * Creates a {@link CSVPrinter} that writes employees in the same layout {@link #loadEmployeesFromCsv(Resource)}
+     * reads, so an exported file can be imported again. The header row is written immediately.
+     *
+     * @param writer The target of the CSV output.
+     * @return A printer to pass to {@link #printEmployee(CSVPrinter, Employee)}.
+     * @throws IOException If the header cannot be written.
+     */
+    public CSVPrinter createEmployeePrinter(Writer writer) throws IOException {
+        return CSVFormat.DEFAULT
+                .builder()
+                .setHeader(HEADERS)
+                .build()
+                .print(writer);
+    }
+
+    /**
+     * Writes one employee as a CSV row. The location falls back to "city, state" when it is not set and the
+     * birthday is written as M/d/yyyy, one of the formats understood by {@link DateUtil}.
+     *
+     * @param printer  The printer created by {@link #createEmployeePrinter(Writer)}.
+     * @param employee The employee to write.
+     * @throws IOException If the row cannot be written.
+     */
+    public void printEmployee(CSVPrinter printer, Employee employee) throws IOException {
+        String location = employee.getLocation();
+        if (location == null) {
+            location = employee.getState() == null || employee.getState().isEmpty()
+                    ? employee.getCity()
+                    : employee.getCity() + ", " + employee.getState();
+        }
+        String birthday = employee.getBirthDay() != null ? employee.getBirthDay().format(EXPORT_DATE_FORMAT) : null;
+        printer.printRecord(employee.getFirstName(), employee.getLastName(), location, birthday);
+    }
+
     /**
      * Creates a BufferedReader to read the resource based on its type (classpath or filesystem).
      * @param resource The resource to read from.
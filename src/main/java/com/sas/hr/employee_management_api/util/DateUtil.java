@@ -1,5 +1,7 @@
 package com.sas.hr.employee_management_api.util;
 
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Timer;
 import lombok.extern.slf4j.Slf4j;
 
 import java.time.LocalDate;
@@ -9,6 +11,7 @@ import java.time.format.DateTimeParseException;
 import java.time.temporal.ChronoField;
 import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.TimeUnit;
 
 @Slf4j
 public class DateUtil {
@@ -55,6 +58,8 @@ public class DateUtil {
     }
 
     public static String formatBirthDate(LocalDate date) {
+        if (date == null)
+            return null;
         return date.format(DateTimeFormatter.ISO_DATE);
     }
 
@@ -66,4 +71,19 @@ public class DateUtil {
             return null;
     }
 
+    /**
+     * Converts a date string like {@link #convertDateStringToFormattedLocalDate(String)}, recording the conversion
+     * in {@code conversionTimer} and counting the dates that match none of the formats in {@code invalidDates}.
+     * The meters are registered once by the caller.
+     */
+    public static LocalDate convertDateStringToFormattedLocalDate(String dateString, Timer conversionTimer, Counter invalidDates) {
+        long start = System.nanoTime();
+        LocalDate date = convertDateStringToFormattedLocalDate(dateString);
+        conversionTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        if (date == null) {
+            invalidDates.increment();
+        }
+        return date;
+    }
+
 }
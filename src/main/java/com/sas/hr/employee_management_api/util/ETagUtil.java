@@ -0,0 +1,89 @@
+package com.sas.hr.employee_management_api.util;
+
+import com.sas.hr.employee_management_api.dto.EmployeeDetailsDTO;
+import com.sas.hr.employee_management_api.model.EmployeeField;
+import org.springframework.data.domain.Page;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Set;
+import java.util.zip.CRC32C;
+
+public class ETagUtil {
+
+    private static final long NO_MATCHING_VERSION = -1L;
+
+    private ETagUtil() {
+    }
+
+    /**
+     * Builds the strong ETag of a single employee representation from its id and row version, e.g. {@code "42-3"}.
+     * Sparse fieldsets get a suffix identifying the selected fields, since they are a different representation.
+     *
+     * @param employee The employee returned to the client; its version must be set.
+     * @param fields   The selected fields.
+     * @return The quoted strong ETag.
+     */
+    public static String strongETag(EmployeeDetailsDTO employee, Set<EmployeeField> fields) {
+        StringBuilder tag = new StringBuilder("\"").append(employee.id()).append('-').append(employee.version());
+        if (!EmployeeField.isAll(fields)) {
+            tag.append('-').append(fieldsMask(fields));
+        }
+        return tag.append('"').toString();
+    }
+
+    /**
+     * Builds a weak ETag for a page of employees from the ids and row versions of its content, its position and
+     * the total number of elements. Equal pages yield equal tags without serializing them.
+     *
+     * @param page   The page returned to the client.
+     * @param fields The selected fields.
+     * @return The weak ETag, e.g. {@code W/"1a2b3c4d"}.
+     */
+    public static String weakETag(Page<EmployeeDetailsDTO> page, Set<EmployeeField> fields) {
+        CRC32C checksum = new CRC32C();
+        StringBuilder key = new StringBuilder()
+                .append(page.getNumber()).append('/').append(page.getSize()).append('/')
+                .append(page.getTotalElements()).append('/').append(fieldsMask(fields)).append('/').append(page.getSort());
+        for (EmployeeDetailsDTO employee : page.getContent()) {
+            key.append(';').append(employee.id()).append('-').append(employee.version());
+        }
+        checksum.update(key.toString().getBytes(StandardCharsets.UTF_8));
+        return "W/\"" + Long.toHexString(checksum.getValue()) + "\"";
+    }
+
+    /**
+     * Extracts the row version from an {@code If-Match} value produced by {@link #strongETag}.
+     * Values that are not a strong ETag of this employee yield a version no row can have, so the
+     * precondition fails.
+     *
+     * @param ifMatch The header value, e.g. {@code "42-3"}; {@code *} or null match any version.
+     * @param id      The id of the employee the request targets.
+     * @return The expected version, or null when any version matches.
+     */
+    public static Long expectedVersion(String ifMatch, Long id) {
+        if (ifMatch == null || ifMatch.isBlank() || ifMatch.trim().equals("*")) {
+            return null;
+        }
+        String value = ifMatch.trim();
+        if (value.startsWith("W/")) {
+            return NO_MATCHING_VERSION;
+        }
+        String[] parts = value.replace("\"", "").split("-");
+        if (parts.length < 2 || !parts[0].equals(String.valueOf(id))) {
+            return NO_MATCHING_VERSION;
+        }
+        try {
+            return Long.parseLong(parts[1]);
+        } catch (NumberFormatException e) {
+            return NO_MATCHING_VERSION;
+        }
+    }
+
+    private static int fieldsMask(Set<EmployeeField> fields) {
+        int mask = 0;
+        for (EmployeeField field : fields) {
+            mask |= 1 << field.ordinal();
+        }
+        return mask;
+    }
+}
@@ -0,0 +1,19 @@
+-- Employee schema, matching the Employee entity (validated by Hibernate with ddl-auto=validate)
+CREATE SEQUENCE IF NOT EXISTS employee_seq START WITH 1 INCREMENT BY 50;
+
+CREATE TABLE IF NOT EXISTS employee (
+    id BIGINT NOT NULL PRIMARY KEY,
+    first_name VARCHAR(255),
+    last_name VARCHAR(255),
+    location VARCHAR(255),
+    city VARCHAR(255),
+    state VARCHAR(255),
+    birth_day DATE,
+    version BIGINT DEFAULT 0 NOT NULL
+);
+
+CREATE INDEX IF NOT EXISTS idx_employee_last_name ON employee (last_name, first_name);
+CREATE INDEX IF NOT EXISTS idx_employee_first_name ON employee (first_name);
+CREATE INDEX IF NOT EXISTS idx_employee_city ON employee (city);
+CREATE INDEX IF NOT EXISTS idx_employee_state ON employee (state);
+CREATE INDEX IF NOT EXISTS idx_employee_birth_day ON employee (birth_day);
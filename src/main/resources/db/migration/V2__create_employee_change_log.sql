@@ -0,0 +1,18 @@
+-- Change log / transactional outbox, matching the EmployeeChangeLogEntry entity
+CREATE TABLE IF NOT EXISTS employee_change_log (
+    id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    seq BIGINT,
+    employee_id BIGINT NOT NULL,
+    change_type VARCHAR(16) NOT NULL,
+    employee_version BIGINT,
+    first_name VARCHAR(255),
+    last_name VARCHAR(255),
+    location VARCHAR(255),
+    city VARCHAR(255),
+    state VARCHAR(255),
+    birth_day DATE,
+    occurred_at TIMESTAMP(6) NOT NULL
+);
+
+CREATE UNIQUE INDEX IF NOT EXISTS idx_employee_change_log_seq ON employee_change_log (seq);
+CREATE INDEX IF NOT EXISTS idx_employee_change_log_employee ON employee_change_log (employee_id, seq);
@@ -0,0 +1,4 @@
+-- Soft delete: rows with a deleted_at are hidden from every read and hard-deleted later by the purge job
+ALTER TABLE employee ADD COLUMN IF NOT EXISTS deleted_at TIMESTAMP;
+
+CREATE INDEX IF NOT EXISTS idx_employee_deleted_at ON employee (deleted_at);
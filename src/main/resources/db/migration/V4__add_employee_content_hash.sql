@@ -0,0 +1,2 @@
+-- Hash of the imported attributes, compared by delta imports to skip unchanged rows
+ALTER TABLE employee ADD COLUMN IF NOT EXISTS content_hash BIGINT;
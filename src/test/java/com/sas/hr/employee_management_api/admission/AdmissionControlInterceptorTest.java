@@ -0,0 +1,93 @@
+package com.sas.hr.employee_management_api.admission;
+
+import com.sas.hr.employee_management_api.exception.AdmissionRejectedException;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.method.HandlerMethod;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class AdmissionControlInterceptorTest {
+
+    static class TestController {
+        @AdmissionClass(EndpointClass.IMPORT)
+        public void importEmployees() {
+        }
+
+        public void statistics() {
+        }
+    }
+
+    private final AdmissionBudgets budgets = new AdmissionBudgets(new MockEnvironment()
+            .withProperty("employee.admission.import.max-concurrent", "1")
+            .withProperty("employee.admission.import.max-queue", "0"));
+    private final AdmissionControlInterceptor interceptor = new AdmissionControlInterceptor(budgets);
+
+    private HandlerMethod handler(String name) throws NoSuchMethodException {
+        return new HandlerMethod(new TestController(), TestController.class.getMethod(name));
+    }
+
+    @Test
+    void testSlotIsHeldUntilCompletion() throws Exception {
+        MockHttpServletRequest first = new MockHttpServletRequest("POST", "/employees/upload-from-file");
+        MockHttpServletRequest second = new MockHttpServletRequest("POST", "/employees/upload-from-file");
+
+        interceptor.preHandle(first, new MockHttpServletResponse(), handler("importEmployees"));
+        assertThat(budgets.get(EndpointClass.IMPORT).getInFlight()).isEqualTo(1);
+        assertThatThrownBy(() -> interceptor.preHandle(second, new MockHttpServletResponse(), handler("importEmployees")))
+                .isInstanceOf(AdmissionRejectedException.class)
+                .extracting("status").isEqualTo(HttpStatus.TOO_MANY_REQUESTS);
+
+        interceptor.afterCompletion(first, new MockHttpServletResponse(), handler("importEmployees"), null);
+        assertThat(budgets.get(EndpointClass.IMPORT).getInFlight()).isZero();
+        assertThat(budgets.get(EndpointClass.IMPORT).getRejectedQueueFull()).isEqualTo(1);
+    }
+
+    @Test
+    void testUnannotatedHandlersAreNotLimited() throws Exception {
+        for (int i = 0; i < 3; i++) {
+            assertThat(interceptor.preHandle(new MockHttpServletRequest(), new MockHttpServletResponse(), handler("statistics"))).isTrue();
+        }
+        assertThat(budgets.all()).allMatch(budget -> budget.getInFlight() == 0);
+    }
+
+    @Test
+    void testWaitingRequestIsRejectedWith503AfterMaxWait() {
+        AdmissionBudget budget = new AdmissionBudget(EndpointClass.POINT, 1, 1, Duration.ofMillis(10), Duration.ofSeconds(2));
+        budget.acquire();
+
+        assertThatThrownBy(budget::acquire)
+                .isInstanceOf(AdmissionRejectedException.class)
+                .extracting("status").isEqualTo(HttpStatus.SERVICE_UNAVAILABLE);
+        assertThat(budget.getQueued()).isZero();
+
+        budget.release();
+        budget.acquire();
+        assertThat(budget.getAdmitted()).isEqualTo(2);
+    }
+
+    @Test
+    void testFreedSlotGoesToTheWaitingRequestFirst() throws Exception {
+        AdmissionBudget budget = new AdmissionBudget(EndpointClass.POINT, 1, 1, Duration.ofSeconds(2), Duration.ofSeconds(2));
+        budget.acquire();
+        Thread waiting = new Thread(budget::acquire);
+        waiting.start();
+        while (budget.getQueued() == 0 || waiting.getState() != Thread.State.TIMED_WAITING) {
+            Thread.sleep(1);
+        }
+
+        budget.release();
+
+        // The newcomer must not barge in: the waiting request is still queued or already holds the slot
+        assertThatThrownBy(budget::acquire).isInstanceOf(AdmissionRejectedException.class);
+        waiting.join(5_000);
+        assertThat(budget.getAdmitted()).isEqualTo(2);
+        assertThat(budget.getInFlight()).isEqualTo(1);
+    }
+}
@@ -0,0 +1,40 @@
+package com.sas.hr.employee_management_api.cache;
+
+import com.sas.hr.employee_management_api.dto.EmployeeDetailsDTO;
+import com.sas.hr.employee_management_api.event.EmployeeChangedEvent;
+import com.sas.hr.employee_management_api.model.Employee;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class EmployeeCacheTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final EmployeeCache employeeCache = new EmployeeCache(100, Duration.ofMinutes(1), meterRegistry);
+
+    @Test
+    void testUpdateRefreshesAndDeleteInvalidates() {
+        Employee john = new Employee(1L, "John", "Doe", "New York, NY", "New York", "NY", LocalDate.of(1990, 5, 15));
+        Employee renamed = new Employee(1L, "Johnny", "Doe", "New York, NY", "New York", "NY", LocalDate.of(1990, 5, 15));
+        employeeCache.get(1L, id -> new EmployeeDetailsDTO(1L, "John", "Doe", "New York", "NY", "New York, NY", "1990-05-15"));
+
+        employeeCache.onEmployeeChanged(EmployeeChangedEvent.updated(john, renamed));
+        assertThat(employeeCache.getIfPresent(1L).firstName()).isEqualTo("Johnny");
+
+        employeeCache.onEmployeeChanged(EmployeeChangedEvent.deleted(renamed));
+        assertThat(employeeCache.getIfPresent(1L)).isNull();
+    }
+
+    @Test
+    void testHitsAndMissesAreExposedAsMetrics() {
+        employeeCache.get(1L, id -> new EmployeeDetailsDTO(1L, "John", "Doe", null, null, null, null));
+        employeeCache.get(1L, id -> new EmployeeDetailsDTO(1L, "John", "Doe", null, null, null, null));
+
+        assertThat(meterRegistry.get("cache.gets").tag("cache", "employees").tag("result", "hit").functionCounter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("cache.gets").tag("cache", "employees").tag("result", "miss").functionCounter().count()).isEqualTo(1);
+    }
+}
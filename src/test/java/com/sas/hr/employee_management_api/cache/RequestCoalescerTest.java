@@ -0,0 +1,75 @@
+package com.sas.hr.employee_management_api.cache;
+
+import com.sas.hr.employee_management_api.exception.EmployeeNotFoundException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class RequestCoalescerTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final RequestCoalescer requestCoalescer = new RequestCoalescer(true, meterRegistry);
+
+    @Test
+    void testConcurrentIdenticalCallsShareOneQuery() throws Exception {
+        AtomicInteger queries = new AtomicInteger();
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            Future<String> leader = executor.submit(() -> requestCoalescer.execute("page-0", () -> {
+                queries.incrementAndGet();
+                started.countDown();
+                await(release);
+                return "result";
+            }));
+            assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+            Future<String> follower = executor.submit(() -> requestCoalescer.execute("page-0", () -> {
+                queries.incrementAndGet();
+                return "other";
+            }));
+            while (meterRegistry.get("employee.requests.coalesced").counter().count() < 1) {
+                Thread.sleep(1);
+            }
+            release.countDown();
+
+            assertThat(leader.get(5, TimeUnit.SECONDS)).isEqualTo("result");
+            assertThat(follower.get(5, TimeUnit.SECONDS)).isEqualTo("result");
+            assertThat(queries.get()).isEqualTo(1);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void testCompletedCallsAreNotReused() {
+        assertThat(requestCoalescer.<String>execute("page-0", () -> "first")).isEqualTo("first");
+        assertThat(requestCoalescer.<String>execute("page-0", () -> "second")).isEqualTo("second");
+        assertThat(requestCoalescer.inFlightCount()).isZero();
+    }
+
+    @Test
+    void testFailuresAreRethrownAndForgotten() {
+        assertThatThrownBy(() -> requestCoalescer.execute(7L, () -> {
+            throw new EmployeeNotFoundException(7L);
+        })).isInstanceOf(EmployeeNotFoundException.class);
+        assertThat(requestCoalescer.inFlightCount()).isZero();
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package com.sas.hr.employee_management_api.config;
+
+import com.sas.hr.employee_management_api.exception.DatabaseBusyException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ConcurrencyLimitedDataSourceTest {
+
+    @Mock
+    private DataSource pool;
+
+    @Test
+    void testConnectionsBeyondTheLimitAreRejected() throws SQLException {
+        //Arrange
+        Connection first = mock(Connection.class);
+        Connection second = mock(Connection.class);
+        when(pool.getConnection()).thenReturn(first, second);
+        ConcurrencyLimitedDataSource dataSource = new ConcurrencyLimitedDataSource(pool, 1, Duration.ofMillis(10));
+
+        //Act
+        Connection connection = dataSource.getConnection();
+
+        //Assert
+        assertThat(dataSource.getAvailablePermits()).isZero();
+        assertThatThrownBy(dataSource::getConnection).isInstanceOf(DatabaseBusyException.class);
+
+        connection.close();
+        connection.close();
+        verify(first, times(2)).close();
+        assertThat(dataSource.getAvailablePermits()).isEqualTo(1);
+        assertThat(dataSource.getConnection()).isNotNull();
+    }
+
+    @Test
+    void testPermitIsReturnedWhenThePoolFails() throws SQLException {
+        //Arrange
+        when(pool.getConnection()).thenThrow(new SQLException("Connection is not available"));
+        ConcurrencyLimitedDataSource dataSource = new ConcurrencyLimitedDataSource(pool, 2, Duration.ofMillis(10));
+
+        //Act & Assert
+        assertThatThrownBy(dataSource::getConnection).isInstanceOf(SQLException.class);
+        assertThat(dataSource.getAvailablePermits()).isEqualTo(2);
+    }
+}
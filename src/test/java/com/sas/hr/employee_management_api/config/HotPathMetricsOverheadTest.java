@@ -0,0 +1,108 @@
+package com.sas.hr.employee_management_api.config;
+
+import com.sas.hr.employee_management_api.mapper.EmployeeMapper;
+import com.sas.hr.employee_management_api.model.Employee;
+import com.sas.hr.employee_management_api.util.CSVProcessor;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.config.MeterFilter;
+import io.micrometer.core.instrument.distribution.DistributionStatisticConfig;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ClassPathResource;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Measures what the hot-path meters cost an import: the bundled roster, repeated to a fixed size, is parsed by the
+ * {@link CSVProcessor} and mapped to entities with {@code employee.metrics.hot-path.enabled} on and off. The rounds
+ * of both alternate, in turns, after a warm-up, and the medians and their difference are logged. The JDBC meters record once
+ * per batch or query, so they are left out of the per-row comparison. It is tagged {@code benchmark} and therefore
+ * not part of the default build.
+ */
+@Slf4j
+@Tag("benchmark")
+class HotPathMetricsOverheadTest {
+
+    private static final int COPIES = 50;
+    private static final int WARM_UP_ROUNDS = 10;
+    private static final int MEASURED_ROUNDS = 30;
+
+    private record Pipeline(CSVProcessor csvProcessor, EmployeeMapper.Meters mappingMeters) {
+
+        static Pipeline of(HotPathMetrics hotPathMetrics) {
+            return new Pipeline(new CSVProcessor(hotPathMetrics), EmployeeMapper.Meters.register(hotPathMetrics.registry()));
+        }
+
+        List<Employee> importCsv(String csv) throws IOException {
+            return EmployeeMapper.toEmployeeEntityList(csvProcessor.loadEmployeesFromCsv(new StringReader(csv)), mappingMeters);
+        }
+    }
+
+    @Test
+    void testReportsTheOverheadOfTheHotPathMetersOnAnImport() throws IOException {
+        String csv = fixedCsv();
+        // Same histograms as application.properties configures for the employee.* meters
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        meterRegistry.config().meterFilter(new MeterFilter() {
+            @Override
+            public DistributionStatisticConfig configure(Meter.Id id, DistributionStatisticConfig config) {
+                return DistributionStatisticConfig.builder().percentilesHistogram(true).build().merge(config);
+            }
+        });
+        SimpleMeterRegistry disabledRegistry = new SimpleMeterRegistry();
+        Pipeline enabled = Pipeline.of(new HotPathMetrics(meterRegistry, true));
+        Pipeline disabled = Pipeline.of(new HotPathMetrics(disabledRegistry, false));
+
+        long[] enabledNanos = new long[MEASURED_ROUNDS];
+        long[] disabledNanos = new long[MEASURED_ROUNDS];
+        int rows = 0;
+        for (int round = -WARM_UP_ROUNDS; round < MEASURED_ROUNDS; round++) {
+            // Swap which one goes first every round, so neither always runs on a warmer cache
+            boolean enabledFirst = (round & 1) == 0;
+            long firstTime = System.nanoTime();
+            rows = (enabledFirst ? enabled : disabled).importCsv(csv).size();
+            long secondTime = System.nanoTime();
+            assertEquals(rows, (enabledFirst ? disabled : enabled).importCsv(csv).size());
+            long end = System.nanoTime();
+            long enabledTime = enabledFirst ? secondTime - firstTime : end - secondTime;
+            long disabledTime = enabledFirst ? end - secondTime : secondTime - firstTime;
+            if (round >= 0) {
+                disabledNanos[round] = disabledTime;
+                enabledNanos[round] = enabledTime;
+            }
+        }
+
+        double enabledMillis = median(enabledNanos) / 1e6;
+        double disabledMillis = median(disabledNanos) / 1e6;
+        log.info("Import of {} rows, median of {} rounds: {} ms with hot-path metrics, {} ms without, overhead {} ms ({}%, {} ns per row)",
+                rows, MEASURED_ROUNDS, String.format("%.2f", enabledMillis), String.format("%.2f", disabledMillis),
+                String.format("%.2f", enabledMillis - disabledMillis),
+                String.format("%.1f", 100 * (enabledMillis - disabledMillis) / disabledMillis),
+                String.format("%.0f", (enabledMillis - disabledMillis) * 1e6 / rows));
+
+        assertEquals((long) rows * (WARM_UP_ROUNDS + MEASURED_ROUNDS), meterRegistry.get("employee.date.conversion").timer().count());
+        assertTrue(disabledRegistry.getMeters().isEmpty());
+    }
+
+    private static String fixedCsv() throws IOException {
+        String roster = new ClassPathResource("static/data/ProgrammingChallengeData.csv").getContentAsString(StandardCharsets.UTF_8);
+        int header = roster.indexOf('\n') + 1;
+        String body = roster.substring(header);
+        return roster.substring(0, header) + (body.endsWith("\n") ? body : body + "\n").repeat(COPIES);
+    }
+
+    private static double median(long[] nanos) {
+        long[] sorted = nanos.clone();
+        Arrays.sort(sorted);
+        return sorted[sorted.length / 2];
+    }
+}
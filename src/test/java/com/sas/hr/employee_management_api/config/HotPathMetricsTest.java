@@ -0,0 +1,53 @@
+package com.sas.hr.employee_management_api.config;
+
+import com.sas.hr.employee_management_api.dto.EmployeeInputDTO;
+import com.sas.hr.employee_management_api.mapper.EmployeeMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class HotPathMetricsTest {
+
+    private final List<EmployeeInputDTO> rows = List.of(
+            new EmployeeInputDTO("John", "Doe", "Chicago", "IL", "Chicago, IL", "5/15/1990"),
+            new EmployeeInputDTO("Jane", "Doe", "Chicago", "IL", "Chicago, IL", "not a date"));
+
+    @Test
+    void testMappingRecordsInTheRegistryOfItsCaller() {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        EmployeeMapper.Meters meters = EmployeeMapper.Meters.register(new HotPathMetrics(meterRegistry, true).registry());
+
+        EmployeeMapper.toEmployeeEntityList(rows, meters);
+
+        assertEquals(2, meterRegistry.get("employee.date.conversion").timer().count());
+        assertEquals(1.0, meterRegistry.get("employee.date.invalid").counter().count());
+        assertEquals(1, meterRegistry.get("employee.mapping").tag("target", "entity").timer().count());
+    }
+
+    @Test
+    void testDisabledMetersRecordNothing() {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        EmployeeMapper.Meters meters = EmployeeMapper.Meters.register(new HotPathMetrics(meterRegistry, false).registry());
+
+        EmployeeMapper.toEmployeeEntityList(rows, meters);
+
+        assertTrue(meterRegistry.getMeters().isEmpty());
+    }
+
+    @Test
+    void testContextsDoNotShareMeters() {
+        SimpleMeterRegistry first = new SimpleMeterRegistry();
+        SimpleMeterRegistry second = new SimpleMeterRegistry();
+        EmployeeMapper.Meters firstMeters = EmployeeMapper.Meters.register(new HotPathMetrics(first, true).registry());
+        EmployeeMapper.Meters.register(new HotPathMetrics(second, false).registry());
+
+        EmployeeMapper.toEmployeeEntityList(rows, firstMeters);
+
+        assertEquals(2, first.get("employee.date.conversion").timer().count());
+        assertTrue(second.getMeters().isEmpty());
+    }
+}
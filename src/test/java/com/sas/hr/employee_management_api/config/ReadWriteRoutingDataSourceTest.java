@@ -0,0 +1,107 @@
+package com.sas.hr.employee_management_api.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class ReadWriteRoutingDataSourceTest {
+
+    @Mock
+    private DataSource writePool;
+
+    @Mock
+    private DataSource readPool;
+
+    @Mock
+    private Connection writeConnection;
+
+    @Mock
+    private Connection readConnection;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        // The proxy may check the pool defaults up front, and unused pools are the point of some tests
+        lenient().when(writePool.getConnection()).thenReturn(writeConnection);
+        lenient().when(readPool.getConnection()).thenReturn(readConnection);
+    }
+
+    @Test
+    void testReadOnlyWorkRunsOnTheReadPool() throws SQLException {
+        ReadWriteRoutingDataSource dataSource = new ReadWriteRoutingDataSource(writePool, readPool);
+
+        try (Connection connection = dataSource.getConnection()) {
+            connection.setReadOnly(true);
+            connection.createStatement();
+        }
+
+        verify(readConnection).createStatement();
+        verify(readConnection).close();
+        verify(writeConnection, never()).createStatement();
+    }
+
+    @Test
+    void testOtherWorkRunsOnTheWritePool() throws SQLException {
+        ReadWriteRoutingDataSource dataSource = new ReadWriteRoutingDataSource(writePool, readPool);
+
+        try (Connection connection = dataSource.getConnection()) {
+            connection.setAutoCommit(false);
+            connection.createStatement();
+        }
+
+        verify(writeConnection).createStatement();
+        verify(readPool, never()).getConnection();
+    }
+
+    @Test
+    void testReadOnlyWorkRunsOnTheWritePoolWithoutAReadPool() throws SQLException {
+        ReadWriteRoutingDataSource dataSource = new ReadWriteRoutingDataSource(writePool, null);
+
+        try (Connection connection = dataSource.getConnection()) {
+            connection.setReadOnly(true);
+            connection.createStatement();
+        }
+
+        verify(writeConnection).setReadOnly(true);
+        verify(writeConnection).createStatement();
+    }
+
+    @Test
+    void testConnectionsWithoutStatementsNeverReachAPool() throws SQLException {
+        ReadWriteRoutingDataSource dataSource = new ReadWriteRoutingDataSource(writePool, readPool);
+
+        try (Connection connection = dataSource.getConnection()) {
+            connection.setReadOnly(true);
+            connection.setAutoCommit(false);
+        }
+
+        verify(readPool, never()).getConnection();
+    }
+
+    @Test
+    void testCloseClosesBothPoolsThroughWrappers() throws Exception {
+        HikariDataSource hikariWrite = mock(HikariDataSource.class);
+        HikariDataSource hikariRead = mock(HikariDataSource.class);
+        lenient().when(hikariWrite.getConnection()).thenReturn(writeConnection);
+        ReadWriteRoutingDataSource dataSource = new ReadWriteRoutingDataSource(
+                new ConcurrencyLimitedDataSource(hikariWrite, 1, Duration.ofMillis(10)), hikariRead);
+
+        dataSource.close();
+
+        verify(hikariRead).close();
+        verify(hikariWrite).close();
+    }
+}
@@ -1,8 +1,23 @@
 package com.sas.hr.employee_management_api.controller;
 
+import com.sas.hr.employee_management_api.dto.EmployeeBatchItemResultDTO;
+import com.sas.hr.employee_management_api.dto.EmployeeBatchRequestDTO;
+import com.sas.hr.employee_management_api.dto.EmployeeBatchResultDTO;
+import com.sas.hr.employee_management_api.dto.EmployeeDeltaImportResultDTO;
 import com.sas.hr.employee_management_api.dto.EmployeeDetailsDTO;
+import com.sas.hr.employee_management_api.dto.EmployeeFileImportResultDTO;
+import com.sas.hr.employee_management_api.dto.EmployeeImportResultDTO;
 import com.sas.hr.employee_management_api.dto.EmployeeInputDTO;
+import com.sas.hr.employee_management_api.dto.EmployeeStatisticsDTO;
+import com.sas.hr.employee_management_api.dto.ExportFormat;
+import com.sas.hr.employee_management_api.exception.GlobalExceptionHandler;
+import com.sas.hr.employee_management_api.model.EmployeeField;
+import com.sas.hr.employee_management_api.service.EmployeeBatchService;
+import com.sas.hr.employee_management_api.service.EmployeeDeltaImportService;
+import com.sas.hr.employee_management_api.service.EmployeeExportService;
+import com.sas.hr.employee_management_api.service.EmployeeFileImportService;
 import com.sas.hr.employee_management_api.service.EmployeeService;
+import com.sas.hr.employee_management_api.service.EmployeeStatisticsService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -14,17 +29,24 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableHandlerMethodArgumentResolver;
 import org.springframework.http.MediaType;
 import org.springframework.mock.web.MockMultipartFile;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 import org.springframework.web.servlet.view.json.MappingJackson2JsonView;
 
 import java.io.IOException;
+import java.io.OutputStream;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.LongStream;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.Mockito.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -38,6 +60,21 @@ public class EmployeeControllerTest {
     @Mock
     private EmployeeService employeeService;
 
+    @Mock
+    private EmployeeStatisticsService employeeStatisticsService;
+
+    @Mock
+    private EmployeeExportService employeeExportService;
+
+    @Mock
+    private EmployeeBatchService employeeBatchService;
+
+    @Mock
+    private EmployeeDeltaImportService employeeDeltaImportService;
+
+    @Mock
+    private EmployeeFileImportService employeeFileImportService;
+
     @InjectMocks
     private EmployeeController employeeController;
 
@@ -56,7 +93,7 @@ public class EmployeeControllerTest {
         Long employeeId = 1L;
         EmployeeDetailsDTO employeeDetailsDTO = new EmployeeDetailsDTO(1L, "John", "Peter", "New York","NY","New York, NY", "1985-05-05");
         // Populate with test data
-        when(employeeService.getEmployeeById(employeeId)).thenReturn(employeeDetailsDTO);
+        when(employeeService.getEmployeeById(employeeId, EmployeeField.ALL)).thenReturn(employeeDetailsDTO);
 
         // Act & Assert
         mockMvc.perform(get("/employees/{id}", employeeId)
@@ -65,7 +102,56 @@ public class EmployeeControllerTest {
                 .andExpect(content().contentType(MediaType.APPLICATION_JSON))
                 .andExpect(jsonPath("$.id").value(employeeId)); // Adjust based on your DTO structure
 
-        verify(employeeService, times(1)).getEmployeeById(employeeId);
+        verify(employeeService, times(1)).getEmployeeById(employeeId, EmployeeField.ALL);
+    }
+
+    @Test
+    public void getEmployeeById_ShouldReturnNotModified_WhenETagMatches() throws Exception {
+        // Arrange
+        Long employeeId = 1L;
+        EmployeeDetailsDTO employeeDetailsDTO = new EmployeeDetailsDTO(1L, "John", "Peter", "New York","NY","New York, NY", "1985-05-05", 2L);
+        when(employeeService.getEmployeeById(employeeId, EmployeeField.ALL)).thenReturn(employeeDetailsDTO);
+
+        // Act & Assert
+        mockMvc.perform(get("/employees/{id}", employeeId)
+                        .header("If-None-Match", "\"1-2\"")
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string("ETag", "\"1-2\""))
+                .andExpect(content().string(""));
+    }
+
+    @Test
+    public void getEmployeeById_ShouldReturnOnlyRequestedFields_WhenFieldsSpecified() throws Exception {
+        // Arrange
+        Long employeeId = 1L;
+        EmployeeDetailsDTO employeeDetailsDTO = new EmployeeDetailsDTO(1L, "John", null, null, null, null, null);
+        when(employeeService.getEmployeeById(employeeId, Set.of(EmployeeField.ID, EmployeeField.VERSION, EmployeeField.FIRST_NAME))).thenReturn(employeeDetailsDTO);
+
+        // Act & Assert
+        mockMvc.perform(get("/employees/{id}", employeeId)
+                        .param("fields", "firstName")
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.id").value(employeeId))
+                .andExpect(jsonPath("$.firstName").value("John"))
+                .andExpect(jsonPath("$.lastName").doesNotExist());
+    }
+
+    @Test
+    public void getEmployeeById_ShouldReturnBadRequest_WhenFieldIsUnknown() throws Exception {
+        // Arrange
+        MockMvc mockMvcWithAdvice = MockMvcBuilders.standaloneSetup(employeeController)
+                .setControllerAdvice(new GlobalExceptionHandler())
+                .build();
+
+        // Act & Assert
+        mockMvcWithAdvice.perform(get("/employees/{id}", 1L)
+                        .param("fields", "salary")
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isBadRequest());
+
+        verify(employeeService, never()).getEmployeeById(any(), any());
     }
 
     @Test
@@ -109,7 +195,7 @@ public class EmployeeControllerTest {
         Long employeeId = 1L;
         EmployeeDetailsDTO updatedEmployee = new EmployeeDetailsDTO(employeeId, "John", "Doe", "New York", "NY", "USA", "1990-01-01");
 
-        when(employeeService.updateEmployee(eq(employeeId), any(EmployeeInputDTO.class))).thenReturn(updatedEmployee);
+        when(employeeService.updateEmployee(eq(employeeId), any(EmployeeInputDTO.class), isNull())).thenReturn(updatedEmployee);
 
         // Act & Assert
         mockMvc.perform(put("/employees/{id}", employeeId)
@@ -121,14 +207,33 @@ public class EmployeeControllerTest {
                 .andExpect(jsonPath("$.firstName").value("John"))
                 .andExpect(jsonPath("$.lastName").value("Doe"));
 
-        verify(employeeService, times(1)).updateEmployee(eq(employeeId), any(EmployeeInputDTO.class));
+        verify(employeeService, times(1)).updateEmployee(eq(employeeId), any(EmployeeInputDTO.class), isNull());
+    }
+
+    @Test
+    public void updateEmployee_ShouldPassExpectedVersion_WhenIfMatchGiven() throws Exception {
+        // Arrange
+        Long employeeId = 1L;
+        EmployeeDetailsDTO updatedEmployee = new EmployeeDetailsDTO(employeeId, "John", "Doe", "New York", "NY", "USA", "1990-01-01", 4L);
+        when(employeeService.updateEmployee(eq(employeeId), any(EmployeeInputDTO.class), eq(3L))).thenReturn(updatedEmployee);
+
+        // Act & Assert
+        mockMvc.perform(put("/employees/{id}", employeeId)
+                        .header("If-Match", "\"1-3\"")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"firstName\": \"John\", \"lastName\": \"Doe\", \"city\": \"New York\", \"state\": \"NY\", \"location\": \"USA\", \"birthDate\": \"1990-01-01\"}")
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"1-4\""));
+
+        verify(employeeService, times(1)).updateEmployee(eq(employeeId), any(EmployeeInputDTO.class), eq(3L));
     }
 
     @Test
     public void updateEmployee_ShouldReturnNotFound_WhenDoesNotExist() throws Exception {
         // Arrange
         Long employeeId = 2L;
-        when(employeeService.updateEmployee(eq(employeeId), any(EmployeeInputDTO.class))).thenReturn(null);
+        when(employeeService.updateEmployee(eq(employeeId), any(EmployeeInputDTO.class), isNull())).thenReturn(null);
 
         // Act & Assert
         mockMvc.perform(put("/employees/{id}", employeeId)
@@ -137,7 +242,40 @@ public class EmployeeControllerTest {
                         .accept(MediaType.APPLICATION_JSON))
                 .andExpect(status().isNotFound());
 
-        verify(employeeService, times(1)).updateEmployee(eq(employeeId), any(EmployeeInputDTO.class));
+        verify(employeeService, times(1)).updateEmployee(eq(employeeId), any(EmployeeInputDTO.class), isNull());
+    }
+
+    @Test
+    public void patchEmployee_ShouldPassOnlySuppliedFields() throws Exception {
+        // Arrange
+        Long employeeId = 1L;
+        EmployeeDetailsDTO patchedEmployee = new EmployeeDetailsDTO(employeeId, "John", "Doe", "New York", "NY", "Boston, MA", "1990-01-01", 2L);
+        when(employeeService.patchEmployee(eq(employeeId), eq(Map.of(EmployeeField.LOCATION, "Boston, MA")), isNull())).thenReturn(patchedEmployee);
+
+        // Act & Assert
+        mockMvc.perform(patch("/employees/{id}", employeeId)
+                        .contentType("application/merge-patch+json")
+                        .content("{\"location\": \"Boston, MA\"}")
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"1-2\""))
+                .andExpect(jsonPath("$.location").value("Boston, MA"));
+    }
+
+    @Test
+    public void patchEmployee_ShouldReturnBadRequest_WhenFieldIsReadOnly() throws Exception {
+        MockMvc mockMvcWithAdvice = MockMvcBuilders.standaloneSetup(employeeController)
+                .setControllerAdvice(new GlobalExceptionHandler())
+                .build();
+
+        // Act & Assert
+        mockMvcWithAdvice.perform(patch("/employees/{id}", 1L)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"version\": \"7\"}"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("Invalid patch document"));
+
+        verify(employeeService, never()).patchEmployee(any(), any(), any());
     }
 
     @Test
@@ -153,6 +291,18 @@ public class EmployeeControllerTest {
         verify(employeeService, times(1)).deleteEmployeeById(employeeId);
     }
 
+    @Test
+    public void deleteEmployees_ShouldReturnAcceptedWithCount_WhenStateSpecified() throws Exception {
+        // Arrange
+        when(employeeService.deleteEmployees(null, "IL")).thenReturn(42);
+
+        // Act & Assert
+        mockMvc.perform(delete("/employees")
+                        .param("state", "IL"))
+                .andExpect(status().isAccepted())
+                .andExpect(header().string(EmployeeController.EMPLOYEES_DELETED_HEADER, "42"));
+    }
+
     @Test
     public void getAllEmployees_ShouldReturnPageOfEmployees_WhenMonthSpecified() throws Exception {
         // Arrange
@@ -162,7 +312,7 @@ public class EmployeeControllerTest {
         );
         Page<EmployeeDetailsDTO> page = new PageImpl<>(employees, pageable, employees.size());
 
-        when(employeeService.getAllEmployeesByMonth(eq(1), any(Pageable.class))).thenReturn(page);
+        when(employeeService.getAllEmployeesByMonth(eq(1), any(Pageable.class), eq(EmployeeField.ALL))).thenReturn(page);
 
         // Act & Assert
         mockMvc.perform(get("/employees")
@@ -177,7 +327,7 @@ public class EmployeeControllerTest {
                 .andExpect(jsonPath("$.size").value(10))
                 .andExpect(jsonPath("$.number").value(0));
 
-        verify(employeeService, times(1)).getAllEmployeesByMonth(eq(1), any(Pageable.class));
+        verify(employeeService, times(1)).getAllEmployeesByMonth(eq(1), any(Pageable.class), eq(EmployeeField.ALL));
     }
 
     @Test
@@ -186,7 +336,7 @@ public class EmployeeControllerTest {
         Pageable defaultPageable = PageRequest.of(0, 10);
         Page<EmployeeDetailsDTO> emptyPage = new PageImpl<>(List.of(), defaultPageable, 0);
 
-        when(employeeService.getAllEmployees(any(Pageable.class))).thenReturn(emptyPage);
+        when(employeeService.getAllEmployees(any(Pageable.class), eq(EmployeeField.ALL))).thenReturn(emptyPage);
 
         // Act & Assert
         mockMvc.perform(get("/employees")
@@ -198,7 +348,79 @@ public class EmployeeControllerTest {
 
         verify(employeeService, times(1)).getAllEmployees(argThat(pageable ->
                 pageable.getPageSize() == 10 && pageable.getPageNumber() == 0
-        ));
+        ), eq(EmployeeField.ALL));
+    }
+
+    @Test
+    public void getAllEmployees_ShouldApplyMultiKeySort_WhenSortBySpecified() throws Exception {
+        // Arrange
+        Page<EmployeeDetailsDTO> emptyPage = new PageImpl<>(List.of(), PageRequest.of(0, 10), 0);
+        when(employeeService.getAllEmployees(any(Pageable.class), eq(EmployeeField.ALL))).thenReturn(emptyPage);
+
+        // Act & Assert
+        mockMvc.perform(get("/employees")
+                        .param("sortBy", "lastName,birthDate:desc")
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk());
+
+        verify(employeeService, times(1)).getAllEmployees(argThat(pageable ->
+                pageable.getSort().equals(Sort.by(Sort.Order.asc("lastName"), Sort.Order.desc("birthDay"), Sort.Order.asc("id")))
+        ), eq(EmployeeField.ALL));
+    }
+
+    @Test
+    public void getAllEmployees_ShouldReturnBadRequest_WhenSortFieldIsNotSortable() throws Exception {
+        // Arrange
+        MockMvc mockMvcWithAdvice = MockMvcBuilders.standaloneSetup(employeeController)
+                .setControllerAdvice(new GlobalExceptionHandler())
+                .build();
+
+        // Act & Assert
+        mockMvcWithAdvice.perform(get("/employees")
+                        .param("sortBy", "location")
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isBadRequest());
+
+        verify(employeeService, never()).getAllEmployees(any(Pageable.class), any());
+    }
+
+    @Test
+    public void getStatistics_ShouldReturnAggregates() throws Exception {
+        // Arrange
+        EmployeeStatisticsDTO statistics = new EmployeeStatisticsDTO(3, Map.of("CA", 2L, "NY", 1L),
+                Map.of("Los Angeles", 2L, "New York", 1L), Map.of(5, 3L));
+        when(employeeStatisticsService.getStatistics()).thenReturn(statistics);
+
+        // Act & Assert
+        mockMvc.perform(get("/employees/statistics")
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.total").value(3))
+                .andExpect(jsonPath("$.byState.CA").value(2))
+                .andExpect(jsonPath("$.byBirthMonth.5").value(3));
+
+        verify(employeeService, never()).getAllEmployees(any(Pageable.class), any());
+    }
+
+    @Test
+    public void exportEmployees_ShouldStreamCsv() throws Exception {
+        // Arrange
+        doAnswer(invocation -> {
+            OutputStream out = invocation.getArgument(3);
+            out.write("First name,Last name,Location,Birthday\r\n".getBytes());
+            return null;
+        }).when(employeeExportService).exportEmployees(eq(ExportFormat.CSV), eq(5), isNull(), any(OutputStream.class));
+
+        // Act & Assert
+        MvcResult result = mockMvc.perform(get("/employees/export")
+                        .param("format", "csv")
+                        .param("month", "5"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Content-Type", "text/csv"))
+                .andExpect(content().string("First name,Last name,Location,Birthday\r\n"));
     }
 
     @Test
@@ -211,17 +433,75 @@ public class EmployeeControllerTest {
                 "John,Doe,Developer\nJane,Smith,Manager".getBytes()
         );
 
-        doNothing().when(employeeService).processUploadedCsv(any());
+        when(employeeService.processUploadedCsv(any())).thenReturn(List.of(1L, 2L));
 
         // Act & Assert
         mockMvc.perform(multipart("/employees/upload-from-file")
                         .file(file))
                 .andExpect(status().isCreated())
+                .andExpect(header().string("X-Employees-Created", "2"))
+                .andExpect(header().string("X-Employee-Ids", "1-2"))
                 .andExpect(content().string("CSV file processed and data saved successfully."));
 
         verify(employeeService, times(1)).processUploadedCsv(any());
     }
 
+    @Test
+    public void uploadCsvFiles_ShouldReturnPerFileResults() throws Exception {
+        // Arrange
+        MockMultipartFile east = new MockMultipartFile("files", "east.csv", MediaType.TEXT_PLAIN_VALUE, "a".getBytes());
+        MockMultipartFile west = new MockMultipartFile("files", "west.csv", MediaType.TEXT_PLAIN_VALUE, "b".getBytes());
+        EmployeeImportResultDTO result = EmployeeImportResultDTO.of(List.of(
+                new EmployeeFileImportResultDTO("east.csv", 3, 1, 2, null),
+                new EmployeeFileImportResultDTO("west.csv", 4, 1, 2, null)), 5);
+        when(employeeFileImportService.importFiles(anyList())).thenReturn(result);
+
+        // Act & Assert
+        mockMvc.perform(multipart("/employees/upload-from-files")
+                        .file(east)
+                        .file(west))
+                .andExpect(status().isCreated())
+                .andExpect(header().string("X-Employees-Created", "7"))
+                .andExpect(jsonPath("$.files[1].name").value("west.csv"))
+                .andExpect(jsonPath("$.files[1].rows").value(4));
+    }
+
+    @Test
+    public void uploadCsvFiles_ShouldReturnServerError_WhenAFileFails() throws Exception {
+        // Arrange
+        MockMultipartFile east = new MockMultipartFile("files", "east.csv", MediaType.TEXT_PLAIN_VALUE, "a".getBytes());
+        when(employeeFileImportService.importFiles(anyList())).thenReturn(EmployeeImportResultDTO.of(List.of(
+                new EmployeeFileImportResultDTO("east.csv", 0, 1, 0, "Mapping for Birthday not found")), 5));
+
+        // Act & Assert
+        mockMvc.perform(multipart("/employees/upload-from-files")
+                        .file(east))
+                .andExpect(status().isInternalServerError())
+                .andExpect(jsonPath("$.failedFiles").value(1));
+    }
+
+    @Test
+    public void syncCsvFromFileSystem_ShouldReturnDeltaCounts() throws Exception {
+        // Arrange
+        MockMultipartFile file = new MockMultipartFile(
+                "file",
+                "roster.csv",
+                MediaType.TEXT_PLAIN_VALUE,
+                "First name,Last name,Location,Birthday\nJohn,Doe,\"Chicago, IL\",1/2/1990".getBytes()
+        );
+        when(employeeDeltaImportService.importDelta(any(), eq(true))).thenReturn(new EmployeeDeltaImportResultDTO(1, 2, 3, 4));
+
+        // Act & Assert
+        mockMvc.perform(multipart("/employees/sync-from-file")
+                        .file(file)
+                        .param("deleteMissing", "true"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.inserted").value(1))
+                .andExpect(jsonPath("$.updated").value(2))
+                .andExpect(jsonPath("$.deleted").value(3))
+                .andExpect(jsonPath("$.unchanged").value(4));
+    }
+
     @Test
     public void uploadCsvFromFileSystem_ShouldReturnErrorMessage_WhenProcessingFails() throws Exception {
         // Arrange
@@ -274,17 +554,35 @@ public class EmployeeControllerTest {
     @Test
     public void uploadCsvFileFromResources_ShouldReturnSuccessMessage_WhenProcessingSucceeds() throws Exception {
         // Arrange
-        doNothing().when(employeeService).saveEmployeesFromResources();
+        when(employeeService.saveEmployeesFromResources()).thenReturn(List.of(51L, 52L, 53L));
 
         // Act & Assert
         mockMvc.perform(post("/employees/import-from-resources")
                         .contentType(MediaType.APPLICATION_JSON))
                 .andExpect(status().isCreated())
+                .andExpect(header().string("X-Employees-Created", "3"))
+                .andExpect(header().string("X-Employee-Ids", "51-53"))
                 .andExpect(content().string("CSV file processed and data saved successfully."));
 
         verify(employeeService, times(1)).saveEmployeesFromResources();
     }
 
+    @Test
+    public void uploadCsvFileFromResources_ShouldReturnIdsInBody_WhenTheyDoNotFitTheHeader() throws Exception {
+        // Arrange
+        List<Long> ids = LongStream.rangeClosed(1, 2000).map(i -> i * 2).boxed().toList();
+        when(employeeService.saveEmployeesFromResources()).thenReturn(ids);
+        String ranges = EmployeeController.idRanges(ids);
+
+        // Act & Assert
+        mockMvc.perform(post("/employees/import-from-resources")
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isCreated())
+                .andExpect(header().string("X-Employees-Created", "2000"))
+                .andExpect(header().doesNotExist("X-Employee-Ids"))
+                .andExpect(content().string("CSV file processed and data saved successfully.\nEmployee ids: " + ranges));
+    }
+
     @Test
     public void uploadCsvFileFromResources_ShouldReturnErrorMessage_WhenProcessingFails() throws Exception {
         // Arrange
@@ -298,5 +596,44 @@ public class EmployeeControllerTest {
 
         verify(employeeService, times(1)).saveEmployeesFromResources();
     }
-}
 
+    @Test
+    public void applyBatch_ShouldReturnPerItemResults() throws Exception {
+        // Arrange
+        EmployeeBatchResultDTO batchResult = EmployeeBatchResultDTO.of(List.of(
+                new EmployeeBatchItemResultDTO(EmployeeBatchItemResultDTO.Operation.CREATE, 0, null, 0L, EmployeeBatchItemResultDTO.Status.CREATED),
+                new EmployeeBatchItemResultDTO(EmployeeBatchItemResultDTO.Operation.DELETE, 0, 7L, null, EmployeeBatchItemResultDTO.Status.NOT_FOUND)));
+        when(employeeBatchService.applyBatch(any(EmployeeBatchRequestDTO.class))).thenReturn(batchResult);
+
+        // Act & Assert
+        mockMvc.perform(post("/employees/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"create\":[{\"firstName\":\"John\",\"lastName\":\"Peter\",\"birthDate\":\"5/5/1985\"}],\"delete\":[7]}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.created").value(1))
+                .andExpect(jsonPath("$.failed").value(1))
+                .andExpect(jsonPath("$.items[1].id").value(7))
+                .andExpect(jsonPath("$.items[1].status").value("NOT_FOUND"));
+    }
+
+    @Test
+    public void applyBatch_ShouldReturnBadRequest_WhenAnItemIsInvalid() throws Exception {
+        MockMvc mockMvcWithAdvice = MockMvcBuilders.standaloneSetup(employeeController)
+                .setControllerAdvice(new GlobalExceptionHandler())
+                .build();
+
+        // Act & Assert
+        mockMvcWithAdvice.perform(post("/employees/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"create\":[{\"firstName\":\"\",\"lastName\":\"Peter\",\"birthDate\":\"5/5/1985\"}]}"))
+                .andExpect(status().isBadRequest());
+
+        verify(employeeBatchService, never()).applyBatch(any());
+    }
+
+    @Test
+    public void idRanges_ShouldCollapseConsecutiveIds() {
+        assertEquals("1-3,7,51-52", EmployeeController.idRanges(List.of(52L, 1L, 2L, 3L, 7L, 51L)));
+        assertEquals("", EmployeeController.idRanges(List.of()));
+    }
+}
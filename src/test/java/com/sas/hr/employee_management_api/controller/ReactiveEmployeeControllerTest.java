@@ -0,0 +1,83 @@
+package com.sas.hr.employee_management_api.controller;
+
+import com.sas.hr.employee_management_api.dto.EmployeeDetailsDTO;
+import com.sas.hr.employee_management_api.exception.EmployeeNotFoundException;
+import com.sas.hr.employee_management_api.exception.GlobalExceptionHandler;
+import com.sas.hr.employee_management_api.model.EmployeeField;
+import com.sas.hr.employee_management_api.service.ReactiveEmployeeService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@ExtendWith(MockitoExtension.class)
+class ReactiveEmployeeControllerTest {
+
+    private MockMvc mockMvc;
+
+    @Mock
+    private ReactiveEmployeeService reactiveEmployeeService;
+
+    @InjectMocks
+    private ReactiveEmployeeController reactiveEmployeeController;
+
+    @BeforeEach
+    void setUp() {
+        mockMvc = MockMvcBuilders.standaloneSetup(reactiveEmployeeController)
+                .setControllerAdvice(new GlobalExceptionHandler())
+                .build();
+    }
+
+    @Test
+    void getEmployees_ShouldStreamNdjson() throws Exception {
+        // Arrange
+        when(reactiveEmployeeService.getEmployees(eq(5), any(Pageable.class), eq(EmployeeField.ALL))).thenReturn(Flux.just(
+                new EmployeeDetailsDTO(1L, "John", "Doe", "New York", "NY", "HQ", "1990-05-15", 0L),
+                new EmployeeDetailsDTO(2L, "Jane", "Smith", "Los Angeles", "CA", "Branch", "1985-05-22", 0L)));
+
+        // Act
+        MvcResult result = mockMvc.perform(get("/reactive/employees").param("month", "5").accept(MediaType.APPLICATION_NDJSON))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // Assert
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().string(org.hamcrest.Matchers.containsString("\"firstName\":\"Jane\"")));
+    }
+
+    @Test
+    void getEmployeeById_ShouldReturnNotFound_WhenEmployeeDoesNotExist() throws Exception {
+        // Arrange
+        when(reactiveEmployeeService.getEmployeeById(7L, EmployeeField.ALL)).thenReturn(Mono.error(new EmployeeNotFoundException(7L)));
+
+        // Act
+        MvcResult result = mockMvc.perform(get("/reactive/employees/{id}", 7L).accept(MediaType.APPLICATION_JSON))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // Assert
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isNotFound())
+                .andExpect(jsonPath("$.message").value("Employee Not Found"));
+    }
+}
@@ -0,0 +1,86 @@
+package com.sas.hr.employee_management_api.repository;
+
+import com.sas.hr.employee_management_api.event.EmployeeChangedEvent.ChangeType;
+import com.sas.hr.employee_management_api.model.Employee;
+import com.sas.hr.employee_management_api.model.EmployeeChangeLogEntry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// The scheduled relay only runs once at startup, so the test sequences entries itself
+@SpringBootTest(properties = "employee.change-feed.relay-interval-ms=3600000")
+class EmployeeChangeLogRepositoryIT {
+
+    @Autowired
+    private EmployeeChangeLogRepository changeLogRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    // Its own in-memory database: other ITs in the same JVM create testdb with different credentials
+    @DynamicPropertySource
+    static void registerH2Properties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", () -> "jdbc:h2:mem:change_log_it;DB_CLOSE_DELAY=-1");
+        registry.add("spring.datasource.driver-class-name", () -> "org.h2.Driver");
+        registry.add("spring.datasource.username", () -> "sa");
+        registry.add("spring.datasource.password", () -> "");
+        registry.add("employee.reactive.url", () -> "r2dbc:h2:mem:///change_log_it?options=DB_CLOSE_DELAY=-1");
+    }
+
+    private final Employee john = new Employee(1L, "John", "Doe", "NY, NY", "New York", "NY", LocalDate.of(1990, 5, 15), 0L);
+    private final Employee jane = new Employee(2L, "Jane", "Smith", "LA, CA", "Los Angeles", "CA", LocalDate.of(1985, 5, 22), 4L);
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.execute("DELETE FROM employee_change_log");
+    }
+
+    @Test
+    void testEntriesAreSequencedInOutboxOrder() {
+        changeLogRepository.appendToOutbox(ChangeType.CREATED, List.of(john));
+        changeLogRepository.appendToOutbox(ChangeType.DELETED, List.of(jane));
+        assertTrue(changeLogRepository.findEntriesAfter(0L, 10).isEmpty());
+
+        assertEquals(1, changeLogRepository.sequencePendingEntries(1));
+        assertEquals(1, changeLogRepository.sequencePendingEntries(10));
+        assertEquals(0, changeLogRepository.sequencePendingEntries(10));
+
+        List<EmployeeChangeLogEntry> entries = changeLogRepository.findEntriesAfter(0L, 10);
+        assertEquals(List.of(1L, 2L), entries.stream().map(EmployeeChangeLogEntry::getSequence).toList());
+        assertEquals("John", entries.get(0).getFirstName());
+        assertEquals(LocalDate.of(1990, 5, 15), entries.get(0).getBirthDay());
+        assertNull(entries.get(1).getFirstName());
+        assertEquals(4L, entries.get(1).getEmployeeVersion());
+        assertEquals(List.of(2L), changeLogRepository.findEntriesAfter(1L, 10).stream().map(EmployeeChangeLogEntry::getSequence).toList());
+    }
+
+    @Test
+    void testCompactionKeepsTheLatestEntryPerEmployeeAndTheHighestSequence() {
+        changeLogRepository.appendToOutbox(ChangeType.CREATED, List.of(john, jane));
+        changeLogRepository.appendToOutbox(ChangeType.UPDATED, List.of(john));
+        changeLogRepository.appendToOutbox(ChangeType.DELETED, List.of(john));
+        changeLogRepository.appendToOutbox(ChangeType.DELETED, List.of(jane));
+        changeLogRepository.sequencePendingEntries(10);
+        Timestamp cutoff = Timestamp.valueOf(LocalDateTime.now().plusMinutes(1));
+
+        assertEquals(3, changeLogRepository.deleteSupersededEntries(cutoff));
+        // John's deletion goes; Jane's holds the highest sequence number and stays
+        assertEquals(1, changeLogRepository.deleteTombstones(cutoff));
+
+        List<EmployeeChangeLogEntry> entries = changeLogRepository.findEntriesAfter(0L, 10);
+        assertEquals(1, entries.size());
+        assertEquals(2L, entries.get(0).getEmployeeId());
+        assertEquals(5L, changeLogRepository.findMaxSequence());
+    }
+}
@@ -0,0 +1,60 @@
+package com.sas.hr.employee_management_api.repository;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class EmployeeIdAllocatorTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void testAllocateDrawsAllBlocksInOneQuery() {
+        when(jdbcTemplate.queryForList(anyString(), eq(Long.class), eq(3))).thenReturn(List.of(51L, 101L, 151L));
+        EmployeeIdAllocator allocator = new EmployeeIdAllocator(jdbcTemplate);
+
+        long[] ids = allocator.allocate(120);
+
+        assertThat(ids[0]).isEqualTo(2L);
+        assertThat(ids[50]).isEqualTo(52L);
+        assertThat(ids[119]).isEqualTo(121L);
+        verify(jdbcTemplate, times(1)).queryForList(anyString(), eq(Long.class), eq(3));
+    }
+
+    @Test
+    void testAllocateTopsUpWhenTheFirstSequenceValueOnlyCoversItself() {
+        when(jdbcTemplate.queryForList(anyString(), eq(Long.class), eq(1))).thenReturn(List.of(1L), List.of(51L));
+        EmployeeIdAllocator allocator = new EmployeeIdAllocator(jdbcTemplate);
+
+        long[] ids = allocator.allocate(2);
+
+        assertThat(ids).containsExactly(1L, 2L);
+        verify(jdbcTemplate, times(2)).queryForList(anyString(), eq(Long.class), eq(1));
+    }
+
+    @Test
+    void testAllocateReusesTheRemainderOfAReservedBlock() {
+        when(jdbcTemplate.queryForList(anyString(), eq(Long.class), eq(1))).thenReturn(List.of(150L));
+        EmployeeIdAllocator allocator = new EmployeeIdAllocator(jdbcTemplate);
+
+        assertThat(allocator.allocate(2)).containsExactly(101L, 102L);
+        assertThat(allocator.allocate(48)).startsWith(103L).endsWith(150L);
+
+        verify(jdbcTemplate, times(1)).queryForList(anyString(), eq(Long.class), eq(1));
+        verifyNoMoreInteractions(jdbcTemplate);
+    }
+}
@@ -1,6 +1,7 @@
 package com.sas.hr.employee_management_api.repository;
 
 import com.sas.hr.employee_management_api.model.Employee;
+import com.sas.hr.employee_management_api.model.EmployeeField;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -11,9 +12,15 @@ import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.test.context.DynamicPropertyRegistry;
 import org.springframework.test.context.DynamicPropertySource;
 
+import java.sql.Timestamp;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.EnumSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -37,14 +44,18 @@ class EmployeeRepositoryIT {
     @BeforeEach
     void setUp() {
         jdbcTemplate.execute("DROP TABLE IF EXISTS employee");
+        jdbcTemplate.execute("CREATE SEQUENCE IF NOT EXISTS employee_seq START WITH 1 INCREMENT BY 50");
         jdbcTemplate.execute("CREATE TABLE employee (" +
-                "id BIGINT AUTO_INCREMENT PRIMARY KEY, " +
+                "id BIGINT PRIMARY KEY, " +
                 "first_name VARCHAR(255), " +
                 "last_name VARCHAR(255), " +
                 "city VARCHAR(255), " +
                 "state VARCHAR(255), " +
                 "location VARCHAR(255), " +
-                "birth_day DATE)");
+                "birth_day DATE, " +
+                "version BIGINT DEFAULT 0 NOT NULL, " +
+                "deleted_at TIMESTAMP, " +
+                "content_hash BIGINT)");
     }
 
     @Test
@@ -55,10 +66,12 @@ class EmployeeRepositoryIT {
                 new Employee(null, "Bob", "Johnson", "Chicago", "IL", "Branch",  LocalDate.of(1991, 5, 22))
         );
 
-        employeeRepository.batchInsertEmployeesUsingJdbc(employees);
+        List<Long> ids = employeeRepository.batchInsertEmployeesUsingJdbc(employees);
 
         int count = employeeRepository.countEmployeesByBirthdayMonth(5);
         assertEquals(3, count);
+        assertEquals(ids, jdbcTemplate.queryForList("SELECT id FROM employee ORDER BY id", Long.class));
+        assertEquals(3, ids.stream().distinct().count());
     }
 
     @Test
@@ -78,6 +91,37 @@ class EmployeeRepositoryIT {
         assertTrue(mayEmployees.getContent().stream().allMatch(e -> e.getBirthDay().getMonthValue() == 5));
     }
 
+    @Test
+    void testFindEmployeesByBirthdayMonthWithProjectedFields() {
+        List<Employee> employees = Arrays.asList(
+                new Employee(null, "John", "Doe", "New York", "NY", "HQ", LocalDate.of(1990, 5, 15)),
+                new Employee(null, "Jane", "Smith", "Los Angeles", "CA", "Branch", LocalDate.of(1985, 5, 22))
+        );
+        employeeRepository.batchInsertEmployeesUsingJdbc(employees);
+
+        Page<Employee> mayEmployees = employeeRepository.findEmployeesByBirthdayMonth(5, PageRequest.of(0, 10),
+                EnumSet.of(EmployeeField.ID, EmployeeField.LAST_NAME));
+
+        assertEquals(2, mayEmployees.getContent().size());
+        assertTrue(mayEmployees.getContent().stream().allMatch(e -> e.getId() != null && e.getLastName() != null));
+        assertTrue(mayEmployees.getContent().stream().allMatch(e -> e.getFirstName() == null && e.getBirthDay() == null));
+    }
+
+    @Test
+    void testFindEmployeesByBirthdayMonthSorted() {
+        List<Employee> employees = Arrays.asList(
+                new Employee(null, "John", "Doe", "New York", "NY", "HQ", LocalDate.of(1990, 5, 15)),
+                new Employee(null, "Jane", "Smith", "Los Angeles", "CA", "Branch", LocalDate.of(1985, 5, 22)),
+                new Employee(null, "Bob", "Adams", "Chicago", "IL", "Branch", LocalDate.of(1991, 5, 2))
+        );
+        employeeRepository.batchInsertEmployeesUsingJdbc(employees);
+
+        Page<Employee> mayEmployees = employeeRepository.findEmployeesByBirthdayMonth(5,
+                PageRequest.of(0, 10, EmployeeField.parseSort("birthDate:desc")));
+
+        assertEquals(List.of("Bob", "John", "Jane"), mayEmployees.getContent().stream().map(Employee::getFirstName).toList());
+    }
+
     @Test
     void testCountAddresses() {
         List<Employee> employees = Arrays.asList(
@@ -89,4 +133,113 @@ class EmployeeRepositoryIT {
         int count = employeeRepository.countEmployeesByBirthdayMonth(5);
         assertEquals(1, count);
     }
-}
\ No newline at end of file
+
+    @Test
+    void testUpdateEmployeeReturnsPreviousRow() {
+        employeeRepository.batchInsertEmployeesUsingJdbc(List.of(
+                new Employee(null, "John", "Doe", "HQ", "New York", "NY", LocalDate.of(1990, 5, 15))));
+        Long id = jdbcTemplate.queryForObject("SELECT id FROM employee", Long.class);
+
+        Optional<Employee> previous = employeeRepository.updateEmployee(
+                new Employee(id, "Jane", "Doe", "Branch", "Boston", "MA", LocalDate.of(1990, 6, 1)), 0L);
+
+        assertTrue(previous.isPresent());
+        assertEquals("John", previous.get().getFirstName());
+        assertEquals(0L, previous.get().getVersion());
+        assertEquals("Boston", jdbcTemplate.queryForObject("SELECT city FROM employee WHERE id = ?", String.class, id));
+        assertEquals(1L, jdbcTemplate.queryForObject("SELECT version FROM employee WHERE id = ?", Long.class, id));
+    }
+
+    @Test
+    void testUpdateEmployeeWithStaleVersionUpdatesNothing() {
+        employeeRepository.batchInsertEmployeesUsingJdbc(List.of(
+                new Employee(null, "John", "Doe", "New York", "NY", "HQ", LocalDate.of(1990, 5, 15))));
+        Long id = jdbcTemplate.queryForObject("SELECT id FROM employee", Long.class);
+
+        Optional<Employee> previous = employeeRepository.updateEmployee(
+                new Employee(id, "Jane", "Doe", "Boston", "MA", "Branch", LocalDate.of(1990, 6, 1)), 5L);
+
+        assertTrue(previous.isEmpty());
+        assertEquals("John", jdbcTemplate.queryForObject("SELECT first_name FROM employee WHERE id = ?", String.class, id));
+    }
+
+    @Test
+    void testDeleteEmployeeById() {
+        employeeRepository.batchInsertEmployeesUsingJdbc(List.of(
+                new Employee(null, "John", "Doe", "New York", "NY", "HQ", LocalDate.of(1990, 5, 15))));
+        Long id = jdbcTemplate.queryForObject("SELECT id FROM employee", Long.class);
+
+        assertEquals("John", employeeRepository.deleteEmployeeById(id).map(Employee::getFirstName).orElse(null));
+        assertTrue(employeeRepository.deleteEmployeeById(id).isEmpty());
+        assertTrue(employeeRepository.findEmployeeById(id, EmployeeField.ALL).isEmpty());
+        assertEquals(0, employeeRepository.countEmployees());
+        // Only soft-deleted: the row stays until it is purged
+        assertEquals(1, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM employee", Integer.class));
+    }
+
+    @Test
+    void testSoftDeleteByFilterThenPurgeInBatches() {
+        employeeRepository.batchInsertEmployeesUsingJdbc(List.of(
+                new Employee(null, "John", "Doe", "HQ", "New York", "NY", LocalDate.of(1990, 5, 15)),
+                new Employee(null, "Jane", "Smith", "Branch", "Albany", "NY", LocalDate.of(1985, 8, 22)),
+                new Employee(null, "Mary", "Major", "Branch", "Boston", "MA", LocalDate.of(1985, 5, 22)),
+                new Employee(null, "Bob", "Johnson", "Branch", "Buffalo", "NY", LocalDate.of(1991, 5, 22))));
+
+        List<Employee> first = employeeRepository.softDeleteEmployees(5, "NY", 0, 1);
+        List<Employee> second = employeeRepository.softDeleteEmployees(5, "NY", first.get(0).getId(), 1);
+
+        assertEquals(List.of("John"), first.stream().map(Employee::getFirstName).toList());
+        assertEquals(List.of("Bob"), second.stream().map(Employee::getFirstName).toList());
+        assertEquals(1, employeeRepository.countEmployeesByBirthdayMonth(5));
+        assertEquals(Map.of("NY", 1L, "MA", 1L), employeeRepository.countEmployeesGroupedBy(EmployeeField.STATE));
+        assertTrue(employeeRepository.softDeleteEmployees(5, "NY", 0, 10).isEmpty());
+
+        Timestamp future = Timestamp.valueOf(LocalDateTime.now().plusMinutes(1));
+        assertEquals(0, employeeRepository.purgeDeletedEmployees(Timestamp.valueOf(LocalDateTime.now().minusMinutes(1)), 10));
+        assertEquals(1, employeeRepository.purgeDeletedEmployees(future, 1));
+        assertEquals(1, employeeRepository.purgeDeletedEmployees(future, 1));
+        assertEquals(0, employeeRepository.purgeDeletedEmployees(future, 1));
+        assertEquals(2, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM employee", Integer.class));
+    }
+
+    @Test
+    void testBatchUpdateAndDeleteEmployeesUsingJdbc() {
+        employeeRepository.batchInsertEmployeesUsingJdbc(List.of(
+                new Employee(null, "John", "Doe", "New York", "NY", "HQ", LocalDate.of(1990, 5, 15)),
+                new Employee(null, "Jane", "Smith", "Los Angeles", "CA", "Branch", LocalDate.of(1985, 8, 22))));
+        List<Long> ids = jdbcTemplate.queryForList("SELECT id FROM employee ORDER BY id", Long.class);
+
+        int[] updated = employeeRepository.batchUpdateEmployeesUsingJdbc(List.of(
+                new Employee(ids.get(0), "Johnny", "Doe", "Boston", "MA", "HQ", LocalDate.of(1990, 5, 15)),
+                new Employee(ids.get(1), "Janet", "Smith", "Austin", "TX", "Branch", LocalDate.of(1985, 8, 22))),
+                Arrays.asList(null, 7L));
+        int[] deleted = employeeRepository.batchDeleteEmployeesUsingJdbc(List.of(ids.get(1), 999L));
+
+        assertArrayEquals(new int[]{1, 0}, updated);
+        assertArrayEquals(new int[]{1, 0}, deleted);
+        assertEquals(List.of("Johnny"), jdbcTemplate.queryForList("SELECT first_name FROM employee WHERE deleted_at IS NULL", String.class));
+        assertEquals(1, employeeRepository.findEmployeesByIdsForUpdate(ids).size());
+    }
+
+    @Test
+    void testPatchEmployeeWritesOnlyWhenSomethingChanges() {
+        employeeRepository.batchInsertEmployeesUsingJdbc(List.of(
+                new Employee(null, "John", "Doe", "HQ", "New York", "NY", LocalDate.of(1990, 5, 15))));
+        Long id = jdbcTemplate.queryForObject("SELECT id FROM employee", Long.class);
+
+        Map<EmployeeField, Object> unchanged = new EnumMap<>(EmployeeField.class);
+        unchanged.put(EmployeeField.LOCATION, "HQ");
+        assertTrue(employeeRepository.patchEmployee(id, unchanged, null).isEmpty());
+
+        Map<EmployeeField, Object> changes = new EnumMap<>(EmployeeField.class);
+        changes.put(EmployeeField.LOCATION, "Branch");
+        changes.put(EmployeeField.STATE, null);
+        assertEquals("HQ", employeeRepository.patchEmployee(id, changes, 0L).map(Employee::getLocation).orElse(null));
+
+        Map<String, Object> row = jdbcTemplate.queryForMap("SELECT first_name, location, state, version FROM employee WHERE id = ?", id);
+        assertEquals("John", row.get("FIRST_NAME"));
+        assertEquals("Branch", row.get("LOCATION"));
+        assertNull(row.get("STATE"));
+        assertEquals(1L, row.get("VERSION"));
+    }
+}
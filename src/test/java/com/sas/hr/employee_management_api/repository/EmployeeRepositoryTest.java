@@ -2,6 +2,7 @@ package com.sas.hr.employee_management_api.repository;
 
 
 import com.sas.hr.employee_management_api.model.Employee;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
@@ -31,12 +32,18 @@ class EmployeeRepositoryTest {
     @Mock
     private NamedParameterJdbcTemplate namedParameterJdbcTemplate;
 
+    @Mock
+    private EmployeeIdAllocator idAllocator;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
     @InjectMocks
     private EmployeeRepository employeeRepository;
 
     @BeforeEach
     void setUp() {
         MockitoAnnotations.openMocks(this);
+        employeeRepository.registerMeters(meterRegistry);
     }
 
     @Test
@@ -52,6 +59,30 @@ class EmployeeRepositoryTest {
         employeeRepository.batchInsertEmployeesUsingJdbc(employees);
 
         verify(jdbcTemplate, times(1)).batchUpdate(anyString(), any(BatchPreparedStatementSetter.class));
+        verifyNoInteractions(idAllocator);
+        assertEquals(1, meterRegistry.get("employee.jdbc").tags("query", "batch-insert", "database", "primary").timer().count());
+        assertEquals(2.0, meterRegistry.get("employee.jdbc.batch.size").summary().totalAmount());
+    }
+
+    @Test
+    void testMetersAreRegisteredOnceUpFront() {
+        assertEquals(3, meterRegistry.find("employee.jdbc").tag("database", "primary").timers().size());
+        assertEquals(1, meterRegistry.find("employee.jdbc.batch.size").summaries().size());
+    }
+
+    @Test
+    void testBatchInsertEmployeesUsingJdbcAllocatesMissingIds() {
+        List<Employee> employees = Arrays.asList(
+                new Employee(null, "John", "Doe", "New York", "NY", "HQ", LocalDate.of(1990, 5, 15)),
+                new Employee(7L, "Jane", "Smith", "Los Angeles", "CA", "Branch", LocalDate.of(1985, 8, 22)),
+                new Employee(null, "Bob", "Adams", "Chicago", "IL", "Branch", LocalDate.of(1991, 3, 2))
+        );
+        when(idAllocator.allocate(2)).thenReturn(new long[]{51L, 52L});
+
+        List<Long> ids = employeeRepository.batchInsertEmployeesUsingJdbc(employees);
+
+        assertEquals(List.of(51L, 7L, 52L), ids);
+        assertEquals(0L, employees.get(0).getVersion());
     }
 
     @Test
@@ -0,0 +1,51 @@
+package com.sas.hr.employee_management_api.repository;
+
+import com.sas.hr.employee_management_api.EmployeeManagementApiApplication;
+import com.sas.hr.employee_management_api.model.Employee;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PersistentStorageIT {
+
+    @TempDir
+    Path storageDir;
+
+    private ConfigurableApplicationContext start() {
+        return new SpringApplicationBuilder(EmployeeManagementApiApplication.class)
+                .profiles("persistent")
+                .properties("server.port=0")
+                // A command line argument, so it overrides the storage path of the profile
+                .run("--employee.storage.path=" + storageDir.resolve("employees"));
+    }
+
+    @Test
+    void testDataAndIdSequenceSurviveARestart() {
+        List<Long> ids;
+        try (ConfigurableApplicationContext context = start()) {
+            // Starting at all means Hibernate validated the entity against the Flyway schema
+            JdbcTemplate jdbcTemplate = context.getBean(JdbcTemplate.class);
+            assertTrue(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM \"flyway_schema_history\"", Integer.class) > 0);
+            assertEquals(0, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM \"flyway_schema_history\" WHERE NOT \"success\"", Integer.class));
+            ids = context.getBean(EmployeeRepository.class).batchInsertEmployeesUsingJdbc(List.of(
+                    new Employee(null, "John", "Doe", "New York", "NY", "HQ", LocalDate.of(1990, 5, 15)),
+                    new Employee(null, "Jane", "Smith", "Los Angeles", "CA", "Branch", LocalDate.of(1985, 5, 22))));
+        }
+
+        try (ConfigurableApplicationContext context = start()) {
+            assertEquals(ids, context.getBean(JdbcTemplate.class).queryForList("SELECT id FROM employee ORDER BY id", Long.class));
+            List<Long> newIds = context.getBean(EmployeeRepository.class).batchInsertEmployeesUsingJdbc(List.of(
+                    new Employee(null, "Bob", "Adams", "Chicago", "IL", "Branch", LocalDate.of(1991, 8, 2))));
+            assertTrue(newIds.get(0) > ids.get(1));
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package com.sas.hr.employee_management_api.repository;
+
+import com.sas.hr.employee_management_api.model.Employee;
+import com.sas.hr.employee_management_api.model.EmployeeField;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.time.LocalDate;
+import java.util.EnumSet;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+class ReactiveEmployeeRepositoryIT {
+
+    @Autowired
+    private ReactiveEmployeeRepository reactiveEmployeeRepository;
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @DynamicPropertySource
+    static void registerH2Properties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", () -> "jdbc:h2:mem:testdb;DB_CLOSE_DELAY=-1");
+        registry.add("spring.datasource.driver-class-name", () -> "org.h2.Driver");
+        registry.add("spring.datasource.username", () -> "sa");
+        registry.add("spring.datasource.password", () -> "");
+    }
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.execute("DELETE FROM employee");
+        employeeRepository.batchInsertEmployeesUsingJdbc(List.of(
+                new Employee(null, "John", "Doe", "New York", "NY", "HQ", LocalDate.of(1990, 5, 15)),
+                new Employee(null, "Jane", "Smith", "Los Angeles", "CA", "Branch", LocalDate.of(1985, 5, 22)),
+                new Employee(null, "Bob", "Adams", "Chicago", "IL", "Branch", LocalDate.of(1991, 8, 2))));
+    }
+
+    @Test
+    void testFindByBirthMonthReadsTheJdbcSchema() {
+        List<Employee> employees = reactiveEmployeeRepository.findByBirthMonth(5,
+                PageRequest.of(0, 10, EmployeeField.parseSort("lastName")), EnumSet.of(EmployeeField.ID, EmployeeField.LAST_NAME))
+                .collectList()
+                .block();
+
+        assertEquals(List.of("Doe", "Smith"), employees.stream().map(Employee::getLastName).toList());
+        assertNull(employees.get(0).getFirstName());
+    }
+
+    @Test
+    void testFindById() {
+        Long id = jdbcTemplate.queryForObject("SELECT MIN(id) FROM employee", Long.class);
+
+        Employee employee = reactiveEmployeeRepository.findById(id, EmployeeField.ALL).block();
+
+        assertEquals("John", employee.getFirstName());
+        assertEquals(LocalDate.of(1990, 5, 15), employee.getBirthDay());
+        assertNull(reactiveEmployeeRepository.findById(-1L, EmployeeField.ALL).block());
+    }
+}
@@ -0,0 +1,132 @@
+package com.sas.hr.employee_management_api.repository;
+
+import com.sas.hr.employee_management_api.model.Employee;
+import com.sas.hr.employee_management_api.model.EmployeeField;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(properties = {
+        "employee.sharding.enabled=true",
+        "employee.sharding.shard-count=3",
+        "employee.sharding.url-template=jdbc:h2:mem:employee_shard_it_%d;DB_CLOSE_DELAY=-1"
+})
+class ShardedEmployeeRepositoryIT {
+
+    @Autowired
+    private ShardedEmployeeRepository shardedRepository;
+
+    // Its own in-memory database: other ITs in the same JVM create testdb with different credentials
+    @DynamicPropertySource
+    static void registerH2Properties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", () -> "jdbc:h2:mem:sharded_it;DB_CLOSE_DELAY=-1");
+        registry.add("spring.datasource.driver-class-name", () -> "org.h2.Driver");
+        registry.add("spring.datasource.username", () -> "sa");
+        registry.add("spring.datasource.password", () -> "");
+        registry.add("employee.reactive.url", () -> "r2dbc:h2:mem:///sharded_it?options=DB_CLOSE_DELAY=-1");
+    }
+
+    private List<Employee> newEmployees(int count) {
+        String[] lastNames = {"Doe", "Smith", null, "Adams", "Zhang"};
+        List<Employee> employees = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            employees.add(new Employee(null, "First" + i, lastNames[i % lastNames.length], "Somewhere", "Chicago", "IL",
+                    i % 4 == 0 ? null : LocalDate.of(1980 + i % 20, 1 + i % 12, 1)));
+        }
+        return employees;
+    }
+
+    @Test
+    void testPagesAcrossShardsFollowTheRequestedOrder() {
+        List<Long> ids = shardedRepository.batchInsertEmployees(newEmployees(40), 7);
+        Sort sort = Sort.by(Sort.Order.desc("lastName"), Sort.Order.asc("birthDay"), Sort.Order.asc("id"));
+
+        Page<Employee> all = shardedRepository.findEmployees(null, PageRequest.of(0, 10_000, sort), EmployeeField.ALL);
+        List<Employee> paged = new ArrayList<>();
+        for (int page = 0; page * 7 < all.getTotalElements(); page++) {
+            paged.addAll(shardedRepository.findEmployees(null, PageRequest.of(page, 7, sort), EmployeeField.ALL).getContent());
+        }
+
+        List<Employee> expected = new ArrayList<>(all.getContent());
+        expected.sort(EmployeeField.comparator(sort));
+        assertEquals(expected, all.getContent());
+        assertEquals(all.getContent(), paged);
+        assertEquals(all.getTotalElements(), all.getContent().size());
+        assertTrue(all.getContent().stream().map(Employee::getId).toList().containsAll(ids));
+    }
+
+    @Test
+    void testMonthQueriesOnlyReturnTheRequestedColumns() {
+        shardedRepository.batchInsertEmployees(newEmployees(24), 5);
+        EnumSet<EmployeeField> fields = EnumSet.of(EmployeeField.ID, EmployeeField.VERSION, EmployeeField.FIRST_NAME);
+
+        Page<Employee> page = shardedRepository.findEmployees(3, PageRequest.of(0, 100, Sort.by("city", "id")), fields);
+
+        assertFalse(page.isEmpty());
+        assertEquals(page.getTotalElements(), page.getContent().size());
+        page.forEach(employee -> {
+            assertNotNull(employee.getFirstName());
+            assertNull(employee.getCity());
+            assertNull(employee.getBirthDay());
+        });
+    }
+
+    @Test
+    void testPointReadsAndWritesGoToTheOwningShard() {
+        Employee employee = newEmployees(1).get(0);
+        long id = shardedRepository.batchInsertEmployees(List.of(employee), 1).get(0);
+
+        assertEquals(Optional.of("First0"), shardedRepository.findEmployeeById(id, EmployeeField.ALL).map(Employee::getFirstName));
+
+        employee.setFirstName("Renamed");
+        assertEquals(Optional.of(0L), shardedRepository.updateEmployee(employee, 0L).map(Employee::getVersion));
+        assertTrue(shardedRepository.updateEmployee(employee, 0L).isEmpty());
+        assertEquals(Optional.of(1L), shardedRepository.findEmployeeById(id, EmployeeField.ALL).map(Employee::getVersion));
+
+        assertEquals(Optional.of("Renamed"), shardedRepository.deleteEmployeeById(id).map(Employee::getFirstName));
+        assertTrue(shardedRepository.findEmployeeById(id, EmployeeField.ALL).isEmpty());
+    }
+
+    @Test
+    void testAggregatesAndStreamsCoverEveryShard() {
+        shardedRepository.batchInsertEmployees(newEmployees(30), 4);
+        long total = shardedRepository.findEmployees(null, PageRequest.of(0, 1), EmployeeField.ALL).getTotalElements();
+
+        List<Employee> streamed = new ArrayList<>();
+        shardedRepository.streamEmployees(null, null, streamed::add);
+
+        assertEquals(total, shardedRepository.countEmployeesGroupedBy(EmployeeField.STATE).values().stream().mapToLong(Long::longValue).sum());
+        assertEquals(total, streamed.size());
+        assertEquals(streamed.stream().filter(employee -> employee.getBirthDay() != null && employee.getBirthDay().getMonthValue() == 3).count(),
+                shardedRepository.countEmployeesGroupedByBirthMonth().getOrDefault(3, 0L));
+    }
+
+    @Test
+    void testBulkSoftDeleteWorksInBoundedChunksOnEveryShard() {
+        List<Employee> employees = newEmployees(25);
+        employees.forEach(employee -> employee.setState("WY"));
+        shardedRepository.batchInsertEmployees(employees, 10);
+        List<List<Employee>> chunks = Collections.synchronizedList(new ArrayList<>());
+
+        int deleted = shardedRepository.softDeleteEmployees(null, "WY", 4, chunks::add);
+
+        assertEquals(25, deleted);
+        assertEquals(25, chunks.stream().mapToInt(List::size).sum());
+        assertTrue(chunks.stream().allMatch(chunk -> chunk.size() <= 4));
+        assertEquals(0, shardedRepository.countEmployeesGroupedBy(EmployeeField.STATE).getOrDefault("WY", 0L));
+    }
+}
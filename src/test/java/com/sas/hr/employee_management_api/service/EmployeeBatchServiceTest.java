@@ -0,0 +1,145 @@
+package com.sas.hr.employee_management_api.service;
+
+import com.sas.hr.employee_management_api.dto.EmployeeBatchItemResultDTO.Status;
+import com.sas.hr.employee_management_api.dto.EmployeeBatchRequestDTO;
+import com.sas.hr.employee_management_api.dto.EmployeeBatchResultDTO;
+import com.sas.hr.employee_management_api.dto.EmployeeBatchUpdateDTO;
+import com.sas.hr.employee_management_api.dto.EmployeeInputDTO;
+import com.sas.hr.employee_management_api.event.EmployeeChangedEvent;
+import com.sas.hr.employee_management_api.event.EmployeesImportedEvent;
+import com.sas.hr.employee_management_api.exception.InvalidBatchRequestException;
+import com.sas.hr.employee_management_api.exception.ShardingUnsupportedException;
+import com.sas.hr.employee_management_api.model.Employee;
+import com.sas.hr.employee_management_api.repository.EmployeeRepository;
+import com.sas.hr.employee_management_api.repository.ShardedEmployeeRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class EmployeeBatchServiceTest {
+
+    @Mock
+    private EmployeeRepository employeeRepository;
+
+    @Mock
+    private ShardedEmployeeRepository shardedRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    private EmployeeBatchService employeeBatchService(int chunkSize) {
+        return new EmployeeBatchService(employeeRepository, shardedRepository, eventPublisher, transactionTemplate, chunkSize, 100);
+    }
+
+    private void runTransactionsInline() {
+        doAnswer(invocation -> {
+            Consumer<TransactionStatus> callback = invocation.getArgument(0);
+            callback.accept(null);
+            return null;
+        }).when(transactionTemplate).executeWithoutResult(any());
+    }
+
+    @Test
+    void testApplyBatchReportsPerItemResults() {
+        //Arrange
+        runTransactionsInline();
+        Employee current = new Employee(1L, "John", "Doe", "NY, NY", "New York", "NY", LocalDate.of(1990, 5, 15), 2L);
+        Employee stale = new Employee(2L, "Jane", "Doe", "LA, CA", "Los Angeles", "CA", LocalDate.of(1985, 1, 2), 4L);
+        Employee deleted = new Employee(3L, "Bob", "Adams", "Chicago, IL", "Chicago", "IL", LocalDate.of(1991, 3, 2), 0L);
+        when(employeeRepository.findEmployeesByIdsForUpdate(List.of(1L, 2L, 9L))).thenReturn(List.of(current, stale));
+        when(employeeRepository.batchUpdateEmployeesUsingJdbc(anyList(), anyList())).thenReturn(new int[]{1});
+        when(employeeRepository.findEmployeesByIdsForUpdate(List.of(3L, 8L))).thenReturn(List.of(deleted));
+        when(employeeRepository.batchDeleteEmployeesUsingJdbc(List.of(3L, 8L))).thenReturn(new int[]{1, 0});
+
+        EmployeeInputDTO input = new EmployeeInputDTO("Pal", "Smith", "Boston", "MA", "Boston, MA", "10/5/1980");
+        EmployeeBatchRequestDTO request = new EmployeeBatchRequestDTO(
+                List.of(input),
+                List.of(new EmployeeBatchUpdateDTO(1L, 2L, input), new EmployeeBatchUpdateDTO(2L, 3L, input), new EmployeeBatchUpdateDTO(9L, null, input)),
+                List.of(3L, 8L));
+
+        //Act
+        EmployeeBatchResultDTO result = employeeBatchService(0).applyBatch(request);
+
+        //Assert
+        assertThat(result.items()).extracting("status").containsExactly(
+                Status.CREATED, Status.UPDATED, Status.VERSION_MISMATCH, Status.NOT_FOUND, Status.DELETED, Status.NOT_FOUND);
+        assertThat(result.created()).isEqualTo(1);
+        assertThat(result.updated()).isEqualTo(1);
+        assertThat(result.deleted()).isEqualTo(1);
+        assertThat(result.failed()).isEqualTo(3);
+        assertThat(result.items().get(1).version()).isEqualTo(3L);
+        verify(transactionTemplate, times(1)).executeWithoutResult(any());
+        verify(eventPublisher, times(1)).publishEvent(any(EmployeesImportedEvent.class));
+        verify(eventPublisher, times(1)).publishEvent(EmployeeChangedEvent.deleted(deleted));
+    }
+
+    @Test
+    void testApplyBatchCommitsChunksSeparately() {
+        //Arrange
+        runTransactionsInline();
+        EmployeeInputDTO input = new EmployeeInputDTO("Pal", "Smith", "Boston", "MA", "Boston, MA", "10/5/1980");
+
+        //Act
+        EmployeeBatchResultDTO result = employeeBatchService(2).applyBatch(
+                new EmployeeBatchRequestDTO(List.of(input, input, input, input, input), null, null));
+
+        //Assert
+        assertThat(result.created()).isEqualTo(5);
+        assertThat(result.items()).extracting("index").containsExactly(0, 1, 2, 3, 4);
+        verify(transactionTemplate, times(3)).executeWithoutResult(any());
+        verify(employeeRepository, times(3)).batchInsertEmployeesUsingJdbc(anyList());
+    }
+
+    @Test
+    void testApplyBatchRejectsInvalidPayloadBeforeWriting() {
+        EmployeeInputDTO input = new EmployeeInputDTO("Pal", "Smith", "Boston", "MA", "Boston, MA", "10/5/1980");
+        EmployeeInputDTO badDate = new EmployeeInputDTO("Pal", "Smith", "Boston", "MA", "Boston, MA", "not a date");
+
+        assertThatThrownBy(() -> employeeBatchService(0).applyBatch(new EmployeeBatchRequestDTO(List.of(input, badDate), null, null)))
+                .isInstanceOf(InvalidBatchRequestException.class)
+                .hasMessageContaining("create[1].birthDate");
+        assertThatThrownBy(() -> employeeBatchService(0).applyBatch(
+                new EmployeeBatchRequestDTO(null, List.of(new EmployeeBatchUpdateDTO(1L, null, input)), List.of(1L))))
+                .isInstanceOf(InvalidBatchRequestException.class)
+                .hasMessageContaining("both updated and deleted");
+        assertThatThrownBy(() -> employeeBatchService(0).applyBatch(new EmployeeBatchRequestDTO(null, null, null)))
+                .isInstanceOf(InvalidBatchRequestException.class);
+
+        verifyNoInteractions(transactionTemplate);
+        verify(employeeRepository, never()).batchInsertEmployeesUsingJdbc(anyList());
+    }
+
+    @Test
+    void testApplyBatchIsRejectedWithShardedStorage() {
+        EmployeeInputDTO input = new EmployeeInputDTO("Pal", "Smith", "Boston", "MA", "Boston, MA", "10/5/1980");
+        when(shardedRepository.isEnabled()).thenReturn(true);
+
+        assertThatThrownBy(() -> employeeBatchService(0).applyBatch(new EmployeeBatchRequestDTO(List.of(input), null, null)))
+                .isInstanceOf(ShardingUnsupportedException.class);
+
+        verifyNoInteractions(transactionTemplate, employeeRepository);
+    }
+}
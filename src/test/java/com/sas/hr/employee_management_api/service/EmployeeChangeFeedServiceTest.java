@@ -0,0 +1,111 @@
+package com.sas.hr.employee_management_api.service;
+
+import com.sas.hr.employee_management_api.dto.EmployeeChangeFeedDTO;
+import com.sas.hr.employee_management_api.event.EmployeeChangedEvent;
+import com.sas.hr.employee_management_api.event.EmployeeChangedEvent.ChangeType;
+import com.sas.hr.employee_management_api.event.EmployeesImportedEvent;
+import com.sas.hr.employee_management_api.exception.ShardingUnsupportedException;
+import com.sas.hr.employee_management_api.model.Employee;
+import com.sas.hr.employee_management_api.model.EmployeeChangeLogEntry;
+import com.sas.hr.employee_management_api.repository.EmployeeChangeLogRepository;
+import com.sas.hr.employee_management_api.repository.ShardedEmployeeRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class EmployeeChangeFeedServiceTest {
+
+    @Mock
+    private EmployeeChangeLogRepository changeLogRepository;
+
+    @Mock
+    private ShardedEmployeeRepository shardedRepository;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    private EmployeeChangeFeedService changeFeedService() {
+        return new EmployeeChangeFeedService(changeLogRepository, shardedRepository, transactionTemplate, 2, Duration.ofHours(1), Duration.ofDays(7));
+    }
+
+    @Test
+    void testEventsAreAppendedToTheOutbox() {
+        Employee before = new Employee(1L, "John", "Doe", "NY, NY", "New York", "NY", LocalDate.of(1990, 5, 15), 2L);
+        Employee after = new Employee(1L, "Johnny", "Doe", "NY, NY", "New York", "NY", LocalDate.of(1990, 5, 15), 3L);
+        EmployeeChangeFeedService service = changeFeedService();
+
+        service.onEmployeeChanged(EmployeeChangedEvent.updated(before, after));
+        service.onEmployeeChanged(EmployeeChangedEvent.deleted(after));
+        service.onEmployeesImported(new EmployeesImportedEvent(List.of(before)));
+
+        verify(changeLogRepository).appendToOutbox(ChangeType.UPDATED, List.of(after));
+        verify(changeLogRepository).appendToOutbox(ChangeType.DELETED, List.of(after));
+        verify(changeLogRepository).appendToOutbox(ChangeType.CREATED, List.of(before));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void testRelayRepeatsUntilTheOutboxIsDrained() {
+        when(transactionTemplate.execute(any())).thenAnswer(invocation -> ((TransactionCallback<Integer>) invocation.getArgument(0)).doInTransaction(null));
+        when(changeLogRepository.sequencePendingEntries(2)).thenReturn(2, 2, 1);
+
+        assertThat(changeFeedService().relay()).isEqualTo(5);
+        verify(changeLogRepository, times(3)).sequencePendingEntries(2);
+    }
+
+    @Test
+    void testGetChangesMapsEntriesAndReturnsTheNextSequence() {
+        LocalDateTime occurredAt = LocalDateTime.of(2024, 1, 2, 3, 4, 5);
+        when(changeLogRepository.findEntriesAfter(10L, 50)).thenReturn(List.of(
+                new EmployeeChangeLogEntry(7L, 11L, 1L, "CREATED", 0L, "John", "Doe", "NY, NY", "New York", "NY", LocalDate.of(1990, 5, 15), occurredAt),
+                new EmployeeChangeLogEntry(8L, 12L, 1L, "DELETED", 0L, null, null, null, null, null, null, occurredAt)));
+
+        EmployeeChangeFeedDTO feed = changeFeedService().getChanges(10L, 50);
+
+        assertThat(feed.next()).isEqualTo(12L);
+        assertThat(feed.changes()).extracting("type").containsExactly(ChangeType.CREATED, ChangeType.DELETED);
+        assertThat(feed.changes().get(0).employee().firstName()).isEqualTo("John");
+        assertThat(feed.changes().get(0).employee().birthDate()).isEqualTo("1990-05-15");
+        assertThat(feed.changes().get(1).employee()).isNull();
+    }
+
+    @Test
+    void testGetChangesWithoutNewEntriesKeepsThePosition() {
+        when(changeLogRepository.findEntriesAfter(12L, 50)).thenReturn(List.of());
+
+        EmployeeChangeFeedDTO feed = changeFeedService().getChanges(12L, 50);
+
+        assertThat(feed.changes()).isEmpty();
+        assertThat(feed.next()).isEqualTo(12L);
+    }
+
+    @Test
+    void testFeedIsOffWithShardedStorage() {
+        Employee employee = new Employee(1L, "John", "Doe", "NY, NY", "New York", "NY", LocalDate.of(1990, 5, 15), 0L);
+        when(shardedRepository.isEnabled()).thenReturn(true);
+        EmployeeChangeFeedService service = changeFeedService();
+
+        service.onEmployeeChanged(EmployeeChangedEvent.created(employee));
+        service.onEmployeesImported(new EmployeesImportedEvent(List.of(employee)));
+
+        verifyNoInteractions(changeLogRepository);
+        assertThatThrownBy(() -> service.getChanges(0, 10)).isInstanceOf(ShardingUnsupportedException.class);
+    }
+}
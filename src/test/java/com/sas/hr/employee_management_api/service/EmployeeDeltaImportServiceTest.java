@@ -0,0 +1,157 @@
+package com.sas.hr.employee_management_api.service;
+
+import com.sas.hr.employee_management_api.config.HotPathMetrics;
+import com.sas.hr.employee_management_api.dto.EmployeeDeltaImportResultDTO;
+import com.sas.hr.employee_management_api.dto.EmployeeInputDTO;
+import com.sas.hr.employee_management_api.event.EmployeesDeletedEvent;
+import com.sas.hr.employee_management_api.event.EmployeesImportedEvent;
+import com.sas.hr.employee_management_api.mapper.EmployeeMapper;
+import com.sas.hr.employee_management_api.model.Employee;
+import com.sas.hr.employee_management_api.repository.EmployeeRepository;
+import com.sas.hr.employee_management_api.repository.ShardedEmployeeRepository;
+import com.sas.hr.employee_management_api.util.CSVProcessor;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.core.io.Resource;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class EmployeeDeltaImportServiceTest {
+
+    @Mock
+    private EmployeeRepository employeeRepository;
+
+    @Mock
+    private ShardedEmployeeRepository shardedRepository;
+
+    @Mock
+    private CSVProcessor csvProcessor;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    private final HotPathMetrics hotPathMetrics = new HotPathMetrics(new SimpleMeterRegistry(), true);
+
+    private final Resource resource = new ByteArrayResource(new byte[0]);
+
+    private final EmployeeInputDTO john = new EmployeeInputDTO("John", "Doe", "New York", "NY", "New York, NY", "5/15/1990");
+    private final EmployeeInputDTO jane = new EmployeeInputDTO("Jane", "Doe", "Boston", "MA", "Boston, MA", "1/2/1985");
+    private final EmployeeInputDTO pal = new EmployeeInputDTO("Pal", "Smith", "Chicago", "IL", "Chicago, IL", "10/5/1980");
+
+    private EmployeeDeltaImportService deltaImportService() {
+        return new EmployeeDeltaImportService(employeeRepository, shardedRepository, csvProcessor, eventPublisher, transactionTemplate,
+                hotPathMetrics, "firstName,lastName,birthDate", 2);
+    }
+
+    @SuppressWarnings("unchecked")
+    private void runTransactionsInline() {
+        lenient().doAnswer(invocation -> {
+            Consumer<TransactionStatus> callback = invocation.getArgument(0);
+            callback.accept(null);
+            return null;
+        }).when(transactionTemplate).executeWithoutResult(any());
+        lenient().when(transactionTemplate.execute(any())).thenAnswer(invocation -> ((TransactionCallback<Object>) invocation.getArgument(0)).doInTransaction(null));
+    }
+
+    private static Employee stored(long id, String firstName, String lastName, LocalDate birthDay, Long contentHash) {
+        Employee employee = new Employee(id, firstName, lastName, null, null, null, birthDay, 3L);
+        employee.setContentHash(contentHash);
+        return employee;
+    }
+
+    private void storedEmployees(Employee... employees) {
+        doAnswer(invocation -> {
+            Consumer<Employee> consumer = invocation.getArgument(1);
+            List.of(employees).forEach(consumer);
+            return null;
+        }).when(employeeRepository).streamEmployeeContentHashes(any(), any());
+    }
+
+    @Test
+    void testOnlyNewChangedAndMissingEmployeesAreWritten() throws IOException {
+        runTransactionsInline();
+        when(csvProcessor.loadEmployeesFromCsv(resource)).thenReturn(List.of(john, jane, pal));
+        storedEmployees(
+                stored(1L, "John", "Doe", LocalDate.of(1990, 5, 15), EmployeeMapper.toEmployeeEntity(john).computeContentHash()),
+                stored(2L, "Jane", "Doe", LocalDate.of(1985, 1, 2), 42L),
+                stored(3L, "Bob", "Adams", LocalDate.of(1991, 3, 2), 7L));
+        Employee janeBefore = new Employee(2L, "Jane", "Doe", "NY, NY", "New York", "NY", LocalDate.of(1985, 1, 2), 3L);
+        Employee bobBefore = new Employee(3L, "Bob", "Adams", "Chicago, IL", "Chicago", "IL", LocalDate.of(1991, 3, 2), 0L);
+        when(employeeRepository.findEmployeesByIdsForUpdate(List.of(2L))).thenReturn(List.of(janeBefore));
+        when(employeeRepository.findEmployeesByIdsForUpdate(List.of(3L))).thenReturn(List.of(bobBefore));
+
+        EmployeeDeltaImportResultDTO result = deltaImportService().importDelta(resource, true);
+
+        assertThat(result).isEqualTo(new EmployeeDeltaImportResultDTO(1, 1, 1, 1));
+        verify(employeeRepository).batchInsertEmployeesUsingJdbc(argThat(employees -> employees.size() == 1
+                && employees.get(0).getFirstName().equals("Pal")));
+        verify(employeeRepository).batchUpdateEmployeesUsingJdbc(argThat(employees -> employees.size() == 1
+                && employees.get(0).getId() == 2L && employees.get(0).getCity().equals("Boston")), anyList());
+        verify(employeeRepository).batchDeleteEmployeesUsingJdbc(List.of(3L));
+        verify(eventPublisher).publishEvent(any(EmployeesImportedEvent.class));
+        verify(eventPublisher).publishEvent(new EmployeesDeletedEvent(List.of(bobBefore)));
+    }
+
+    @Test
+    void testMissingEmployeesAreKeptByDefault() throws IOException {
+        runTransactionsInline();
+        when(csvProcessor.loadEmployeesFromCsv(resource)).thenReturn(List.of(john));
+        storedEmployees(
+                stored(1L, "John", "Doe", LocalDate.of(1990, 5, 15), EmployeeMapper.toEmployeeEntity(john).computeContentHash()),
+                stored(3L, "Bob", "Adams", LocalDate.of(1991, 3, 2), 7L));
+
+        EmployeeDeltaImportResultDTO result = deltaImportService().importDelta(resource, false);
+
+        assertThat(result).isEqualTo(new EmployeeDeltaImportResultDTO(0, 0, 0, 1));
+        verify(employeeRepository, never()).batchInsertEmployeesUsingJdbc(anyList());
+        verify(employeeRepository, never()).batchDeleteEmployeesUsingJdbc(anyList());
+        verifyNoInteractions(eventPublisher);
+    }
+
+    @Test
+    void testDuplicateKeysArePairedByContent() throws IOException {
+        runTransactionsInline();
+        EmployeeInputDTO johnElsewhere = new EmployeeInputDTO("John", "Doe", "Boston", "MA", "Boston, MA", "5/15/1990");
+        when(csvProcessor.loadEmployeesFromCsv(resource)).thenReturn(List.of(johnElsewhere, john));
+        storedEmployees(
+                stored(1L, "John", "Doe", LocalDate.of(1990, 5, 15), EmployeeMapper.toEmployeeEntity(john).computeContentHash()),
+                stored(2L, "John", "Doe", LocalDate.of(1990, 5, 15), EmployeeMapper.toEmployeeEntity(johnElsewhere).computeContentHash()));
+
+        EmployeeDeltaImportResultDTO result = deltaImportService().importDelta(resource, true);
+
+        assertThat(result).isEqualTo(new EmployeeDeltaImportResultDTO(0, 0, 0, 2));
+    }
+
+    @Test
+    void testNaturalKeyMustNameAttributes() {
+        assertThatThrownBy(() -> new EmployeeDeltaImportService(employeeRepository, shardedRepository, csvProcessor, eventPublisher, transactionTemplate, hotPathMetrics, "id", 2))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
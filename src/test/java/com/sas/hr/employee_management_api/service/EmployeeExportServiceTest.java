@@ -0,0 +1,81 @@
+package com.sas.hr.employee_management_api.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sas.hr.employee_management_api.config.HotPathMetrics;
+import com.sas.hr.employee_management_api.dto.EmployeeInputDTO;
+import com.sas.hr.employee_management_api.dto.ExportFormat;
+import com.sas.hr.employee_management_api.model.Employee;
+import com.sas.hr.employee_management_api.repository.EmployeeRepository;
+import com.sas.hr.employee_management_api.repository.ShardedEmployeeRepository;
+import com.sas.hr.employee_management_api.util.CSVProcessor;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.io.ByteArrayResource;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.doAnswer;
+
+@ExtendWith(MockitoExtension.class)
+class EmployeeExportServiceTest {
+
+    @Mock
+    private EmployeeRepository employeeRepository;
+
+    @Mock
+    private ShardedEmployeeRepository shardedRepository;
+
+    private final CSVProcessor csvProcessor = new CSVProcessor(new HotPathMetrics(new SimpleMeterRegistry(), true));
+
+    private EmployeeExportService employeeExportService;
+
+    @BeforeEach
+    void setUp() {
+        employeeExportService = new EmployeeExportService(employeeRepository, shardedRepository, csvProcessor, new ObjectMapper());
+        doAnswer(invocation -> {
+            Consumer<Employee> consumer = invocation.getArgument(2);
+            consumer.accept(new Employee(1L, "John", "Doe", "New York, NY", "New York", "NY", LocalDate.of(1990, 5, 15)));
+            consumer.accept(new Employee(2L, "Jane", "Smith", "Los Angeles, CA", "Los Angeles", "CA", LocalDate.of(1985, 12, 2)));
+            return null;
+        }).when(employeeRepository).streamEmployees(eq(5), isNull(), any());
+    }
+
+    @Test
+    void testCsvExportCanBeImportedAgain() throws IOException {
+        //Act
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        employeeExportService.exportEmployees(ExportFormat.CSV, 5, null, out);
+        List<EmployeeInputDTO> imported = csvProcessor.loadEmployeesFromCsv(new ByteArrayResource(out.toByteArray()));
+
+        //Assert
+        assertThat(imported).hasSize(2);
+        assertThat(imported.get(0)).isEqualTo(new EmployeeInputDTO("John", "Doe", "New York", "NY", "New York, NY", "5/15/1990"));
+        assertThat(imported.get(1).birthDate()).isEqualTo("12/2/1985");
+    }
+
+    @Test
+    void testNdjsonExportWritesOneObjectPerLine() throws IOException {
+        //Act
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        employeeExportService.exportEmployees(ExportFormat.NDJSON, 5, null, out);
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+
+        //Assert
+        assertThat(lines).hasSize(2);
+        assertThat(lines[0]).contains("\"id\":1").contains("\"birthDate\":\"1990-05-15\"");
+        assertThat(lines[1]).contains("\"firstName\":\"Jane\"");
+    }
+}
@@ -0,0 +1,110 @@
+package com.sas.hr.employee_management_api.service;
+
+import com.sas.hr.employee_management_api.config.HotPathMetrics;
+import com.sas.hr.employee_management_api.dto.EmployeeFileImportResultDTO;
+import com.sas.hr.employee_management_api.dto.EmployeeImportResultDTO;
+import com.sas.hr.employee_management_api.dto.EmployeeInputDTO;
+import com.sas.hr.employee_management_api.util.CSVProcessor;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockMultipartFile;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.stream.LongStream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class EmployeeFileImportServiceTest {
+
+    private static final String HEADER = "First name,Last name,Location,Birthday\n";
+
+    @Mock
+    private EmployeeService employeeService;
+
+    private EmployeeFileImportService fileImportService;
+
+    @BeforeEach
+    void setUp() {
+        fileImportService = new EmployeeFileImportService(new CSVProcessor(new HotPathMetrics(new SimpleMeterRegistry(), true)), employeeService, 2);
+    }
+
+    @AfterEach
+    void tearDown() {
+        fileImportService.destroy();
+    }
+
+    private static String csv(int rows) {
+        StringBuilder csv = new StringBuilder(HEADER);
+        for (int i = 0; i < rows; i++) {
+            csv.append("First").append(i).append(",Doe,\"Chicago, IL\",1/2/1990\n");
+        }
+        return csv.toString();
+    }
+
+    private static byte[] zip(String... namesAndContents) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ZipOutputStream zip = new ZipOutputStream(bytes)) {
+            for (int i = 0; i < namesAndContents.length; i += 2) {
+                zip.putNextEntry(new ZipEntry(namesAndContents[i]));
+                zip.write(namesAndContents[i + 1].getBytes(StandardCharsets.UTF_8));
+                zip.closeEntry();
+            }
+        }
+        return bytes.toByteArray();
+    }
+
+    private void importReturnsIds() {
+        when(employeeService.importEmployees(anyList())).thenAnswer(invocation -> {
+            List<EmployeeInputDTO> rows = invocation.getArgument(0);
+            return LongStream.rangeClosed(1, rows.size()).boxed().toList();
+        });
+    }
+
+    @Test
+    void testImportsEveryCsvEntryOfAnArchive() throws IOException {
+        importReturnsIds();
+        byte[] archive = zip("regions/", "", "regions/east.csv", csv(3), "regions/west.csv", csv(5), "README.txt", "not a roster");
+
+        EmployeeImportResultDTO result = fileImportService.importFiles(List.of(
+                new MockMultipartFile("files", "feeds.zip", "application/zip", archive)));
+
+        assertThat(result.rows()).isEqualTo(8);
+        assertThat(result.failedFiles()).isZero();
+        assertThat(result.files()).extracting(EmployeeFileImportResultDTO::name, EmployeeFileImportResultDTO::rows)
+                .containsExactly(tuple("feeds.zip!/regions/east.csv", 3), tuple("feeds.zip!/regions/west.csv", 5));
+    }
+
+    @Test
+    void testImportsSeveralFilesAndReportsFailuresPerFile() {
+        importReturnsIds();
+        doThrow(new RuntimeException("Batch insert failed due to database access error."))
+                .when(employeeService).importEmployees(argThat(rows -> rows.size() == 2));
+
+        EmployeeImportResultDTO result = fileImportService.importFiles(List.of(
+                new MockMultipartFile("files", "north.csv", "text/csv", csv(4).getBytes(StandardCharsets.UTF_8)),
+                new MockMultipartFile("files", "south.csv", "text/csv", csv(2).getBytes(StandardCharsets.UTF_8)),
+                new MockMultipartFile("files", "broken.csv", "text/csv", "no,header\nx,y\n".getBytes(StandardCharsets.UTF_8))));
+
+        assertThat(result.rows()).isEqualTo(4);
+        assertThat(result.failedFiles()).isEqualTo(2);
+        assertThat(result.files()).extracting(EmployeeFileImportResultDTO::name).containsExactly("north.csv", "south.csv", "broken.csv");
+        assertThat(result.files().get(1).error()).contains("Batch insert failed");
+        assertThat(result.files().get(2).error()).isNotNull();
+    }
+}
@@ -0,0 +1,73 @@
+package com.sas.hr.employee_management_api.service;
+
+import com.sas.hr.employee_management_api.admission.AdmissionBudget;
+import com.sas.hr.employee_management_api.admission.AdmissionBudgets;
+import com.sas.hr.employee_management_api.admission.EndpointClass;
+import com.sas.hr.employee_management_api.repository.EmployeeRepository;
+import com.sas.hr.employee_management_api.repository.ShardedEmployeeRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class EmployeePurgeServiceTest {
+
+    @Mock
+    private EmployeeRepository employeeRepository;
+
+    @Mock
+    private ShardedEmployeeRepository shardedRepository;
+
+    @Mock
+    private AdmissionBudgets admissionBudgets;
+
+    private final AdmissionBudget importBudget = new AdmissionBudget(EndpointClass.IMPORT, 2, 2, Duration.ofMillis(10), Duration.ofSeconds(1));
+
+    private EmployeePurgeService purgeService(int maxBatches) {
+        when(admissionBudgets.all()).thenReturn(List.of(importBudget));
+        return new EmployeePurgeService(employeeRepository, shardedRepository, admissionBudgets, Duration.ofMinutes(1), 100, maxBatches, 0.5);
+    }
+
+    @Test
+    void testPurgesInBatchesUntilNoFullBatchIsLeft() {
+        EmployeePurgeService service = purgeService(10);
+        when(employeeRepository.purgeDeletedEmployees(any(), eq(100))).thenReturn(100, 100, 40);
+
+        assertThat(service.purge()).isEqualTo(240);
+
+        verify(employeeRepository, times(3)).purgeDeletedEmployees(any(), eq(100));
+    }
+
+    @Test
+    void testStopsAfterTheMaximumNumberOfBatches() {
+        EmployeePurgeService service = purgeService(2);
+        when(employeeRepository.purgeDeletedEmployees(any(), eq(100))).thenReturn(100);
+
+        assertThat(service.purge()).isEqualTo(200);
+
+        verify(employeeRepository, times(2)).purgeDeletedEmployees(any(), eq(100));
+    }
+
+    @Test
+    void testWaitsForAQuietPeriod() {
+        EmployeePurgeService service = purgeService(10);
+        importBudget.acquire();
+        importBudget.acquire();
+
+        assertThat(service.purge()).isZero();
+
+        verify(employeeRepository, never()).purgeDeletedEmployees(any(), eq(100));
+    }
+}
@@ -1,19 +1,32 @@
 package com.sas.hr.employee_management_api.service;
 
+import com.sas.hr.employee_management_api.cache.EmployeeCache;
+import com.sas.hr.employee_management_api.cache.RequestCoalescer;
+import com.sas.hr.employee_management_api.config.HotPathMetrics;
 import com.sas.hr.employee_management_api.dto.EmployeeDetailsDTO;
 import com.sas.hr.employee_management_api.dto.EmployeeInputDTO;
+import com.sas.hr.employee_management_api.event.EmployeeChangedEvent;
+import com.sas.hr.employee_management_api.event.EmployeesDeletedEvent;
 import com.sas.hr.employee_management_api.exception.EmployeeNotFoundException;
+import com.sas.hr.employee_management_api.exception.EmployeeVersionMismatchException;
+import com.sas.hr.employee_management_api.exception.InvalidQueryParameterException;
 import com.sas.hr.employee_management_api.model.Employee;
+import com.sas.hr.employee_management_api.model.EmployeeField;
 import com.sas.hr.employee_management_api.repository.EmployeeJpaRepository;
 import com.sas.hr.employee_management_api.repository.EmployeeRepository;
+import com.sas.hr.employee_management_api.repository.ShardedEmployeeRepository;
+import com.sas.hr.employee_management_api.store.ColumnarEmployeeStore;
 import com.sas.hr.employee_management_api.util.CSVProcessor;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Mockito;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.core.io.ClassPathResource;
 import org.springframework.core.io.FileSystemResource;
 import org.springframework.core.io.Resource;
@@ -21,16 +34,23 @@ import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.time.Duration;
 import java.time.LocalDate;
 import java.util.List;
+import java.util.Map;
 import java.util.NoSuchElementException;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.stream.LongStream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
@@ -51,6 +71,30 @@ public class EmployeeServiceTest {
     @Mock
     private EmployeeJpaRepository employeeJpaRepository;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private ColumnarEmployeeStore readStore;
+
+    @Spy
+    private EmployeeCache employeeCache = new EmployeeCache(100, Duration.ofMinutes(1), new SimpleMeterRegistry());
+
+    @Spy
+    private RequestCoalescer requestCoalescer = new RequestCoalescer(true, new SimpleMeterRegistry());
+
+    @Spy
+    private HotPathMetrics hotPathMetrics = new HotPathMetrics(new SimpleMeterRegistry(), true);
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    @Mock
+    private GroupCommitEmployeeWriter groupCommitWriter;
+
+    @Mock
+    private ShardedEmployeeRepository shardedRepository;
+
     @InjectMocks
     private EmployeeService employeeService;
 
@@ -80,7 +124,7 @@ public class EmployeeServiceTest {
     void testGetAllEmployeesByMonth(){
         //Arrange
         Employee emp2 = new Employee(2L, "Pal", "Smith","Los Angeles", "CA","Los Angeles, CA", LocalDate.of(1991, 5, 12));
-        when(employeeRepository.findEmployeesByBirthdayMonth(1, Pageable.ofSize(4).withPage(0))).thenReturn(new PageImpl<>(List.of(emp2)));
+        when(employeeRepository.findEmployeesByBirthdayMonth(eq(1), eq(Pageable.ofSize(4).withPage(0)), eq(EmployeeField.ALL))).thenReturn(new PageImpl<>(List.of(emp2)));
 
         //Act
         Page<EmployeeDetailsDTO> result = employeeService.getAllEmployeesByMonth(1,Pageable.ofSize(4).withPage(0));
@@ -89,6 +133,7 @@ public class EmployeeServiceTest {
         assertThat(result).isNotEmpty();
         assertThat(result).hasSize(1);
         assertThat(result).extracting(EmployeeDetailsDTO::firstName).contains("Pal");
+        assertThat(result).extracting(EmployeeDetailsDTO::birthDate).containsExactly("1991-05-12");
     }
 
     @Test
@@ -107,33 +152,121 @@ public class EmployeeServiceTest {
         assertThat(result).extracting(EmployeeDetailsDTO::firstName).contains("John");
     }
 
+    @Test
+    void testGetAllEmployeesWithProjectedFields(){
+        //Arrange
+        Set<EmployeeField> fields = EmployeeField.parseFields("firstName");
+        Employee emp1 = new Employee();
+        emp1.setId(1L);
+        emp1.setFirstName("John");
+        when(employeeJpaRepository.findAllProjected(fields, Pageable.ofSize(4).withPage(0))).thenReturn(new PageImpl<>(List.of(emp1)));
+
+        //Act
+        Page<EmployeeDetailsDTO> result = employeeService.getAllEmployees(Pageable.ofSize(4).withPage(0), fields);
+
+        //Assert
+        assertThat(result).hasSize(1);
+        assertThat(result.getContent().get(0).firstName()).isEqualTo("John");
+        assertThat(result.getContent().get(0).lastName()).isNull();
+        assertThat(result.getContent().get(0).birthDate()).isNull();
+        verify(employeeJpaRepository, never()).findAll(any(Pageable.class));
+    }
+
+    @Test
+    void testGetEmployeeByIdServedFromCacheOnSecondCall() {
+        //Arrange
+        Employee emp1 = new Employee(1L, "John", "Peter", "New York","NY","New York, NY", LocalDate.of(1985, 5, 25));
+        when(employeeJpaRepository.findById(1L)).thenReturn(Optional.of(emp1));
+
+        //Act
+        employeeService.getEmployeeById(1L);
+        EmployeeDetailsDTO projected = employeeService.getEmployeeById(1L, EmployeeField.parseFields("lastName"));
+
+        //Assert
+        assertEquals("Peter", projected.lastName());
+        assertNull(projected.firstName());
+        verify(employeeJpaRepository, times(1)).findById(1L);
+        verify(employeeJpaRepository, never()).findProjectedById(any(), any());
+    }
+
+    @Test
+    void testGetEmployeeByIdServedFromReadStore() {
+        //Arrange
+        Employee emp1 = new Employee(1L, "John", "Peter", "New York","NY","New York, NY", LocalDate.of(1985, 5, 25));
+        when(readStore.isEnabled()).thenReturn(true);
+        when(readStore.findById(1L, EmployeeField.ALL)).thenReturn(Optional.of(emp1));
+
+        //Act
+        EmployeeDetailsDTO employeeDetailsDTO = employeeService.getEmployeeById(1L);
+
+        //Assert
+        assertEquals("John", employeeDetailsDTO.firstName());
+        verify(employeeJpaRepository, never()).findById(any());
+    }
+
     @Test
     void testDeleteEmployeeById() {
         //Arrange
         Employee emp1 = new Employee(1L, "John", "Peter", "New York","NY","New York, NY", LocalDate.of(1985, 5, 25));
-       when(employeeJpaRepository.findById(1L)).thenReturn(Optional.of(emp1));
-        doNothing().when(employeeJpaRepository).delete(emp1);
+       when(employeeRepository.deleteEmployeeById(1L)).thenReturn(Optional.of(emp1));
 
        //Act
        employeeService.deleteEmployeeById(1L);
 
        //Assert
-        verify(employeeJpaRepository, times(1)).delete(emp1);
+        verify(employeeRepository, times(1)).deleteEmployeeById(1L);
+        verify(employeeJpaRepository, never()).findById(any());
+        verify(eventPublisher, times(1)).publishEvent(EmployeeChangedEvent.deleted(emp1));
+    }
+
+    @Test
+    void testDeleteEmployeesByStateSoftDeletesAndPublishesOneEventPerChunk() {
+        runTransactionsInline();
+        List<Employee> firstChunk = LongStream.rangeClosed(1, 1000)
+                .mapToObj(id -> new Employee(id, "John", "Peter", "Somewhere", "Chicago", "IL", LocalDate.of(1985, 5, 25)))
+                .toList();
+        List<Employee> lastChunk = List.of(new Employee(1001L, "Jane", "Doe", "Somewhere", "Peoria", "IL", LocalDate.of(1990, 3, 2)));
+        when(employeeRepository.softDeleteEmployees(null, "IL", 0L, 1000)).thenReturn(firstChunk);
+        when(employeeRepository.softDeleteEmployees(null, "IL", 1000L, 1000)).thenReturn(lastChunk);
+
+        assertEquals(1001, employeeService.deleteEmployees(null, "IL"));
+
+        verify(transactionTemplate, times(2)).execute(any());
+        verify(eventPublisher).publishEvent(new EmployeesDeletedEvent(firstChunk));
+        verify(eventPublisher).publishEvent(new EmployeesDeletedEvent(lastChunk));
+    }
+
+    @Test
+    void testDeleteEmployeesWithoutMatchesPublishesNothing() {
+        runTransactionsInline();
+        when(employeeRepository.softDeleteEmployees(3, null, 0L, 1000)).thenReturn(List.of());
+
+        assertEquals(0, employeeService.deleteEmployees(3, null));
+
+        verifyNoInteractions(eventPublisher);
+    }
+
+    @Test
+    void testDeleteEmployeesWithoutFilterIsRejected() {
+        assertThatThrownBy(() -> employeeService.deleteEmployees(null, null))
+                .isInstanceOf(InvalidQueryParameterException.class);
+
+        verifyNoInteractions(employeeRepository, eventPublisher);
     }
 
     @Test
     void testDeleteEmployeeByIdNotFound() {
         //Arrange
         Employee emp1 = new Employee(1L, "John", "Peter", "New York","NY","New York, NY", LocalDate.of(1985, 5, 25));
-                when(employeeJpaRepository.findById(1L)).thenReturn(Optional.empty());
+                when(employeeRepository.deleteEmployeeById(1L)).thenReturn(Optional.empty());
 
         //Act
         assertThatThrownBy(() -> employeeService.deleteEmployeeById(1L))
                 .isInstanceOf(EmployeeNotFoundException.class)
                 .hasMessage("Employee not found with id: 1");
 
-        // Verify that the deleteById method was never called
-        verify(employeeJpaRepository, never()).delete(emp1);
+        // Verify that no delete event was published
+        verify(eventPublisher, never()).publishEvent(EmployeeChangedEvent.deleted(emp1));
 
         //Assert
         // Assert that calling get() on an empty Optional throws NoSuchElementException
@@ -142,9 +275,15 @@ public class EmployeeServiceTest {
                 .hasMessage("No value present");
     }
 
+    @SuppressWarnings("unchecked")
+    private void runTransactionsInline() {
+        when(transactionTemplate.execute(any())).thenAnswer(invocation -> ((TransactionCallback<Object>) invocation.getArgument(0)).doInTransaction(null));
+    }
+
     @Test
     void testCreateEmployee() {
         //ARRANGE
+        runTransactionsInline();
         Employee emp1 = new Employee(1L, "John", "Peter", "New York","NY","New York, NY", LocalDate.of(1985, 5, 25));
         when(employeeJpaRepository.save(Mockito.any(Employee.class))).thenReturn(emp1);
 
@@ -155,14 +294,14 @@ public class EmployeeServiceTest {
 
         //ASSERT
         assertThat(createdEmployee.firstName()).isEqualTo(employeeInputDTO.firstName());
+        verify(eventPublisher, times(1)).publishEvent(EmployeeChangedEvent.created(emp1));
     }
 
     @Test
     void testUpdateEmployee() {
        //Arrange
-        Employee emp1 = new Employee(1L, "John", "Peter", "New York","NY","New York, NY", LocalDate.of(1985, 5, 25));
-        Mockito.when(employeeJpaRepository.findById(1L)).thenReturn(Optional.of(emp1));
-        Mockito.when(employeeJpaRepository.save(Mockito.any(Employee.class))).thenReturn(emp1);
+        Employee emp1 = new Employee(1L, "John", "Peter", "New York","NY","New York, NY", LocalDate.of(1985, 5, 25), 0L);
+        Mockito.when(employeeRepository.updateEmployee(Mockito.any(Employee.class), Mockito.isNull())).thenReturn(Optional.of(emp1));
 
         //Act
         EmployeeInputDTO updatedEmployee = new EmployeeInputDTO("Pal", "Smith", "Los Angeles","CA","Los Angeles,CA","10/5/2020");
@@ -170,6 +309,80 @@ public class EmployeeServiceTest {
 
         assertThat(result).isNotNull();
         assertThat(result.firstName()).isEqualTo("Pal");
+        assertThat(result.city()).isEqualTo("Los Angeles");
+        assertThat(result.version()).isEqualTo(1L);
+        verify(employeeJpaRepository, never()).findById(any());
+        verify(employeeJpaRepository, never()).save(any(Employee.class));
+    }
+
+    @Test
+    void testUpdateEmployeeNotFound() {
+        //Arrange
+        when(employeeRepository.updateEmployee(any(Employee.class), Mockito.isNull())).thenReturn(Optional.empty());
+
+        //Act & Assert
+        EmployeeInputDTO updatedEmployee = new EmployeeInputDTO("Pal", "Smith", "Los Angeles","CA","Los Angeles,CA","10/5/2020");
+        assertThatThrownBy(() -> employeeService.updateEmployee(1L, updatedEmployee))
+                .isInstanceOf(EmployeeNotFoundException.class)
+                .hasMessage("Employee not found with id: 1");
+    }
+
+    @Test
+    void testUpdateEmployeeVersionMismatch() {
+        //Arrange
+        when(employeeRepository.updateEmployee(any(Employee.class), Mockito.eq(2L))).thenReturn(Optional.empty());
+        when(employeeJpaRepository.existsById(1L)).thenReturn(true);
+
+        //Act & Assert
+        EmployeeInputDTO updatedEmployee = new EmployeeInputDTO("Pal", "Smith", "Los Angeles","CA","Los Angeles,CA","10/5/2020");
+        assertThatThrownBy(() -> employeeService.updateEmployee(1L, updatedEmployee, 2L))
+                .isInstanceOf(EmployeeVersionMismatchException.class);
+        verify(eventPublisher, never()).publishEvent(any(EmployeeChangedEvent.class));
+    }
+
+    @Test
+    void testPatchEmployeeWritesOnlyChangedFields() {
+        //Arrange
+        Employee emp1 = new Employee(1L, "John", "Peter", "New York","NY","New York, NY", LocalDate.of(1985, 5, 25), 1L);
+        Map<EmployeeField, Object> changes = Map.of(EmployeeField.LOCATION, "Boston, MA");
+        when(employeeRepository.patchEmployee(1L, changes, null)).thenReturn(Optional.of(emp1));
+
+        //Act
+        EmployeeDetailsDTO result = employeeService.patchEmployee(1L, changes, null);
+
+        //Assert
+        assertThat(result.location()).isEqualTo("Boston, MA");
+        assertThat(result.firstName()).isEqualTo("John");
+        assertThat(result.version()).isEqualTo(2L);
+        verify(employeeJpaRepository, never()).findById(any());
+        verify(eventPublisher, times(1)).publishEvent(any(EmployeeChangedEvent.class));
+    }
+
+    @Test
+    void testPatchEmployeeWithoutChangesIsNotWritten() {
+        //Arrange
+        Employee emp1 = new Employee(1L, "John", "Peter", "New York","NY","New York, NY", LocalDate.of(1985, 5, 25), 1L);
+        Map<EmployeeField, Object> changes = Map.of(EmployeeField.LOCATION, "New York, NY");
+        when(employeeRepository.patchEmployee(1L, changes, 1L)).thenReturn(Optional.empty());
+        when(employeeJpaRepository.findById(1L)).thenReturn(Optional.of(emp1));
+
+        //Act
+        EmployeeDetailsDTO result = employeeService.patchEmployee(1L, changes, 1L);
+
+        //Assert
+        assertThat(result.version()).isEqualTo(1L);
+        verify(eventPublisher, never()).publishEvent(any(EmployeeChangedEvent.class));
+    }
+
+    @Test
+    void testPatchEmployeeNotFound() {
+        //Arrange
+        when(employeeJpaRepository.findById(1L)).thenReturn(Optional.empty());
+
+        //Act & Assert
+        assertThatThrownBy(() -> employeeService.patchEmployee(1L, Map.of(), null))
+                .isInstanceOf(EmployeeNotFoundException.class);
+        verify(employeeRepository, never()).patchEmployee(any(), any(), any());
     }
 
     @Test
@@ -232,6 +445,7 @@ public class EmployeeServiceTest {
         EmployeeInputDTO inputDTO = new EmployeeInputDTO("John", "Peter", "New York","NY,","New York, NY","10/5/2020");
         Employee employee = new Employee(1L, "John", "Peter", "New York","NY","New York, NY", LocalDate.of(1985, 5, 25));
 
+        runTransactionsInline();
         when(employeeJpaRepository.save(any(Employee.class))).thenThrow(new DataIntegrityViolationException("Unique constraint violation"));
 
         // Act & Assert
@@ -239,4 +453,79 @@ public class EmployeeServiceTest {
             employeeService.createEmployee(inputDTO);
         });
    }
+
+    @Test
+    void testCreateEmployeeUsesGroupCommitWhenEnabled() {
+        // Arrange
+        when(groupCommitWriter.isEnabled()).thenReturn(true);
+        when(groupCommitWriter.insert(any(Employee.class))).thenAnswer(invocation -> {
+            Employee employee = invocation.getArgument(0);
+            employee.setId(51L);
+            employee.setVersion(0L);
+            return employee;
+        });
+
+        // Act
+        EmployeeDetailsDTO created = employeeService.createEmployee(new EmployeeInputDTO("John", "Peter", "New York", "NY", "New York, NY", "10/5/2020"));
+
+        // Assert
+        assertThat(created.id()).isEqualTo(51L);
+        verifyNoInteractions(transactionTemplate, employeeJpaRepository, eventPublisher);
+    }
+
+    @Test
+    void testUpdateEmployeeRoutesToTheShardWhenShardingIsEnabled() {
+        // Arrange
+        Employee before = new Employee(7L, "John", "Peter", "NY, NY", "New York", "NY", LocalDate.of(1985, 5, 25), 2L);
+        when(shardedRepository.isEnabled()).thenReturn(true);
+        when(shardedRepository.updateEmployee(any(Employee.class), eq(2L))).thenReturn(Optional.of(before));
+
+        // Act
+        EmployeeDetailsDTO updated = employeeService.updateEmployee(7L, new EmployeeInputDTO("Jane", "Peter", "New York", "NY", "New York, NY", "10/5/2020"), 2L);
+
+        // Assert
+        assertThat(updated.firstName()).isEqualTo("Jane");
+        assertThat(updated.version()).isEqualTo(3L);
+        verifyNoInteractions(employeeRepository, employeeJpaRepository);
+        verify(eventPublisher).publishEvent(any(EmployeeChangedEvent.class));
+    }
+
+    @Test
+    void testCreateEmployeePublishesInTheShardTransactionWhenShardingIsEnabled() {
+        // Arrange
+        when(shardedRepository.isEnabled()).thenReturn(true);
+        doAnswer(invocation -> {
+            Employee employee = invocation.getArgument(0);
+            employee.setId(51L);
+            employee.setVersion(0L);
+            verifyNoInteractions(eventPublisher);
+            invocation.<Consumer<Employee>>getArgument(1).accept(employee);
+            return null;
+        }).when(shardedRepository).insertEmployee(any(Employee.class), any());
+
+        // Act
+        EmployeeDetailsDTO created = employeeService.createEmployee(new EmployeeInputDTO("John", "Peter", "New York", "NY", "New York, NY", "10/5/2020"));
+
+        // Assert
+        assertThat(created.id()).isEqualTo(51L);
+        verify(eventPublisher).publishEvent(any(EmployeeChangedEvent.class));
+        verifyNoInteractions(transactionTemplate, employeeJpaRepository);
+    }
+
+    @Test
+    void testGetAllEmployeesGathersFromTheShardsWhenShardingIsEnabled() {
+        // Arrange
+        Pageable pageable = Pageable.ofSize(2).withPage(1);
+        Employee employee = new Employee(3L, "Pal", "Smith", "Los Angeles", "CA", "Los Angeles, CA", LocalDate.of(1991, 5, 12));
+        when(shardedRepository.isEnabled()).thenReturn(true);
+        when(shardedRepository.findEmployees(null, pageable, EmployeeField.ALL)).thenReturn(new PageImpl<>(List.of(employee), pageable, 3));
+
+        // Act
+        Page<EmployeeDetailsDTO> result = employeeService.getAllEmployees(pageable);
+
+        // Assert
+        assertThat(result.getTotalElements()).isEqualTo(3);
+        assertThat(result).extracting(EmployeeDetailsDTO::id).containsExactly(3L);
+        verifyNoInteractions(employeeJpaRepository);
+    }
 }
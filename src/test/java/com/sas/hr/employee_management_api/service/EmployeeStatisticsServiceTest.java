@@ -0,0 +1,111 @@
+package com.sas.hr.employee_management_api.service;
+
+import com.sas.hr.employee_management_api.dto.EmployeeStatisticsDTO;
+import com.sas.hr.employee_management_api.event.EmployeeChangedEvent;
+import com.sas.hr.employee_management_api.event.EmployeesImportedEvent;
+import com.sas.hr.employee_management_api.model.Employee;
+import com.sas.hr.employee_management_api.model.EmployeeField;
+import com.sas.hr.employee_management_api.repository.EmployeeRepository;
+import com.sas.hr.employee_management_api.repository.ShardedEmployeeRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class EmployeeStatisticsServiceTest {
+
+    @Mock
+    private EmployeeRepository employeeRepository;
+
+    @Mock
+    private ShardedEmployeeRepository shardedRepository;
+
+    @InjectMocks
+    private EmployeeStatisticsService employeeStatisticsService;
+
+    @Test
+    void testRebuildLoadsAggregatesFromDatabase() {
+        //Arrange
+        when(employeeRepository.countEmployeesGroupedBy(EmployeeField.STATE)).thenReturn(Map.of("CA", 2L, "NY", 1L));
+        when(employeeRepository.countEmployeesGroupedBy(EmployeeField.CITY)).thenReturn(Map.of("Los Angeles", 2L, "New York", 1L));
+        when(employeeRepository.countEmployeesGroupedByBirthMonth()).thenReturn(Map.of(5, 3L));
+
+        //Act
+        employeeStatisticsService.rebuild();
+        EmployeeStatisticsDTO statistics = employeeStatisticsService.getStatistics();
+
+        //Assert
+        assertThat(statistics.total()).isEqualTo(3);
+        assertThat(statistics.byState()).containsEntry("CA", 2L).containsEntry("NY", 1L);
+        assertThat(statistics.byBirthMonth()).containsExactly(Map.entry(5, 3L));
+    }
+
+    @Test
+    void testRebuildSumsTheShardsWithShardedStorage() {
+        //Arrange
+        when(shardedRepository.isEnabled()).thenReturn(true);
+        when(shardedRepository.countEmployeesGroupedBy(EmployeeField.STATE)).thenReturn(Map.of("CA", 2L));
+        when(shardedRepository.countEmployeesGroupedBy(EmployeeField.CITY)).thenReturn(Map.of("Los Angeles", 2L));
+        when(shardedRepository.countEmployeesGroupedByBirthMonth()).thenReturn(Map.of(5, 2L));
+
+        //Act
+        employeeStatisticsService.rebuild();
+
+        //Assert
+        assertThat(employeeStatisticsService.getStatistics().total()).isEqualTo(2);
+        verifyNoInteractions(employeeRepository);
+    }
+
+    @Test
+    void testChangesDuringRebuildAreAppliedAfterIt() {
+        //Arrange
+        Employee jane = new Employee(2L, "Jane", "Smith", "Los Angeles, CA", "Los Angeles", "CA", LocalDate.of(1985, 8, 22));
+        when(employeeRepository.countEmployeesGroupedBy(EmployeeField.STATE)).thenReturn(Map.of("NY", 1L));
+        when(employeeRepository.countEmployeesGroupedBy(EmployeeField.CITY)).thenReturn(Map.of("New York", 1L));
+        when(employeeRepository.countEmployeesGroupedByBirthMonth()).thenAnswer(invocation -> {
+            // Jane commits after the state and city queries have run
+            employeeStatisticsService.onEmployeeChanged(EmployeeChangedEvent.created(jane));
+            return Map.of(5, 1L);
+        });
+
+        //Act
+        employeeStatisticsService.rebuild();
+        EmployeeStatisticsDTO statistics = employeeStatisticsService.getStatistics();
+
+        //Assert
+        assertThat(statistics.total()).isEqualTo(2);
+        assertThat(statistics.byState()).containsEntry("CA", 1L).containsEntry("NY", 1L);
+        assertThat(statistics.byBirthMonth()).containsEntry(8, 1L);
+    }
+
+    @Test
+    void testCountersFollowWritePaths() {
+        //Arrange
+        Employee john = new Employee(1L, "John", "Doe", "New York, NY", "New York", "NY", LocalDate.of(1990, 5, 15));
+        Employee jane = new Employee(2L, "Jane", "Smith", "Los Angeles, CA", "Los Angeles", "CA", LocalDate.of(1985, 8, 22));
+        Employee movedJohn = new Employee(1L, "John", "Doe", "Los Angeles, CA", "Los Angeles", "CA", LocalDate.of(1990, 5, 15));
+
+        //Act
+        employeeStatisticsService.onEmployeesImported(new EmployeesImportedEvent(List.of(john)));
+        employeeStatisticsService.onEmployeeChanged(EmployeeChangedEvent.created(jane));
+        employeeStatisticsService.onEmployeeChanged(EmployeeChangedEvent.updated(john, movedJohn));
+        employeeStatisticsService.onEmployeeChanged(EmployeeChangedEvent.deleted(jane));
+        EmployeeStatisticsDTO statistics = employeeStatisticsService.getStatistics();
+
+        //Assert
+        assertThat(statistics.total()).isEqualTo(1);
+        assertThat(statistics.byState()).containsExactly(Map.entry("CA", 1L));
+        assertThat(statistics.byCity()).containsExactly(Map.entry("Los Angeles", 1L));
+        assertThat(statistics.byBirthMonth()).containsExactly(Map.entry(5, 1L));
+    }
+}
@@ -0,0 +1,125 @@
+package com.sas.hr.employee_management_api.service;
+
+import com.sas.hr.employee_management_api.event.EmployeeChangedEvent;
+import com.sas.hr.employee_management_api.model.Employee;
+import com.sas.hr.employee_management_api.repository.EmployeeRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class GroupCommitEmployeeWriterTest {
+
+    @Mock
+    private EmployeeRepository employeeRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    private GroupCommitEmployeeWriter writer;
+
+    private final AtomicLong nextId = new AtomicLong(1);
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        if (writer != null) {
+            writer.destroy();
+        }
+    }
+
+    private GroupCommitEmployeeWriter start(int maxBatchSize, Duration maxWait) {
+        doAnswer(invocation -> {
+            Consumer<TransactionStatus> callback = invocation.getArgument(0);
+            callback.accept(null);
+            return null;
+        }).when(transactionTemplate).executeWithoutResult(any());
+        writer = new GroupCommitEmployeeWriter(employeeRepository, eventPublisher, transactionTemplate, new SimpleMeterRegistry(),
+                true, maxBatchSize, maxWait, 100);
+        return writer;
+    }
+
+    private void assignIdsOnInsert() {
+        when(employeeRepository.batchInsertEmployeesUsingJdbc(anyList())).thenAnswer(invocation -> {
+            List<Employee> employees = invocation.getArgument(0);
+            if (employees.stream().anyMatch(employee -> employee.getFirstName() == null)) {
+                throw new RuntimeException("Batch insert failed due to database access error.");
+            }
+            employees.forEach(employee -> {
+                employee.setId(nextId.getAndIncrement());
+                employee.setVersion(0L);
+            });
+            return employees.stream().map(Employee::getId).toList();
+        });
+    }
+
+    private static Employee employee(String firstName) {
+        return new Employee(null, firstName, "Doe", "NY, NY", "New York", "NY", LocalDate.of(1990, 5, 15));
+    }
+
+    @Test
+    void testConcurrentCreatesAreCommittedAsOneGroup() {
+        assignIdsOnInsert();
+        GroupCommitEmployeeWriter writer = start(3, Duration.ofSeconds(5));
+
+        List<CompletableFuture<Employee>> creates = List.of("John", "Jane", "Bob").stream()
+                .map(name -> CompletableFuture.supplyAsync(() -> writer.insert(employee(name))))
+                .toList();
+
+        List<Employee> created = creates.stream().map(CompletableFuture::join).toList();
+        assertThat(created).extracting(Employee::getId).containsExactlyInAnyOrder(1L, 2L, 3L);
+        verify(employeeRepository, times(1)).batchInsertEmployeesUsingJdbc(anyList());
+        verify(transactionTemplate, times(1)).executeWithoutResult(any());
+        verify(eventPublisher, times(3)).publishEvent(any(EmployeeChangedEvent.class));
+    }
+
+    @Test
+    void testAFailingCreateOnlyFailsItsOwnCaller() {
+        assignIdsOnInsert();
+        GroupCommitEmployeeWriter writer = start(2, Duration.ofSeconds(5));
+
+        CompletableFuture<Employee> good = CompletableFuture.supplyAsync(() -> writer.insert(employee("John")));
+        CompletableFuture<Employee> bad = CompletableFuture.supplyAsync(() -> writer.insert(employee(null)));
+
+        assertThat(good.join().getId()).isNotNull();
+        assertThatThrownBy(bad::join).hasRootCauseMessage("Batch insert failed due to database access error.");
+        // The failed group, then each create on its own
+        verify(employeeRepository, times(3)).batchInsertEmployeesUsingJdbc(anyList());
+    }
+
+    @Test
+    void testASingleCreateIsNotHeldBackLongerThanMaxWait() {
+        assignIdsOnInsert();
+        GroupCommitEmployeeWriter writer = start(64, Duration.ofMillis(5));
+
+        long start = System.nanoTime();
+        Employee created = writer.insert(employee("John"));
+
+        assertThat(created.getId()).isEqualTo(1L);
+        assertThat(Duration.ofNanos(System.nanoTime() - start)).isLessThan(Duration.ofSeconds(1));
+    }
+}
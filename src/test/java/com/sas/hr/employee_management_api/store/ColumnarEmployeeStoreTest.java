@@ -0,0 +1,115 @@
+package com.sas.hr.employee_management_api.store;
+
+import com.sas.hr.employee_management_api.event.EmployeeChangedEvent;
+import com.sas.hr.employee_management_api.event.EmployeesImportedEvent;
+import com.sas.hr.employee_management_api.model.Employee;
+import com.sas.hr.employee_management_api.model.EmployeeField;
+import com.sas.hr.employee_management_api.repository.EmployeeRepository;
+import com.sas.hr.employee_management_api.repository.ShardedEmployeeRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+
+import java.time.LocalDate;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.doAnswer;
+
+@ExtendWith(MockitoExtension.class)
+class ColumnarEmployeeStoreTest {
+
+    @Mock
+    private EmployeeRepository employeeRepository;
+
+    @Mock
+    private ShardedEmployeeRepository shardedRepository;
+
+    private ColumnarEmployeeStore store;
+
+    @BeforeEach
+    void setUp() {
+        store = new ColumnarEmployeeStore(employeeRepository, shardedRepository, true, 2);
+        doAnswer(invocation -> {
+            Consumer<Employee> consumer = invocation.getArgument(2);
+            consumer.accept(new Employee(1L, "John", "Doe", "New York, NY", "New York", "NY", LocalDate.of(1990, 5, 15)));
+            consumer.accept(new Employee(3L, "Jane", "Smith", "Los Angeles, CA", "Los Angeles", "CA", LocalDate.of(1985, 8, 22)));
+            consumer.accept(new Employee(5L, "Bob", "Doe", "New York, NY", "New York", "NY", LocalDate.of(1991, 5, 2)));
+            return null;
+        }).when(employeeRepository).streamEmployees(isNull(), isNull(), any());
+        store.reload();
+    }
+
+    @Test
+    void testFindByIdDecodesColumns() {
+        Employee employee = store.findById(3L, EmployeeField.ALL).orElseThrow();
+
+        assertThat(employee).isEqualTo(new Employee(3L, "Jane", "Smith", "Los Angeles, CA", "Los Angeles", "CA", LocalDate.of(1985, 8, 22), 0L));
+        assertThat(store.findById(2L, EmployeeField.ALL)).isEmpty();
+    }
+
+    @Test
+    void testFindByIdProjectsFields() {
+        Employee employee = store.findById(1L, EnumSet.of(EmployeeField.ID, EmployeeField.LAST_NAME)).orElseThrow();
+
+        assertThat(employee.getLastName()).isEqualTo("Doe");
+        assertThat(employee.getFirstName()).isNull();
+        assertThat(employee.getBirthDay()).isNull();
+    }
+
+    @Test
+    void testListingAndMonthFilterPage() {
+        Page<Employee> secondPage = store.findAll(PageRequest.of(1, 2), EmployeeField.ALL);
+        Page<Employee> may = store.findByBirthMonth(5, PageRequest.of(0, 1), EmployeeField.ALL);
+
+        assertThat(secondPage.getContent()).extracting(Employee::getId).containsExactly(5L);
+        assertThat(secondPage.getTotalElements()).isEqualTo(3);
+        assertThat(may.getContent()).extracting(Employee::getId).containsExactly(1L);
+        assertThat(may.getTotalElements()).isEqualTo(2);
+        assertThat(store.supports(Sort.by("lastName"))).isFalse();
+    }
+
+    @Test
+    void testChangesDuringLoadAreAppliedAfterIt() {
+        ColumnarEmployeeStore loading = new ColumnarEmployeeStore(employeeRepository, shardedRepository, true, 2);
+        doAnswer(invocation -> {
+            Consumer<Employee> consumer = invocation.getArgument(2);
+            consumer.accept(new Employee(1L, "John", "Doe", "New York, NY", "New York", "NY", LocalDate.of(1990, 5, 15)));
+            // John moves and Ann is created after the load has read past them
+            loading.onEmployeeChanged(EmployeeChangedEvent.updated(null, new Employee(1L, "John", "Doe", "Chicago, IL", "Chicago", "IL", LocalDate.of(1990, 5, 15), 1L)));
+            loading.onEmployeeChanged(EmployeeChangedEvent.created(new Employee(9L, "Ann", "Lee", "Chicago, IL", "Chicago", "IL", LocalDate.of(1993, 5, 1))));
+            return null;
+        }).when(employeeRepository).streamEmployees(isNull(), isNull(), any());
+
+        loading.reload();
+
+        assertThat(loading.isEnabled()).isTrue();
+        assertThat(loading.findById(1L, EmployeeField.ALL).orElseThrow().getCity()).isEqualTo("Chicago");
+        assertThat(loading.findById(9L, EmployeeField.ALL)).isPresent();
+    }
+
+    @Test
+    void testWritesKeepStoreConsistent() {
+        Employee created = new Employee(2L, "Ann", "Lee", "Chicago, IL", "Chicago", "IL", LocalDate.of(1993, 5, 1));
+        Employee moved = new Employee(1L, "John", "Doe", "Chicago, IL", "Chicago", "IL", LocalDate.of(1990, 5, 15));
+        store.onEmployeeChanged(EmployeeChangedEvent.created(created));
+        store.onEmployeeChanged(EmployeeChangedEvent.updated(moved, moved));
+        store.onEmployeeChanged(EmployeeChangedEvent.deleted(new Employee(3L, null, null, null, null, null, null)));
+        store.onEmployeesImported(new EmployeesImportedEvent(List.of(new Employee(6L, "Eve", "Stone", "Austin, TX", "Austin", "TX", LocalDate.of(1988, 1, 9)))));
+
+        assertThat(store.findAll(PageRequest.of(0, 10), EmployeeField.ALL).getContent())
+                .extracting(Employee::getId).containsExactly(1L, 2L, 5L, 6L);
+        assertThat(store.findById(1L, EmployeeField.ALL).orElseThrow().getCity()).isEqualTo("Chicago");
+        assertThat(store.findByBirthMonth(5, PageRequest.of(0, 10), EmployeeField.ALL).getTotalElements()).isEqualTo(3);
+    }
+}
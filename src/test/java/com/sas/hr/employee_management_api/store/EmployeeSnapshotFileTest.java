@@ -0,0 +1,63 @@
+package com.sas.hr.employee_management_api.store;
+
+import com.sas.hr.employee_management_api.model.Employee;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class EmployeeSnapshotFileTest {
+
+    @TempDir
+    Path dir;
+
+    private final List<Employee> employees = List.of(
+            new Employee(1L, "John", "Doe", "NY, NY", "New York", "NY", LocalDate.of(1990, 5, 15), 3L),
+            new Employee(2L, "Jane", "Doe", "NY, NY", "New York", "NY", null, 0L),
+            new Employee(51L, "Zoë", null, null, "Chicago", "IL", LocalDate.of(1961, 12, 31), 1L));
+
+    @Test
+    void testWriteThenReadRestoresEveryAttribute() throws IOException {
+        Path file = dir.resolve("employees.snap");
+
+        EmployeeSnapshotFile.Header written = EmployeeSnapshotFile.write(file, consumer -> employees.forEach(consumer));
+        List<List<Employee>> chunks = new ArrayList<>();
+        EmployeeSnapshotFile.Header read = EmployeeSnapshotFile.read(file, 2, chunks::add);
+
+        assertThat(read).isEqualTo(written);
+        assertThat(read.rowCount()).isEqualTo(3);
+        assertThat(read.maxId()).isEqualTo(51L);
+        assertThat(chunks).hasSize(2);
+        assertThat(chunks.stream().flatMap(List::stream).toList()).containsExactlyElementsOf(employees);
+        assertThat(EmployeeSnapshotFile.readHeader(file)).isEqualTo(written);
+    }
+
+    @Test
+    void testRecordsAreFixedWidthAndStringsAreStoredOnce() throws IOException {
+        Path file = dir.resolve("employees.snap");
+
+        EmployeeSnapshotFile.write(file, consumer -> employees.forEach(consumer));
+
+        // Distinct strings: John, Doe, NY, NY / New York / NY / Jane / Zoë / Chicago / IL
+        long dictionaryBytes = Integer.BYTES + 9 * Integer.BYTES
+                + "JohnDoeNY, NYNew YorkNYJaneZoëChicagoIL".getBytes(StandardCharsets.UTF_8).length;
+        assertThat(Files.size(file)).isEqualTo(EmployeeSnapshotFile.HEADER_BYTES + 3L * EmployeeSnapshotFile.RECORD_BYTES + dictionaryBytes);
+    }
+
+    @Test
+    void testReadRejectsFilesThatAreNotSnapshots() throws IOException {
+        Path file = Files.writeString(dir.resolve("employees.csv"), "firstName,lastName\nJohn,Doe\n");
+
+        assertThatThrownBy(() -> EmployeeSnapshotFile.read(file, 10, chunk -> {
+        })).isInstanceOf(IOException.class).hasMessageContaining("not an employee snapshot");
+    }
+}
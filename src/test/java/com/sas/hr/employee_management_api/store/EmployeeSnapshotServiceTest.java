@@ -0,0 +1,100 @@
+package com.sas.hr.employee_management_api.store;
+
+import com.sas.hr.employee_management_api.model.Employee;
+import com.sas.hr.employee_management_api.repository.EmployeeRepository;
+import com.sas.hr.employee_management_api.repository.ShardedEmployeeRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class EmployeeSnapshotServiceTest {
+
+    @TempDir
+    Path dir;
+
+    @Mock
+    private EmployeeRepository employeeRepository;
+
+    @Mock
+    private ShardedEmployeeRepository shardedRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private final List<Employee> employees = List.of(
+            new Employee(1L, "John", "Doe", "NY, NY", "New York", "NY", LocalDate.of(1990, 5, 15), 3L),
+            new Employee(2L, "Jane", "Doe", "NY, NY", "New York", "NY", null, 0L),
+            new Employee(51L, "Ann", "Lee", "Chicago, IL", "Chicago", "IL", LocalDate.of(1961, 12, 31), 1L));
+
+    private EmployeeSnapshotService service(Path snapshot) {
+        return new EmployeeSnapshotService(employeeRepository, shardedRepository, new TransactionTemplate(transactionManager), snapshot, true, 2);
+    }
+
+    @Test
+    void testRestoreOnStartupLoadsRowsAndMovesTheIdSequence() throws IOException {
+        Path snapshot = dir.resolve("employees.snap");
+        EmployeeSnapshotFile.write(snapshot, consumer -> employees.forEach(consumer));
+        List<Employee> restored = new ArrayList<>();
+        doAnswer(invocation -> restored.addAll(invocation.getArgument(0)))
+                .when(employeeRepository).batchRestoreEmployeesUsingJdbc(any());
+
+        service(snapshot).restoreOnStartup();
+
+        assertThat(restored).containsExactlyElementsOf(employees);
+        verify(employeeRepository).restartIdSequenceAfter(51L);
+        verify(transactionManager).commit(any());
+    }
+
+    @Test
+    void testRestoreOnStartupKeepsATableThatHasRows() throws IOException {
+        Path snapshot = dir.resolve("employees.snap");
+        EmployeeSnapshotFile.write(snapshot, consumer -> employees.forEach(consumer));
+        when(employeeRepository.hasRows()).thenReturn(true);
+
+        service(snapshot).restoreOnStartup();
+
+        verify(employeeRepository, never()).batchRestoreEmployeesUsingJdbc(any());
+        verify(employeeRepository, never()).restartIdSequenceAfter(anyLong());
+    }
+
+    @Test
+    void testCreateSnapshotReadsInARepeatableReadReadOnlyTransaction() {
+        doAnswer(invocation -> {
+            Consumer<Employee> consumer = invocation.getArgument(2);
+            employees.forEach(consumer);
+            return null;
+        }).when(employeeRepository).streamEmployees(isNull(), isNull(), any());
+
+        EmployeeSnapshotService.SnapshotInfo info = service(dir.resolve("employees.snap")).createSnapshot();
+
+        ArgumentCaptor<TransactionDefinition> definition = ArgumentCaptor.forClass(TransactionDefinition.class);
+        verify(transactionManager).getTransaction(definition.capture());
+        assertThat(definition.getValue().isReadOnly()).isTrue();
+        assertThat(definition.getValue().getIsolationLevel()).isEqualTo(TransactionDefinition.ISOLATION_REPEATABLE_READ);
+        assertThat(info.rowCount()).isEqualTo(3);
+        assertThat(info.maxId()).isEqualTo(51L);
+    }
+}
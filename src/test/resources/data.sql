@@ -1,23 +1,29 @@
+-- Create the employee id sequence, shared by Hibernate and the JDBC batch inserts
+CREATE SEQUENCE IF NOT EXISTS employee_seq START WITH 1 INCREMENT BY 50;
+
 -- Create the employee table
 CREATE TABLE IF NOT EXISTS employee (
-    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    id BIGINT PRIMARY KEY,
     first_name VARCHAR(255),
     last_name VARCHAR(255),
     city VARCHAR(255),
     state VARCHAR(255),
     location VARCHAR(255),
-    birth_day DATE
+    birth_day DATE,
+    version BIGINT DEFAULT 0 NOT NULL,
+    deleted_at TIMESTAMP,
+    content_hash BIGINT
 );
 
 -- Insert sample data
-INSERT INTO employee (first_name, last_name, city, state, location, birth_day) VALUES
-('John', 'Doe', 'New York', 'NY', 'Downtown', '1990-05-15'),
-('Jane', 'Smith', 'Los Angeles', 'CA', 'Hollywood', '1988-09-22'),
-('Mike', 'Johnson', 'Chicago', 'IL', 'Loop', '1992-03-10'),
-('Emily', 'Brown', 'Houston', 'TX', 'Midtown', '1995-07-30'),
-('David', 'Wilson', 'Phoenix', 'AZ', 'Biltmore', '1991-12-03'),
-('Sarah', 'Taylor', 'Philadelphia', 'PA', 'Center City', '1993-02-18'),
-('Chris', 'Anderson', 'San Antonio', 'TX', 'River Walk', '1989-11-05'),
-('Lisa', 'Martinez', 'San Diego', 'CA', 'Gaslamp Quarter', '1994-08-12'),
-('Robert', 'Thomas', 'Dallas', 'TX', 'Uptown', '1987-04-23'),
-('Emma', 'Garcia', 'San Jose', 'CA', 'Downtown', '1996-10-18');
\ No newline at end of file
+INSERT INTO employee (id, first_name, last_name, city, state, location, birth_day) VALUES
+(NEXT VALUE FOR employee_seq, 'John', 'Doe', 'New York', 'NY', 'Downtown', '1990-05-15'),
+(NEXT VALUE FOR employee_seq, 'Jane', 'Smith', 'Los Angeles', 'CA', 'Hollywood', '1988-09-22'),
+(NEXT VALUE FOR employee_seq, 'Mike', 'Johnson', 'Chicago', 'IL', 'Loop', '1992-03-10'),
+(NEXT VALUE FOR employee_seq, 'Emily', 'Brown', 'Houston', 'TX', 'Midtown', '1995-07-30'),
+(NEXT VALUE FOR employee_seq, 'David', 'Wilson', 'Phoenix', 'AZ', 'Biltmore', '1991-12-03'),
+(NEXT VALUE FOR employee_seq, 'Sarah', 'Taylor', 'Philadelphia', 'PA', 'Center City', '1993-02-18'),
+(NEXT VALUE FOR employee_seq, 'Chris', 'Anderson', 'San Antonio', 'TX', 'River Walk', '1989-11-05'),
+(NEXT VALUE FOR employee_seq, 'Lisa', 'Martinez', 'San Diego', 'CA', 'Gaslamp Quarter', '1994-08-12'),
+(NEXT VALUE FOR employee_seq, 'Robert', 'Thomas', 'Dallas', 'TX', 'Uptown', '1987-04-23'),
+(NEXT VALUE FOR employee_seq, 'Emma', 'Garcia', 'San Jose', 'CA', 'Downtown', '1996-10-18');
\ No newline at end of file